@@ -15,8 +15,12 @@ import seedu.address.commons.util.FileUtil;
  */
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
+    private static final int MAX_PORT = 65535;
 
     private Path configPath;
+    private Integer apiPort;
+    private Integer replicationPort;
+    private Integer followPort;
 
     /**
      * Parses the application command-line parameters.
@@ -32,9 +36,41 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String apiPortParameter = namedParameters.get("api-port");
+        if (apiPortParameter != null && !isValidPort(apiPortParameter)) {
+            logger.warning("Invalid API port " + apiPortParameter + ". The API will not be served.");
+            apiPortParameter = null;
+        }
+        appParameters.setApiPort(apiPortParameter != null ? Integer.valueOf(apiPortParameter) : null);
+
+        String replicationPortParameter = namedParameters.get("replication-port");
+        if (replicationPortParameter != null && !isValidPort(replicationPortParameter)) {
+            logger.warning("Invalid replication port " + replicationPortParameter
+                    + ". Changes will not be replicated.");
+            replicationPortParameter = null;
+        }
+        appParameters.setReplicationPort(
+                replicationPortParameter != null ? Integer.valueOf(replicationPortParameter) : null);
+
+        String followPortParameter = namedParameters.get("follow-port");
+        if (followPortParameter != null && !isValidPort(followPortParameter)) {
+            logger.warning("Invalid follow port " + followPortParameter + ". No leader will be followed.");
+            followPortParameter = null;
+        }
+        appParameters.setFollowPort(followPortParameter != null ? Integer.valueOf(followPortParameter) : null);
+
         return appParameters;
     }
 
+    private static boolean isValidPort(String port) {
+        try {
+            int portNumber = Integer.parseInt(port);
+            return portNumber >= 0 && portNumber <= MAX_PORT;
+        } catch (NumberFormatException nfe) {
+            return false;
+        }
+    }
+
     public Path getConfigPath() {
         return configPath;
     }
@@ -43,6 +79,39 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the localhost port to serve the API on, or null if the API should not be served.
+     */
+    public Integer getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(Integer apiPort) {
+        this.apiPort = apiPort;
+    }
+
+    /**
+     * Returns the localhost port to replicate changes to followers on, or null if changes should not be replicated.
+     */
+    public Integer getReplicationPort() {
+        return replicationPort;
+    }
+
+    public void setReplicationPort(Integer replicationPort) {
+        this.replicationPort = replicationPort;
+    }
+
+    /**
+     * Returns the localhost port of the replication leader to follow, or null if no leader should be followed.
+     */
+    public Integer getFollowPort() {
+        return followPort;
+    }
+
+    public void setFollowPort(Integer followPort) {
+        this.followPort = followPort;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,7 +123,10 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getApiPort(), otherAppParameters.getApiPort())
+                && Objects.equals(getReplicationPort(), otherAppParameters.getReplicationPort())
+                && Objects.equals(getFollowPort(), otherAppParameters.getFollowPort());
     }
 
     @Override
@@ -0,0 +1,276 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs the application without a GUI, for scripts and automation.
+ * Commands are read from standard input or a file, one per line, and the feedback of each command is written to
+ * standard output as plain text or as JSON lines. The JavaFX toolkit is never started.
+ */
+public class HeadlessApp {
+
+    public static final String HEADLESS_FLAG = "--headless";
+
+    public static final String MESSAGE_USAGE = "Usage: " + HEADLESS_FLAG
+            + " [--config=CONFIG_FILE] [--file=COMMAND_FILE] [--format=text|json]";
+
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d (%2$s) failed: %3$s";
+
+    public static final String MESSAGE_READ_ERROR = "Could not read commands: %1$s";
+
+    /** All commands succeeded. */
+    public static final int EXIT_SUCCESS = 0;
+    /** At least one command failed. */
+    public static final int EXIT_COMMAND_FAILED = 1;
+    /** The arguments were invalid or the commands could not be read. */
+    public static final int EXIT_ERROR = 2;
+
+    private static final String CONFIG_PARAMETER = "--config=";
+    private static final String FILE_PARAMETER = "--file=";
+    private static final String FORMAT_PARAMETER = "--format=";
+    private static final String COMMENT_PREFIX = "#";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    /**
+     * The format the feedback of each command is written in.
+     */
+    public enum OutputFormat {
+        /** The feedback of each command, as shown in the result display. */
+        TEXT,
+        /** One JSON object per command, with its line number, text, outcome and feedback. */
+        JSON
+    }
+
+    private final Logic logic;
+    private final OutputFormat outputFormat;
+
+    /**
+     * Creates a {@code HeadlessApp} that executes commands with {@code logic} and writes their feedback in
+     * {@code outputFormat}.
+     */
+    public HeadlessApp(Logic logic, OutputFormat outputFormat) {
+        requireNonNull(logic);
+        requireNonNull(outputFormat);
+        this.logic = logic;
+        this.outputFormat = outputFormat;
+    }
+
+    /**
+     * Returns true if {@code args} ask for the application to be run without a GUI.
+     */
+    public static boolean isRequested(String[] args) {
+        return Arrays.asList(args).contains(HEADLESS_FLAG);
+    }
+
+    /**
+     * Runs the commands given by {@code args} and exits with the resulting status.
+     */
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    /**
+     * Loads the config, user prefs and data as {@link MainApp} does, then runs the commands given by {@code args}.
+     *
+     * @return {@link #EXIT_SUCCESS}, {@link #EXIT_COMMAND_FAILED} or {@link #EXIT_ERROR}.
+     */
+    public static int run(String[] args) {
+        Parameters parameters;
+        try {
+            parameters = Parameters.parse(args);
+        } catch (IllegalArgumentException iae) {
+            System.err.println(iae.getMessage());
+            System.err.println(MESSAGE_USAGE);
+            return EXIT_ERROR;
+        }
+
+        Config config = AppInitializer.initConfig(parameters.configPath);
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        Storage storage = new StorageManager(new JsonAddressBookStorage(userPrefs.getAddressBookFilePath()),
+                userPrefsStorage);
+        LogsCenter.init(config);
+        ModelManager model = AppInitializer.initModelManager(storage, userPrefs);
+        HeadlessApp headlessApp = new HeadlessApp(new LogicManager(model, storage), parameters.outputFormat);
+
+        logger.info("Running commands without a GUI from "
+                + (parameters.commandFilePath == null ? "standard input" : parameters.commandFilePath));
+        PrintWriter writer = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+        try (BufferedReader reader = parameters.commandFilePath == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(parameters.commandFilePath, StandardCharsets.UTF_8)) {
+            return headlessApp.runCommands(reader, writer);
+        } catch (IOException ioe) {
+            writer.flush();
+            System.err.println(String.format(MESSAGE_READ_ERROR, ioe.getMessage()));
+            return EXIT_ERROR;
+        }
+    }
+
+    /**
+     * Executes each line of {@code reader} as a command, in order, and writes its feedback to {@code writer}.
+     * Blank lines and lines starting with {@code #} are skipped. A failed command does not stop the ones after it,
+     * but an exit command does.
+     * Output is flushed whenever no more input is waiting, so an interactive caller sees each result at once
+     * without every line of a long script being flushed on its own.
+     *
+     * @return {@link #EXIT_SUCCESS} if every command succeeded, or {@link #EXIT_COMMAND_FAILED} otherwise.
+     * @throws IOException if the commands could not be read.
+     */
+    public int runCommands(BufferedReader reader, PrintWriter writer) throws IOException {
+        requireNonNull(reader);
+        requireNonNull(writer);
+        boolean hasFailedCommand = false;
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                writeResult(writer, new CommandOutput(lineNumber, commandText, true,
+                        commandResult.getFeedbackToUser()));
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                hasFailedCommand = true;
+                writeResult(writer, new CommandOutput(lineNumber, commandText, false, e.getMessage()));
+            }
+
+            if (!reader.ready()) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return hasFailedCommand ? EXIT_COMMAND_FAILED : EXIT_SUCCESS;
+    }
+
+    private void writeResult(PrintWriter writer, CommandOutput output) throws IOException {
+        switch (outputFormat) {
+        case JSON:
+            writer.println(JsonUtil.toJsonLine(output));
+            break;
+        case TEXT:
+            writer.println(output.success
+                    ? output.feedback
+                    : String.format(MESSAGE_COMMAND_FAILED, output.line, output.command, output.feedback));
+            break;
+        default:
+            throw new AssertionError(outputFormat);
+        }
+    }
+
+    /**
+     * The outcome of one command, as written in {@link OutputFormat#JSON}.
+     */
+    private static class CommandOutput {
+        private final int line;
+        private final String command;
+        private final boolean success;
+        private final String feedback;
+
+        CommandOutput(int line, String command, boolean success, String feedback) {
+            this.line = line;
+            this.command = command;
+            this.success = success;
+            this.feedback = feedback;
+        }
+    }
+
+    /**
+     * The command-line parameters of a headless run.
+     */
+    static class Parameters {
+        private Path configPath;
+        private Path commandFilePath;
+        private OutputFormat outputFormat = OutputFormat.TEXT;
+
+        /**
+         * Parses the command-line parameters of a headless run.
+         *
+         * @throws IllegalArgumentException if a parameter is unknown or has an invalid value.
+         */
+        static Parameters parse(String[] args) {
+            Parameters parameters = new Parameters();
+            for (String arg : args) {
+                if (arg.equals(HEADLESS_FLAG)) {
+                    continue;
+                } else if (arg.startsWith(CONFIG_PARAMETER)) {
+                    parameters.configPath = parsePath(arg.substring(CONFIG_PARAMETER.length()));
+                } else if (arg.startsWith(FILE_PARAMETER)) {
+                    parameters.commandFilePath = parsePath(arg.substring(FILE_PARAMETER.length()));
+                } else if (arg.startsWith(FORMAT_PARAMETER)) {
+                    parameters.outputFormat = parseOutputFormat(arg.substring(FORMAT_PARAMETER.length()));
+                } else {
+                    throw new IllegalArgumentException("Unknown parameter " + arg);
+                }
+            }
+            return parameters;
+        }
+
+        private static Path parsePath(String path) {
+            if (path.isEmpty() || !FileUtil.isValidPath(path)) {
+                throw new IllegalArgumentException("Invalid path " + path);
+            }
+            return Paths.get(path);
+        }
+
+        private static OutputFormat parseOutputFormat(String format) {
+            try {
+                return OutputFormat.valueOf(format.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException iae) {
+                throw new IllegalArgumentException("Unknown format " + format);
+            }
+        }
+
+        Path getConfigPath() {
+            return configPath;
+        }
+
+        Path getCommandFilePath() {
+            return commandFilePath;
+        }
+
+        OutputFormat getOutputFormat() {
+            return outputFormat;
+        }
+    }
+}
@@ -18,9 +18,17 @@ import javafx.application.Application;
  * <p>
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ * <p>
+ * With {@code --headless}, the application runs without a GUI instead.
+ *
+ * @see HeadlessApp
  */
 public class Main {
     public static void main(String[] args) {
+        if (HeadlessApp.isRequested(args)) {
+            HeadlessApp.main(args);
+            return;
+        }
         Application.launch(MainApp.class, args);
     }
 }
@@ -0,0 +1,47 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * The clock that the app reads the current date and time from.
+ * It follows the system clock unless another clock is set, which lets tests and benchmarks simulate the
+ * passing of time.
+ */
+public class AppClock {
+
+    private static volatile Clock clock = Clock.systemDefaultZone();
+
+    private AppClock() {
+    } // prevents instantiation
+
+    public static Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Makes the app read the current date and time from {@code newClock}.
+     */
+    public static void setClock(Clock newClock) {
+        requireNonNull(newClock);
+        clock = newClock;
+    }
+
+    /**
+     * Makes the app read the current date and time from the system clock again.
+     */
+    public static void useSystemClock() {
+        clock = Clock.systemDefaultZone();
+    }
+
+    public static LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    public static LocalDate today() {
+        return LocalDate.now(clock);
+    }
+}
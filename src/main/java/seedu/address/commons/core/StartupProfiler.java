@@ -0,0 +1,92 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+/**
+ * Times the phases the application goes through as it starts, such as loading the config and the data and
+ * showing the main window, and logs how long each took once it has started.
+ * <p>
+ * Each phase runs from the end of the one before it, or from the creation of the profiler for the first phase,
+ * to the call of {@link #endPhase(String)} with its name. The phases may be ended on different threads, one
+ * after another.
+ */
+public class StartupProfiler {
+
+    private static final Logger logger = LogsCenter.getLogger(StartupProfiler.class);
+    private static final long NANOS_PER_MILLI = 1_000_000;
+
+    private final LongSupplier nanoTime;
+    private final long startNanos;
+    private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+    private long phaseStartNanos;
+
+    /**
+     * Creates a profiler whose first phase starts now.
+     */
+    public StartupProfiler() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Creates a profiler that reads the time from {@code nanoTime}, whose first phase starts now.
+     */
+    StartupProfiler(LongSupplier nanoTime) {
+        requireNonNull(nanoTime);
+        this.nanoTime = nanoTime;
+        this.startNanos = nanoTime.getAsLong();
+        this.phaseStartNanos = startNanos;
+    }
+
+    /**
+     * Ends the phase {@code phase}, which started when the last phase ended, and starts the next one.
+     * A phase ended more than once is timed as the sum of its parts.
+     */
+    public synchronized void endPhase(String phase) {
+        requireNonNull(phase);
+        long now = nanoTime.getAsLong();
+        phaseNanos.merge(phase, now - phaseStartNanos, Long::sum);
+        phaseStartNanos = now;
+    }
+
+    /**
+     * Returns the names of the phases ended so far, in the order they first ended.
+     */
+    public synchronized List<String> getPhases() {
+        return Collections.unmodifiableList(new ArrayList<>(phaseNanos.keySet()));
+    }
+
+    /**
+     * Returns how long {@code phase} took in milliseconds, or -1 if it has not ended.
+     */
+    public synchronized long getPhaseMillis(String phase) {
+        Long nanos = phaseNanos.get(phase);
+        return nanos == null ? -1 : nanos / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Returns how long each phase took and the total, such as {@code "config 12 ms, data load 80 ms, total
+     * 92 ms"}.
+     */
+    public synchronized String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        phaseNanos.forEach((phase, nanos) -> summary.append(phase).append(' ').append(nanos / NANOS_PER_MILLI)
+                .append(" ms, "));
+        summary.append("total ").append((phaseStartNanos - startNanos) / NANOS_PER_MILLI).append(" ms");
+        return summary.toString();
+    }
+
+    /**
+     * Logs how long each phase took.
+     */
+    public void log() {
+        logger.info("Startup phases: " + getSummary());
+    }
+}
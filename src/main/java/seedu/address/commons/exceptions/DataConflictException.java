@@ -0,0 +1,12 @@
+package seedu.address.commons.exceptions;
+
+import java.io.IOException;
+
+/**
+ * Signals that data could not be saved because it was changed elsewhere in a way that conflicts with it.
+ */
+public class DataConflictException extends IOException {
+    public DataConflictException(String message) {
+        super(message);
+    }
+}
@@ -7,6 +7,8 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Helper functions for handling strings.
@@ -41,6 +43,27 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the first {@code limit} of {@code items} joined with ", ", followed by how many were left out, if any.
+     * Only the items shown are converted to strings.
+     * <br>
+     * examples:
+     *
+     * <pre>
+     *       joinWithLimit(List.of(1, 2, 3), 5) == "1, 2, 3"
+     *       joinWithLimit(List.of(1, 2, 3), 2) == "1, 2 and 1 more"
+     * </pre>
+     */
+    public static String joinWithLimit(List<?> items, int limit) {
+        requireNonNull(items);
+        checkArgument(limit > 0, "Limit must be positive");
+        String shown = items.stream().limit(limit).map(Object::toString).collect(Collectors.joining(", "));
+        if (items.size() <= limit) {
+            return shown;
+        }
+        return shown + " and " + (items.size() - limit) + " more";
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,122 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UID;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.Model;
+import seedu.address.model.completion.CompletionIndex;
+import seedu.address.model.completion.CompletionIndex.Field;
+import seedu.address.model.completion.PrefixTrie;
+
+/**
+ * Completes the last word of a command as it is typed: the command word, or a UID after {@code id/}, a tag after
+ * {@code t/}, or a word of a name after {@code n/} or in a {@code find} command.
+ * The words are looked up in prefix tries, the persons' in the model's {@link CompletionIndex}, so completing
+ * takes the same time however many persons there are. The words used most in executed commands come first.
+ * Not thread-safe: it must only be used by the thread that owns the model.
+ */
+public class CommandCompleter {
+
+    private final Model model;
+    private final PrefixTrie commandWords = new PrefixTrie(CompletionIndex.COMPLETION_LIMIT);
+
+    /**
+     * Creates a {@code CommandCompleter} that completes {@code commandWords} and the terms of the persons in
+     * {@code model}.
+     */
+    public CommandCompleter(Model model, List<String> commandWords) {
+        requireAllNonNull(model, commandWords);
+        this.model = model;
+        commandWords.forEach(this.commandWords::add);
+    }
+
+    /**
+     * Returns the ways to complete the last word of {@code commandText}, each as the whole completed text, the
+     * most used first.
+     */
+    public List<String> complete(String commandText) {
+        requireNonNull(commandText);
+        int wordStart = getLastWordStart(commandText);
+        String head = commandText.substring(0, wordStart);
+        String word = commandText.substring(wordStart);
+
+        List<String> completedTexts = new ArrayList<>();
+        if (head.isBlank()) {
+            if (!word.isEmpty()) {
+                commandWords.complete(word).forEach(commandWord -> completedTexts.add(head + commandWord));
+            }
+            return completedTexts;
+        }
+
+        String prefix = getPrefix(word).map(Prefix::getPrefix).orElse("");
+        getField(head.trim().split("\\s+")[0], word).ifPresent(field -> {
+            String termPrefix = word.substring(prefix.length());
+            for (String term : model.getCompletionIndex().complete(field, termPrefix)) {
+                completedTexts.add(head + prefix + term);
+            }
+        });
+        return completedTexts;
+    }
+
+    /**
+     * Records that the command word, UIDs, tags and words of names in {@code commandText}, an executed command,
+     * were used, so that they are completed before the words used less often.
+     */
+    public void recordUse(String commandText) {
+        requireNonNull(commandText);
+        String[] words = commandText.trim().split("\\s+");
+        if (words[0].isEmpty()) {
+            return;
+        }
+        commandWords.recordUse(words[0]);
+        CompletionIndex completions = model.getCompletionIndex();
+        for (int i = 1; i < words.length; i++) {
+            String word = words[i];
+            String prefix = getPrefix(word).map(Prefix::getPrefix).orElse("");
+            getField(words[0], word).ifPresent(field -> completions.recordUse(field, word.substring(prefix.length())));
+        }
+    }
+
+    private static int getLastWordStart(String commandText) {
+        int wordStart = commandText.length();
+        while (wordStart > 0 && !Character.isWhitespace(commandText.charAt(wordStart - 1))) {
+            wordStart--;
+        }
+        return wordStart;
+    }
+
+    private static Optional<Prefix> getPrefix(String word) {
+        for (Prefix prefix : List.of(PREFIX_UID, PREFIX_TAG, PREFIX_NAME)) {
+            if (word.startsWith(prefix.getPrefix())) {
+                return Optional.of(prefix);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the field of the person terms {@code word}, an argument of the command {@code commandWord}, is
+     * one of, if any.
+     */
+    private static Optional<Field> getField(String commandWord, String word) {
+        Optional<Prefix> prefix = getPrefix(word);
+        if (prefix.isEmpty()) {
+            return commandWord.equals(FindCommand.COMMAND_WORD) ? Optional.of(Field.NAME) : Optional.empty();
+        } else if (prefix.get().equals(PREFIX_UID)) {
+            return Optional.of(Field.UID);
+        } else if (prefix.get().equals(PREFIX_TAG)) {
+            return Optional.of(Field.TAG);
+        } else {
+            return Optional.of(Field.NAME);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.parser.HealthcareXpressParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.ParallelFilteredList.TestedPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Filters the person list as a {@code find} or {@code list} command is typed, before it is entered.
+ * <p>
+ * Each change to the command text is searched for once the text has not changed for a short delay. The search
+ * runs on a thread of its own against the latest snapshot of the model, and gives up as soon as the text changes
+ * again. Only the finished results are handed to the thread that owns the model, so filtering the list there
+ * takes a lookup per person, however costly the search itself is.
+ * <p>
+ * Text that is not a complete {@code find} or {@code list} command leaves the list as it is.
+ */
+public class LiveSearch {
+
+    public static final Duration DEFAULT_DELAY = Duration.ofMillis(150);
+
+    /** How many persons are searched between checks that the search is still wanted. */
+    private static final int PERSONS_PER_CHECK = 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(LiveSearch.class);
+
+    private final Model model;
+    private final Executor modelExecutor;
+    private final Duration delay;
+    private final HealthcareXpressParser parser = new HealthcareXpressParser();
+    private final AtomicLong latestSearch = new AtomicLong();
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> pendingSearch;
+
+    /**
+     * Creates a {@code LiveSearch} that filters the person list of {@code model}, searching {@code delay} after
+     * the text last changed.
+     *
+     * @param modelExecutor runs tasks on the thread that owns the model.
+     */
+    public LiveSearch(Model model, Executor modelExecutor, Duration delay) {
+        requireAllNonNull(model, modelExecutor, delay);
+        this.model = model;
+        this.modelExecutor = modelExecutor;
+        this.delay = delay;
+    }
+
+    /**
+     * Searches for the persons {@code commandText} would list once it has not changed for the delay, replacing
+     * any search of earlier text that has not finished.
+     */
+    public synchronized void update(String commandText) {
+        requireNonNull(commandText);
+        long search = cancel();
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "live-search");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        pendingSearch = scheduler.schedule(() -> search(commandText, search), delay.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Drops the search that has not finished, if any, so that it does not filter the list, and returns the
+     * number of the next search.
+     */
+    public synchronized long cancel() {
+        if (pendingSearch != null) {
+            pendingSearch.cancel(false);
+            pendingSearch = null;
+        }
+        return latestSearch.incrementAndGet();
+    }
+
+    /**
+     * Stops searching.
+     */
+    public synchronized void stop() {
+        cancel();
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Searches the latest snapshot for the persons {@code commandText} would list and filters the person list
+     * by the results on the model thread, unless a later search has started by then.
+     */
+    void search(String commandText, long search) {
+        Optional<Predicate<Person>> predicate = parser.parseFilter(commandText);
+        if (predicate.isEmpty() || !isLatest(search)) {
+            return;
+        }
+
+        ModelSnapshot snapshot = model.getSnapshot();
+        List<Person> persons = snapshot.getPersonList();
+        Map<Person, Boolean> results = new IdentityHashMap<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            if (i % PERSONS_PER_CHECK == 0 && !isLatest(search)) {
+                return;
+            }
+            Person person = persons.get(i);
+            results.put(person, predicate.get().test(person));
+        }
+
+        // persons changed or added since the search are tested with the predicate when the list is filtered
+        TestedPredicate<Person> resultPredicate = new TestedPredicate<>(results, predicate.get());
+        modelExecutor.execute(() -> {
+            if (isLatest(search)) {
+                logger.fine("Filtering the person list as \"" + commandText + "\" is typed");
+                model.updateFilteredPersonList(resultPredicate);
+            }
+        });
+    }
+
+    private boolean isLatest(long search) {
+        return latestSearch.get() == search;
+    }
+}
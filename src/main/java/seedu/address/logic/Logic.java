@@ -1,14 +1,20 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.ModelEventBus;
 import seedu.address.model.person.Person;
+import seedu.address.model.schedule.ScheduleEntry;
 
 /**
  * API of the Logic component
@@ -24,6 +30,45 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command away from the calling thread and returns the future result.
+     * Commands are executed one at a time, in the order they are given. The future is completed on the thread
+     * that owns the model, in the same step as the changes of the command are made to the model, so observers
+     * of the model see them together.
+     *
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution, completed exceptionally with a {@code CommandException} or
+     *     {@code ParseException} if the command fails.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Filters the person list by what {@code commandText}, a command still being typed, would list if it were
+     * a {@code find} or {@code list} command. The search is done in the background once the text stops changing,
+     * and is dropped if the text changes again or a command is executed before it finishes.
+     */
+    void previewFilter(String commandText);
+
+    /**
+     * Returns the ways to complete the last word of {@code commandText}, a command still being typed, each as the
+     * whole completed text, the most used first. Must be called on the thread that owns the model.
+     */
+    List<String> getCompletions(String commandText);
+
+    /**
+     * Runs {@code task} on the thread that owns the model once the commands given before it have finished, and
+     * before any command given after it is started.
+     */
+    void submitModelTask(Runnable task);
+
+    /**
+     * Expands recurring home visits up to the current horizon and marks the home visits whose slot time has
+     * passed as visited, saving the address book if anything changed.
+     *
+     * @return the number of home visits marked.
+     */
+    int markPassedVisits();
+
     /**
      * Returns the AddressBook.
      *
@@ -31,11 +76,40 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the bus the changes to the persons are published on, as they are made.
+     *
+     * @see seedu.address.model.ModelManager#getEventBus()
+     */
+    ModelEventBus getEventBus();
+
     /**
      * Returns an unmodifiable view of the filtered list of persons
      */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns an unmodifiable view of the next upcoming home visits.
+     *
+     * @see seedu.address.model.Model#getUpcomingVisitList()
+     */
+    ObservableList<ScheduleEntry> getUpcomingVisitList();
+
+    /**
+     * Returns the home visits assigned to the nurse with {@code nurseUidNo} with slot times in [{@code start},
+     * {@code end}), in chronological order. Must be called on the thread that owns the model.
+     *
+     * @see seedu.address.model.Model#getNurseScheduleEntries(Long, LocalDateTime, LocalDateTime)
+     */
+    List<ScheduleEntry> getNurseScheduleEntries(Long nurseUidNo, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Returns the latest immutable snapshot of the persons, which can be read from any thread.
+     *
+     * @see seedu.address.model.Model#getSnapshot()
+     */
+    ModelSnapshot getSnapshot();
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -1,7 +1,18 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -9,12 +20,22 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.HealthcareXpressParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ChangeHistory;
 import seedu.address.model.Model;
+import seedu.address.model.ModelFork;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.PersonChange;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.ModelEventBus;
 import seedu.address.model.person.Person;
+import seedu.address.model.schedule.ScheduleEntry;
+import seedu.address.storage.ConflictingChangesException;
 import seedu.address.storage.Storage;
 
 /**
@@ -22,37 +43,236 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_READ_ONLY = "This app follows the data of another instance of the app, so "
+            + "it cannot change the data. Make the change in the instance it follows.";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
-    private final Model model;
+    private final ModelManager model;
     private final Storage storage;
+    private final ChangeHistory history = new ChangeHistory();
     private final HealthcareXpressParser healthcareXpressParser;
+    private final Executor modelThreadExecutor;
+    private final boolean isReadOnly;
+    private final LiveSearch liveSearch;
+    private final CommandCompleter commandCompleter;
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-executor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code ModelManager} and
+     * {@code Storage}, whose model is owned by the thread that calls it.
+     */
+    public LogicManager(ModelManager model, Storage storage) {
+        this(model, storage, Runnable::run);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code ModelManager} and
+     * {@code Storage}, whose model is owned by the thread {@code modelThreadExecutor} runs tasks on.
+     */
+    public LogicManager(ModelManager model, Storage storage, Executor modelThreadExecutor) {
+        this(model, storage, modelThreadExecutor, false);
+    }
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and
-     * {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code ModelManager} and
+     * {@code Storage}, whose model is owned by the thread {@code modelThreadExecutor} runs tasks on.
+     * If {@code isReadOnly}, such as when the model follows another instance of the app, commands that would
+     * change the persons fail without changing them, and passed visits are not marked.
      */
-    public LogicManager(Model model, Storage storage) {
+    public LogicManager(ModelManager model, Storage storage, Executor modelThreadExecutor,
+            boolean isReadOnly) {
+        requireAllNonNull(model, storage, modelThreadExecutor);
         this.model = model;
         this.storage = storage;
-        healthcareXpressParser = new HealthcareXpressParser();
+        this.modelThreadExecutor = modelThreadExecutor;
+        this.isReadOnly = isReadOnly;
+        healthcareXpressParser = new HealthcareXpressParser(history);
+        liveSearch = new LiveSearch(model, modelThreadExecutor, LiveSearch.DEFAULT_DELAY);
+        commandCompleter = new CommandCompleter(model, HealthcareXpressParser.COMMAND_WORDS);
     }
 
+    /**
+     * {@inheritDoc}
+     * The command is executed on a fork of the model, as with {@link #executeAsync(String)}, but on the calling
+     * thread, which must own the model.
+     */
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        liveSearch.cancel();
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        prepare(commandText, result).run();
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CommandException) {
+                throw (CommandException) e.getCause();
+            } else if (e.getCause() instanceof ParseException) {
+                throw (ParseException) e.getCause();
+            }
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The command is parsed and executed on a fork of the model, and the address book is saved, on the command
+     * executor thread, one command at a time. Only committing the fork, which takes time proportional to the
+     * number of persons changed, is left to the model thread, in the same task that completes the future.
+     * The next command is not started until the changes of the previous one have been made to the model.
+     */
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        // the list shown is now the one the command leaves, not the one searched for while it was typed
+        liveSearch.cancel();
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        commandExecutor.execute(() -> runOnModelThread(prepare(commandText, result)));
+        return result;
+    }
+
+    @Override
+    public void previewFilter(String commandText) {
+        requireNonNull(commandText);
+        liveSearch.update(commandText);
+    }
+
+    @Override
+    public List<String> getCompletions(String commandText) {
+        requireNonNull(commandText);
+        return commandCompleter.complete(commandText);
+    }
+
+    @Override
+    public void submitModelTask(Runnable task) {
+        requireNonNull(task);
+        commandExecutor.execute(() -> runOnModelThread(task));
+    }
+
+    /**
+     * Executes the command on a fork of the model and saves the changed address book.
+     *
+     * @return the task that makes the changes to the model and completes {@code result}.
+     */
+    private Runnable prepare(String commandText, CompletableFuture<CommandResult> result) {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        ModelFork fork = model.fork();
+        Command command;
         CommandResult commandResult;
-        Command command = healthcareXpressParser.parseCommand(commandText, model);
-        commandResult = command.execute(model);
+        try {
+            command = healthcareXpressParser.parseCommand(commandText, fork);
+            commandResult = command.execute(fork);
+        } catch (CommandException | ParseException | RuntimeException e) {
+            fork.discard();
+            return () -> result.completeExceptionally(e);
+        }
 
+        List<PersonChange> changes = fork.getChanges();
+        if (isReadOnly && !changes.isEmpty()) {
+            fork.discard();
+            return () -> result.completeExceptionally(new CommandException(MESSAGE_READ_ONLY));
+        }
+        Optional<CommandException> saveFailure = trySaveAddressBook(fork);
+        boolean isRefused = saveFailure.map(e -> e.getCause() instanceof ConflictingChangesException).orElse(false);
+        return () -> {
+            try {
+                fork.commit();
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            if (isRefused) {
+                // the fork now matches the file instead, so there is nothing of the command's to undo
+                result.completeExceptionally(saveFailure.get());
+                return;
+            }
+            recordInHistory(command, commandText, changes);
+            commandCompleter.recordUse(commandText);
+            saveFailure.ifPresentOrElse(result::completeExceptionally, () -> result.complete(commandResult));
+        };
+    }
+
+    /**
+     * Records the {@code changes} made by {@code command} in the history of commands to undo, or moves the command
+     * it undid or redid between the commands to undo and redo.
+     */
+    private void recordInHistory(Command command, String commandText, List<PersonChange> changes) {
+        if (command instanceof UndoCommand) {
+            history.markUndone();
+        } else if (command instanceof RedoCommand) {
+            history.markRedone();
+        } else {
+            history.record(commandText.trim(), changes);
+        }
+    }
+
+    /**
+     * Saves the address book of {@code model}, returning the error to report if it cannot be saved.
+     */
+    private Optional<CommandException> trySaveAddressBook(Model model) {
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            saveAddressBook(model);
+            return Optional.empty();
+        } catch (ConflictingChangesException cce) {
+            return Optional.of(new CommandException(cce.getMessage(), cce));
         } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            return Optional.of(new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe));
+        }
+    }
+
+    /**
+     * Runs {@code task} on the model thread and waits for it to finish.
+     */
+    private void runOnModelThread(Runnable task) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        modelThreadExecutor.execute(() -> {
+            try {
+                task.run();
+            } finally {
+                done.complete(null);
+            }
+        });
+        done.join();
+    }
+
+    @Override
+    public int markPassedVisits() {
+        if (isReadOnly) {
+            // the instance followed marks them, and its changes are followed
+            return 0;
+        }
+        int updatedPatients = model.expandRecurringVisits();
+        int markedVisits = model.markPassedVisits();
+        if (updatedPatients > 0 || markedVisits > 0) {
+            try {
+                saveAddressBook(model);
+            } catch (ConflictingChangesException cce) {
+                // the visits are marked again at the next sweep, on the persons the other instance saved
+                logger.warning(cce.getMessage());
+            } catch (IOException ioe) {
+                logger.warning(FILE_OPS_ERROR_MESSAGE + ioe);
+            }
         }
+        return markedVisits;
+    }
 
-        return commandResult;
+    /**
+     * Saves the address book of {@code model}, and makes the changes other instances of the app saved to the file
+     * since it was last read or saved to {@code model} too. If they changed the same persons, nothing is saved, and
+     * {@code model} is changed to match the file instead.
+     */
+    private void saveAddressBook(Model model) throws IOException {
+        List<PersonChange> mergedChanges;
+        try {
+            mergedChanges = storage.saveAddressBook(model.getAddressBook());
+        } catch (ConflictingChangesException cce) {
+            model.applyChanges(cce.getTheirChanges());
+            throw cce;
+        }
+        model.applyChanges(mergedChanges);
     }
 
     @Override
@@ -60,11 +280,31 @@ public class LogicManager implements Logic {
         return model.getAddressBook();
     }
 
+    @Override
+    public ModelEventBus getEventBus() {
+        return model.getEventBus();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public ObservableList<ScheduleEntry> getUpcomingVisitList() {
+        return model.getUpcomingVisitList();
+    }
+
+    @Override
+    public List<ScheduleEntry> getNurseScheduleEntries(Long nurseUidNo, LocalDateTime start, LocalDateTime end) {
+        return model.getNurseScheduleEntries(nurseUidNo, start, end);
+    }
+
+    @Override
+    public ModelSnapshot getSnapshot() {
+        return model.getSnapshot();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -0,0 +1,78 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Periodically marks the home visits whose slot time has passed as visited while the app is running.
+ * Each check only looks at the visits that are due, so it is cheap when nothing has passed.
+ */
+public class VisitSweeper {
+
+    public static final Duration DEFAULT_PERIOD = Duration.ofMinutes(1);
+
+    private static final Logger logger = LogsCenter.getLogger(VisitSweeper.class);
+
+    private final Logic logic;
+    private final Executor modelExecutor;
+    private final Duration period;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a {@code VisitSweeper} that checks for passed visits every {@code period}.
+     *
+     * @param modelExecutor runs each check on the thread that owns the model.
+     */
+    public VisitSweeper(Logic logic, Executor modelExecutor, Duration period) {
+        requireAllNonNull(logic, modelExecutor, period);
+        this.logic = logic;
+        this.modelExecutor = modelExecutor;
+        this.period = period;
+    }
+
+    /**
+     * Starts the periodic checks. Does nothing if they are already running.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "visit-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long periodInMillis = period.toMillis();
+        scheduler.scheduleAtFixedRate(() -> modelExecutor.execute(this::sweep), periodInMillis, periodInMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the periodic checks.
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Rolls recurring visits forward and marks the visits that have passed as visited.
+     */
+    void sweep() {
+        try {
+            logic.markPassedVisits();
+        } catch (RuntimeException e) {
+            logger.warning("Failed to mark passed home visits: " + e);
+        }
+    }
+}
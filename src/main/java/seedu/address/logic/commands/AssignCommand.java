@@ -123,9 +123,11 @@ public class AssignCommand extends Command {
                 this.dateslotIndex, patientUidNo);
         List<Date> updatedFullyScheduledList = creator.getFullyScheduledDateList();
 
-        InternalEditor editor = new InternalEditor(model);
-        editor.editPatient(patient, updatedDateSlotList);
-        editor.editNurse(nurse, updatedHomeVisitList, updatedFullyScheduledList);
+        model.batch(batchModel -> {
+            InternalEditor editor = new InternalEditor(batchModel);
+            editor.editPatient(patient, updatedDateSlotList);
+            editor.editNurse(nurse, updatedHomeVisitList, updatedFullyScheduledList);
+        });
     }
 
     @Override
@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.HealthcareXpressParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.PersonChange;
+
+/**
+ * Executes a list of commands as one, such as the lines of a script.
+ * The commands are parsed and executed one after another in a {@link Model#batch(Model.BatchOperation)}, so the
+ * model is not touched until every command has succeeded. The changes are then made to the model in one step.
+ * If any command fails, none of the changes are made.
+ * Blank lines and lines starting with {@code #} are skipped.
+ */
+public class BatchCommand extends Command {
+
+    public static final String MESSAGE_SUCCESS = "Executed %1$d command(s), %2$d person(s) changed.";
+
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d (%2$s) failed, no changes were made:\n%3$s";
+
+    public static final String MESSAGE_NESTED_RUN = "A script cannot run another script.";
+
+    private static final String COMMENT_PREFIX = "#";
+
+    private final List<String> commandTexts;
+
+    /**
+     * Creates a BatchCommand to execute the given {@code commandTexts}, in order.
+     */
+    public BatchCommand(List<String> commandTexts) {
+        requireNonNull(commandTexts);
+        this.commandTexts = new ArrayList<>(commandTexts);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        HealthcareXpressParser parser = new HealthcareXpressParser();
+        List<PersonChange> changes = model.batch(batchModel -> {
+            for (int i = 0; i < commandTexts.size(); i++) {
+                if (!isSkipped(commandTexts.get(i))) {
+                    executeLine(parser, commandTexts.get(i).trim(), i + 1, batchModel);
+                }
+            }
+        });
+        long executedCommands = commandTexts.stream().filter(commandText -> !isSkipped(commandText)).count();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, executedCommands, changes.size()));
+    }
+
+    private static boolean isSkipped(String commandText) {
+        String trimmedCommandText = commandText.trim();
+        return trimmedCommandText.isEmpty() || trimmedCommandText.startsWith(COMMENT_PREFIX);
+    }
+
+    private static void executeLine(HealthcareXpressParser parser, String commandText, int lineNumber,
+            Model model) throws CommandException {
+        try {
+            Command command = parser.parseCommand(commandText, model);
+            if (command instanceof RunCommand) {
+                throw new CommandException(MESSAGE_NESTED_RUN);
+            }
+            command.execute(model);
+        } catch (ParseException | CommandException e) {
+            throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, lineNumber, commandText,
+                    e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BatchCommand // instanceof handles nulls
+                && commandTexts.equals(((BatchCommand) other).commandTexts)); // state check
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.core.index.ReverseIndexComparator;
@@ -12,10 +13,13 @@ import seedu.address.model.person.HomeVisit;
 
 /**
  * A class that manage all date slot related task.
+ * The date slots given are immutable, so they are shared with the patient they come from, and a date slot that
+ * is changed is replaced in the list by the changed copy, leaving the patient as it is.
  */
 public class DateSlotManager {
 
     public static final String MESSAGE_OUTOFBOUND_DATESLOT_INDEX = "The date slot index given is out of bounds.";
+    public static final String MESSAGE_MISSING_DATESLOT = "The patient has no date slot at %s.";
     public final List<DateSlot> dateSlotList;
     public final List<Index> dateSlotIndexList;
 
@@ -25,10 +29,7 @@ public class DateSlotManager {
      * @param dateSlotIndex
      */
     public DateSlotManager(List<DateSlot> dateSlotList, List<Index> dateSlotIndex) {
-        this.dateSlotList = new ArrayList<>();
-        for (DateSlot dateSlot : dateSlotList) {
-            this.dateSlotList.add(dateSlot.clone());
-        }
+        this.dateSlotList = new ArrayList<>(dateSlotList);
         this.dateSlotIndexList = new ArrayList<>(dateSlotIndex);
     }
 
@@ -37,10 +38,7 @@ public class DateSlotManager {
      * @param dateSlotList
      */
     public DateSlotManager(List<DateSlot> dateSlotList) {
-        this.dateSlotList = new ArrayList<>();
-        for (DateSlot dateSlot : dateSlotList) {
-            this.dateSlotList.add(dateSlot.clone());
-        }
+        this.dateSlotList = new ArrayList<>(dateSlotList);
         this.dateSlotIndexList = new ArrayList<>();
     }
 
@@ -50,10 +48,7 @@ public class DateSlotManager {
      * @param index
      */
     public DateSlotManager(List<DateSlot> dateSlotList, Index index) {
-        this.dateSlotList = new ArrayList<>();
-        for (DateSlot dateSlot : dateSlotList) {
-            this.dateSlotList.add(dateSlot.clone());
-        }
+        this.dateSlotList = new ArrayList<>(dateSlotList);
         this.dateSlotIndexList = new ArrayList<>();
         this.dateSlotIndexList.add(index);
     }
@@ -78,9 +73,9 @@ public class DateSlotManager {
 
     private void markAllAssigned(List<HomeVisit> homeVisitList, List<Date> unavailableDateList,
                               Long nurseUidNo) throws CommandException {
-        for (DateSlot dateSlot : dateSlotList) {
-            markAssignedCheck(dateSlot, homeVisitList, unavailableDateList);
-            dateSlot.mark(nurseUidNo);
+        for (int i = 0; i < dateSlotList.size(); i++) {
+            markAssignedCheck(dateSlotList.get(i), homeVisitList, unavailableDateList);
+            dateSlotList.set(i, dateSlotList.get(i).withMarked(nurseUidNo));
         }
     }
 
@@ -91,7 +86,7 @@ public class DateSlotManager {
         for (Index index : dateSlotIndexList) {
             DateSlot dateSlot = dateSlotList.get(index.getZeroBased());
             markAssignedCheck(dateSlot, homeVisitList, unavailableDateList);
-            dateSlot.mark(nurseUidNo);
+            dateSlotList.set(index.getZeroBased(), dateSlot.withMarked(nurseUidNo));
         }
     }
 
@@ -133,9 +128,9 @@ public class DateSlotManager {
     }
 
     private void unmarkAllAssigned() throws CommandException {
-        for (DateSlot dateSlot : dateSlotList) {
-            unmarkAssignedCheck(dateSlot);
-            dateSlot.unmark();
+        for (int i = 0; i < dateSlotList.size(); i++) {
+            unmarkAssignedCheck(dateSlotList.get(i));
+            dateSlotList.set(i, dateSlotList.get(i).withUnmarked());
         }
     }
 
@@ -145,19 +140,23 @@ public class DateSlotManager {
         for (Index index : dateSlotIndexList) {
             DateSlot dateSlot = dateSlotList.get(index.getZeroBased());
             unmarkAssignedCheck(dateSlot);
-            dateSlot.unmark();
+            dateSlotList.set(index.getZeroBased(), dateSlot.withUnmarked());
         }
     }
 
     /**
      * Unmark the specific date slot that has the same dateTime with the dateSlot given.
+     * The date slot is found by binary search, since the date slots are copied from a patient in date order.
      * @param dateSlot
      * @return updated dateSlot list
+     * @throws IllegalStateException if there is no date slot at the time of the one given
      */
     public List<DateSlot> unmarkSpecificAssignedFromHomeVisit(DateSlot dateSlot) {
-        DateSlot dateSlotToBeUnmarked = dateSlotList.stream().filter(
-                d -> d.getDateTime().equals(dateSlot.getDateTime())).findFirst().get();
-        dateSlotToBeUnmarked.unmark();
+        int index = DateSlot.indexOf(dateSlotList, dateSlot.getDateTime(), Function.identity());
+        if (index < 0) {
+            throw new IllegalStateException(String.format(MESSAGE_MISSING_DATESLOT, dateSlot.getDateSlotFormatted()));
+        }
+        dateSlotList.set(index, dateSlotList.get(index).withUnmarked());
         return dateSlotList;
     }
 
@@ -174,9 +173,9 @@ public class DateSlotManager {
      */
     public List<DateSlot> unmarkSuccessVisited() throws CommandException {
         checkIndexOutOfBound();
-        DateSlot dateToBeUnmark = dateSlotList.get(dateSlotIndexList.get(0).getZeroBased());
-        unmarkSuccessVisitedCheck(dateToBeUnmark);
-        dateToBeUnmark.markFail();
+        int index = dateSlotIndexList.get(0).getZeroBased();
+        unmarkSuccessVisitedCheck(dateSlotList.get(index));
+        dateSlotList.set(index, dateSlotList.get(index).withFailedVisit());
         return dateSlotList;
     }
 
@@ -192,9 +191,9 @@ public class DateSlotManager {
      */
     public List<DateSlot> undoUnmarkFailVisited() throws CommandException {
         checkIndexOutOfBound();
-        DateSlot dateToBeUndoUnmark = dateSlotList.get(dateSlotIndexList.get(0).getZeroBased());
-        undoUnmarkFailVisitedCheck(dateToBeUndoUnmark);
-        dateToBeUndoUnmark.markSuccess();
+        int index = dateSlotIndexList.get(0).getZeroBased();
+        undoUnmarkFailVisitedCheck(dateSlotList.get(index));
+        dateSlotList.set(index, dateSlotList.get(index).withSuccessfulVisit());
         return dateSlotList;
     }
 
@@ -226,8 +225,7 @@ public class DateSlotManager {
         sortIndex();
         checkIndexOutOfBound();
         for (Index index : dateSlotIndexList) {
-            DateSlot dateSlot = dateSlotList.get(index.getZeroBased());
-            dateSlotList.remove(dateSlot);
+            dateSlotList.remove(index.getZeroBased());
         }
     }
 
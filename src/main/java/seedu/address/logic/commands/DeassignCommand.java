@@ -70,11 +70,14 @@ public class DeassignCommand extends Command {
         if (!(personToBeDeassigned.isNurse() || personToBeDeassigned.isPatient())) {
             throw new IllegalArgumentException(Category.MESSAGE_CONSTRAINTS);
         }
-        if (personToBeDeassigned.isPatient()) {
-            unmarkAssignedPatient(model, personToBeDeassigned, lastShownList);
-        } else {
-            unmarkAssignedNurse(model, personToBeDeassigned, lastShownList);
-        }
+        model.batch(batchModel -> {
+            List<Person> batchShownList = batchModel.getFilteredPersonList();
+            if (personToBeDeassigned.isPatient()) {
+                unmarkAssignedPatient(batchModel, personToBeDeassigned, batchShownList);
+            } else {
+                unmarkAssignedNurse(batchModel, personToBeDeassigned, batchShownList);
+            }
+        });
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, personToBeDeassigned.getUid().getUid()));
     }
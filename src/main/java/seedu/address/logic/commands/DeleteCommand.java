@@ -48,21 +48,18 @@ public class DeleteCommand extends Command {
         }
         Person confirmedPersonToDelete = personToDelete.get();
 
-        Boolean hasBeenDeleted = false;
-        Boolean hasBeenUnmark = false;
-        if (confirmedPersonToDelete.isPatient()) {
-            hasBeenDeleted = deleteRespectiveHomeVisit(model, confirmedPersonToDelete, lastShownList);
-        } else {
-            hasBeenUnmark = unmarkRespectiveDateSlot(model, confirmedPersonToDelete, lastShownList);
-        }
-        String extraMessage = "";
-        if (hasBeenDeleted) {
-            extraMessage = "The respective home visit has also been deleted.";
-        }
-        if (hasBeenUnmark) {
-            extraMessage = "The respective date slot has also been unmarked.";
-        }
-        model.deletePerson(confirmedPersonToDelete);
+        StringBuilder extraMessage = new StringBuilder();
+        model.batch(batchModel -> {
+            List<Person> batchShownList = batchModel.getFilteredPersonList();
+            if (confirmedPersonToDelete.isPatient()) {
+                if (deleteRespectiveHomeVisit(batchModel, confirmedPersonToDelete, batchShownList)) {
+                    extraMessage.append("The respective home visit has also been deleted.");
+                }
+            } else if (unmarkRespectiveDateSlot(batchModel, confirmedPersonToDelete, batchShownList)) {
+                extraMessage.append("The respective date slot has also been unmarked.");
+            }
+            batchModel.deletePerson(confirmedPersonToDelete);
+        });
         return new CommandResult(
                 String.format("%s %s",
                         String.format(MESSAGE_DELETE_PERSON_SUCCESS,
@@ -10,6 +10,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_GENDER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_UID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_UNAVAILABLE_DATE;
@@ -43,6 +44,7 @@ import seedu.address.model.person.Patient;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Physician;
+import seedu.address.model.person.Recurrence;
 import seedu.address.model.person.Uid;
 import seedu.address.model.tag.Tag;
 
@@ -68,6 +70,7 @@ public class EditCommand extends Command {
             + "the specific date and slot to be edited. \n"
             + "[" + PREFIX_DATE_AND_SLOT + "DATE_AND_SLOT] \n"
             + "[" + PREFIX_DATE_AND_SLOT_INDEX + "DATE_AND_SLOT_INDEX] \n"
+            + "[" + PREFIX_RECURRENCE + "RECURRING_HOME_VISIT]... (replaces all recurring home visits) \n"
             + "Unavailable Date are only applicable to nurse and Unavailable Date Index is used to indicate"
             + " the specific unavailable date to be edited. \n"
             + "[" + PREFIX_UNAVAILABLE_DATE + "UNAVAILABLE_DATE] \n"
@@ -157,11 +160,12 @@ public class EditCommand extends Command {
             throws CommandException {
         boolean hasDatesSlots = editPersonDescriptor.getDatesSlots().isPresent();
         boolean hasDateSlotIndexes = editPersonDescriptor.getDateSlotIndexes().isPresent();
+        boolean hasRecurrences = editPersonDescriptor.getRecurrences().isPresent();
         boolean hasUnavailableDates = editPersonDescriptor.getUnavailableDates().isPresent();
         boolean hasUnavailableDateIndexes = editPersonDescriptor.getDateIndexes().isPresent();
         boolean isNurse = editPersonDescriptor.getCategory().equals("N") || personToEdit instanceof Nurse;
 
-        if (isNurse && (hasDateSlotIndexes || hasDatesSlots)) {
+        if (isNurse && (hasDateSlotIndexes || hasDatesSlots || hasRecurrences)) {
             throw new CommandException(MESSAGE_NURSE_INVALID_DATESLOT_EDIT);
         }
         if (hasUnavailableDates || hasUnavailableDateIndexes) {
@@ -220,9 +224,11 @@ public class EditCommand extends Command {
         EditedDateSlotCreator creator = new EditedDateSlotCreator(model, personList, originalDateSlot,
                 toBeUpdateDateSlot, toBeUpdateDateSlotIndexes);
         List<DateSlot> updatedDateSlot = creator.createEditedDateSlotList();
+        List<Recurrence> updatedRecurrences = editPersonDescriptor.getRecurrences()
+                .orElse(((Patient) personToEdit).getRecurrences());
 
         return new Patient(uid, updatedName, updatedGender, updatedPhone, updatedEmail,
-                updatedAddress, updatedTags, updatedDateSlot, updatedPhysician, updatedNextOfKin);
+                updatedAddress, updatedTags, updatedDateSlot, updatedPhysician, updatedNextOfKin, updatedRecurrences);
     }
 
     private Patient createNewPatient(Uid uid, Name updatedName, Gender updatedGender, Phone updatedPhone,
@@ -234,9 +240,10 @@ public class EditCommand extends Command {
         Optional<NextOfKin> updatedNextOfKin = editPersonDescriptor.getNextOfKin()
                 .orElse(Optional.empty());
         List<DateSlot> updatedDateSlot = editPersonDescriptor.getDatesSlots().orElse(null);
+        List<Recurrence> updatedRecurrences = editPersonDescriptor.getRecurrences().orElse(Collections.emptyList());
 
         return new Patient(uid, updatedName, updatedGender, updatedPhone, updatedEmail,
-                updatedAddress, updatedTags, updatedDateSlot, updatedPhysician, updatedNextOfKin);
+                updatedAddress, updatedTags, updatedDateSlot, updatedPhysician, updatedNextOfKin, updatedRecurrences);
     }
 
     private Nurse createUpdatedNurse(Uid uid, Name updatedName, Gender updatedGender, Phone updatedPhone,
@@ -307,6 +314,7 @@ public class EditCommand extends Command {
         private Set<Tag> tags;
         private List<DateSlot> datesSlots;
         private List<Index> dateSlotIndexes;
+        private List<Recurrence> recurrences;
         private List<HomeVisit> homeVisits;
         private List<Date> unavailableDates;
         private List<Index> dateIndexes;
@@ -332,6 +340,7 @@ public class EditCommand extends Command {
             setTags(toCopy.tags);
             setDatesSlots(toCopy.datesSlots);
             setDateSlotIndexes(toCopy.dateSlotIndexes);
+            setRecurrences(toCopy.recurrences);
             setHomeVisits(toCopy.homeVisits);
             setUnavailableDates(toCopy.unavailableDates);
             setDateIndexes(toCopy.dateIndexes);
@@ -346,7 +355,7 @@ public class EditCommand extends Command {
          */
         public boolean isAnyFieldEdited() {
             return CollectionUtil.isAnyNonNull(name, gender, phone, email, address,
-                    tags, datesSlots, dateSlotIndexes, unavailableDates, dateIndexes);
+                    tags, datesSlots, dateSlotIndexes, recurrences, unavailableDates, dateIndexes);
         }
 
         public Optional<Category> getCategory() {
@@ -459,6 +468,21 @@ public class EditCommand extends Command {
             this.dateSlotIndexes = (dateSlotIndexes != null) ? new ArrayList<Index>(dateSlotIndexes) : null;
         }
 
+        /**
+         * Returns a recurrence list
+         * Returns {@code Optional#empty()} if {@code recurrences} is null.
+         */
+        public Optional<List<Recurrence>> getRecurrences() {
+            return (recurrences != null) ? Optional.of(new ArrayList<Recurrence>(recurrences)) : Optional.empty();
+        }
+
+        /**
+         * Sets {@code recurrences} to this object's {@code recurrences}.
+         */
+        public void setRecurrences(List<Recurrence> recurrences) {
+            this.recurrences = (recurrences != null) ? new ArrayList<Recurrence>(recurrences) : null;
+        }
+
         /**
          * Returns a homeVisit list
          * Returns {@code Optional#empty()} if {@code homeVisits} is null.
@@ -582,6 +606,7 @@ public class EditCommand extends Command {
                     && getAddress().equals(e.getAddress())
                     && getDatesSlots().equals(e.getDatesSlots())
                     && getDateSlotIndexes().equals(e.getDateSlotIndexes())
+                    && getRecurrences().equals(e.getRecurrences())
                     && getTags().equals(e.getTags())
                     && getHomeVisits().equals(e.getHomeVisits())
                     && getUnavailableDates().equals(e.getUnavailableDates())
@@ -614,7 +639,7 @@ public class EditCommand extends Command {
                 Optional<List<Index>> toBeUpdateDateSlotsIndexes) {
             this.model = model;
             this.personList = personList;
-            this.originalDateSlotList = originalDateSlots;
+            this.originalDateSlotList = new ArrayList<>(originalDateSlots);
             this.isDateSlotsGivenNull = getIsDateSlotsGivenNull(toBeUpdateDateSlots);
             this.isDateSlotIndexesGivenNull = getIsDateSlotIndexesGivenNull(toBeUpdateDateSlotsIndexes);
             this.toBeUpdateDateSlots = createToBeUpdateDateSlotList(toBeUpdateDateSlots);
@@ -761,7 +786,7 @@ public class EditCommand extends Command {
             this.model = model;
             this.nurseToEdit = nurseToEdit;
             this.personList = personList;
-            this.originalUnavailableDateList = originalUnavailableDates;
+            this.originalUnavailableDateList = new ArrayList<>(originalUnavailableDates);
             this.isUnavailableDatesGivenNull = getIsUnavailableDatesGivenNull(toBeUpdateUnavailableDates);
             this.isUnavailableDateIndexesGivenNull = getIsUnavailableDateIndexesGivenNull(
                     toBeUpdateUnavailableDateIndexes);
@@ -14,10 +14,12 @@ import seedu.address.model.person.HomeVisit;
 
 /**
  * A class to manage all home visit related task.
+ * The home visits given are immutable, so they are shared with the nurse they come from rather than copied.
  */
 public class HomeVisitManager {
 
     public static final String MESSAGE_OUTOFBOUND_HOMEVISIT_INDEX = "The home visit index given is out of bounds.";
+    public static final String MESSAGE_MISSING_HOMEVISIT = "The nurse has no home visit at %s.";
     private static final int NUMBER_OF_SLOT_PER_DAY = 4;
     public final List<HomeVisit> homeVisitList;
     public final List<Index> homeVisitIndex;
@@ -31,10 +33,7 @@ public class HomeVisitManager {
      */
     public HomeVisitManager(List<HomeVisit> homeVisitList, List<Index> homeVisitIndex,
                             List<Date> fullyScheduledDateList) {
-        this.homeVisitList = new ArrayList<>();
-        for (HomeVisit homeVisit : homeVisitList) {
-            this.homeVisitList.add(homeVisit.clone());
-        }
+        this.homeVisitList = new ArrayList<>(homeVisitList);
         this.homeVisitIndex = new ArrayList<>(homeVisitIndex);
         this.fullyScheduledDateList = new ArrayList<>(fullyScheduledDateList);
     }
@@ -45,10 +44,7 @@ public class HomeVisitManager {
      * @param fullyScheduledDateList
      */
     public HomeVisitManager(List<HomeVisit> homeVisitList, List<Date> fullyScheduledDateList) {
-        this.homeVisitList = new ArrayList<>();
-        for (HomeVisit homeVisit : homeVisitList) {
-            this.homeVisitList.add(homeVisit.clone());
-        }
+        this.homeVisitList = new ArrayList<>(homeVisitList);
         this.homeVisitIndex = new ArrayList<>();
         this.fullyScheduledDateList = new ArrayList<>(fullyScheduledDateList);
     }
@@ -87,7 +83,9 @@ public class HomeVisitManager {
 
     private void createHomeVisit(DateSlot dateSlot, Long patientUidNo) {
         HomeVisit homeVisit = new HomeVisit(dateSlot, patientUidNo);
-        homeVisitList.add(homeVisit);
+        // kept in date order, as the list is copied from a nurse in that order, so that visits can be looked up
+        int index = DateSlot.indexOf(homeVisitList, dateSlot.getDateTime(), HomeVisit::getDateSlot);
+        homeVisitList.add(index < 0 ? -(index + 1) : index, homeVisit);
         LocalDate date = dateSlot.getDate();
         addFullyScheduledDate(date);
     }
@@ -162,12 +160,14 @@ public class HomeVisitManager {
      * Remove corresponding home visit of the given dateSlot from the homevisit list.
      * @param dateSlot
      * @return updated home visit list
+     * @throws IllegalStateException if there is no home visit at the time of the date slot
      */
     public List<HomeVisit> removeHomeVisitFromDateSlot(DateSlot dateSlot) {
-        HomeVisit homeVisitToBeDeleted = homeVisitList.stream().filter(
-                h -> h.getDateSlot().getDateTime().equals(dateSlot.getDateTime())).findFirst().get();
-
-        homeVisitList.remove(homeVisitToBeDeleted);
+        int index = DateSlot.indexOf(homeVisitList, dateSlot.getDateTime(), HomeVisit::getDateSlot);
+        if (index < 0) {
+            throw new IllegalStateException(String.format(MESSAGE_MISSING_HOMEVISIT, dateSlot.getDateSlotFormatted()));
+        }
+        homeVisitList.remove(index);
         LocalDate date = dateSlot.getDate();
         removeFullyScheduledDate(date);
         return this.homeVisitList;
@@ -203,15 +203,7 @@ public class HomeVisitManager {
     }
 
     private void removeHomeVisitFromUnavailableDate(Date unavailableDate) {
-        List<HomeVisit> toBeUpdatedHomeVisitList = new ArrayList<>(homeVisitList);
-        for (HomeVisit homeVisit : homeVisitList) {
-            Boolean isSameDate = checkSameDate(homeVisit, unavailableDate);
-            if (isSameDate) {
-                toBeUpdatedHomeVisitList.remove(homeVisit);
-            }
-        }
-        homeVisitList.clear();
-        homeVisitList.addAll(toBeUpdatedHomeVisitList);
+        homeVisitList.removeIf(homeVisit -> checkSameDate(homeVisit, unavailableDate));
         removeFullyScheduledDate(unavailableDate.getDate());
     }
 
@@ -3,7 +3,6 @@ package seedu.address.logic.commands;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.model.Model;
@@ -38,18 +37,8 @@ public class InternalEditor {
      * @param dateSlotList
      */
     public void editPatient(Person patient, List<DateSlot> dateSlotList) {
-        Uid patientUid = patient.getUid();
-        List<Person> lastShownList = model.getFilteredPersonList();
-        Optional<Person> personToEdit = lastShownList.stream().filter(p -> p.getUid().equals(patientUid)).findFirst();
-        Person confirmedPersonToEdit = personToEdit.get();
-        Uid uid = confirmedPersonToEdit.getUid();
-        Name name = confirmedPersonToEdit.getName();
-        Gender gender = confirmedPersonToEdit.getGender();
-        Phone phone = confirmedPersonToEdit.getPhone();
-        Email email = confirmedPersonToEdit.getEmail();
-        Address address = confirmedPersonToEdit.getAddress();
-        Set<Tag> tags = confirmedPersonToEdit.getTags();
-        Person newPerson = new Patient(uid, name, gender, phone, email, address, tags, dateSlotList);
+        Person confirmedPersonToEdit = model.getPerson(patient.getUid()).get();
+        Person newPerson = ((Patient) confirmedPersonToEdit).withDateSlots(dateSlotList);
         model.setPerson(confirmedPersonToEdit, newPerson);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
@@ -61,10 +50,7 @@ public class InternalEditor {
      * @param fullyScheduledDateList
      */
     public void editNurse(Person nurse, List<HomeVisit> homeVisitList, List<Date> fullyScheduledDateList) {
-        Uid nurseUid = nurse.getUid();
-        List<Person> lastShownList = model.getFilteredPersonList();
-        Optional<Person> personToEdit = lastShownList.stream().filter(p -> p.getUid().equals(nurseUid)).findFirst();
-        Person confirmedPersonToEdit = personToEdit.get();
+        Person confirmedPersonToEdit = model.getPerson(nurse.getUid()).get();
         Uid uid = confirmedPersonToEdit.getUid();
         Name name = confirmedPersonToEdit.getName();
         Gender gender = confirmedPersonToEdit.getGender();
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import java.util.Locale;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -112,8 +113,16 @@ public class ListCommand extends Command {
     }
 
     private void applyFilter(Model model) {
-        Predicate<Person> addressMatch = x -> x.getAddress().value.toLowerCase()
-                .contains(address.orElse(x.getAddress()).value.toLowerCase());
+        model.updateFilteredPersonList(getPredicate());
+    }
+
+    /**
+     * Returns the predicate the persons listed by this command match.
+     */
+    public Predicate<Person> getPredicate() {
+        Optional<String> lowerCaseAddress = address.map(a -> a.value.toLowerCase(Locale.ROOT));
+        Predicate<Person> addressMatch = x -> lowerCaseAddress.isEmpty()
+                || x.getAddress().value.toLowerCase(Locale.ROOT).contains(lowerCaseAddress.get());
         Predicate<Person> categoryMatch = x -> x.getCategory().equalsIgnoreCase(category.orElse(x.getCategory()));
         Predicate<Person> genderMatch = x -> x.getGender().equalsIgnoreCase(gender.orElse(x.getGender()));
         Predicate<Person> tagMatch = x -> {
@@ -127,11 +136,10 @@ public class ListCommand extends Command {
                 return x.getTags().stream().anyMatch(tagPredicate);
             }
         };
-        Predicate<Person> predicate = addressMatch
+        return addressMatch
                 .and(categoryMatch)
                 .and(genderMatch)
                 .and(tagMatch);
-        model.updateFilteredPersonList(predicate);
     }
 
     @Override
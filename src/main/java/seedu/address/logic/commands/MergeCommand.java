@@ -0,0 +1,119 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_KEEP;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Uid;
+import seedu.address.storage.AddressBookFileMerge;
+import seedu.address.storage.AddressBookFileMerge.Resolution;
+
+/**
+ * Merges the changes made in another copy of the data file, such as one a mobile nurse worked from, into the
+ * address book. Changes made to the same person in both copies are listed instead of merged, unless the copy whose
+ * changes to keep is chosen.
+ *
+ * @see AddressBookFileMerge
+ */
+public class MergeCommand extends Command {
+
+    public static final String COMMAND_WORD = "merge";
+    public static final String KEEP_HERE = "here";
+    public static final String KEEP_THERE = "there";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Merges the changes made in another copy of the data file.\n"
+            + "Persons changed in both copies are listed, and keep the changes made here until the copy whose changes "
+            + "to keep is chosen.\n"
+            + "Parameters: FILE_PATH [" + PREFIX_KEEP + KEEP_HERE + "|" + KEEP_THERE + "]\n"
+            + "Example: " + COMMAND_WORD + " data/betty-laptop.json " + PREFIX_KEEP + KEEP_THERE;
+
+    public static final String MESSAGE_SUCCESS = "Merged %1$s: %2$d person(s) added, edited or removed.";
+    public static final String MESSAGE_CONFLICTS = "\n%1$d person(s) were changed in both copies, and keep the "
+            + "changes made here until you merge again with " + PREFIX_KEEP + KEEP_HERE + " or " + PREFIX_KEEP
+            + KEEP_THERE + ": %2$s";
+    public static final String MESSAGE_CONFLICTS_KEPT_HERE = "\n%1$d person(s) were changed in both copies, and "
+            + "now keep the changes made here: %2$s";
+    public static final String MESSAGE_CONFLICTS_KEPT_THERE = "\n%1$d person(s) were changed in both copies, and "
+            + "now take the changes made in the other copy: %2$s";
+
+    public static final String MESSAGE_READ_ERROR = "Could not read data file: %1$s";
+
+    private final Path filePath;
+    private final Resolution resolution;
+
+    /**
+     * Creates a MergeCommand to merge the data file at {@code filePath}, listing the persons changed in both
+     * copies.
+     */
+    public MergeCommand(Path filePath) {
+        this(filePath, Resolution.NONE);
+    }
+
+    /**
+     * Creates a MergeCommand to merge the data file at {@code filePath}, keeping the changes chosen by
+     * {@code resolution} to the persons changed in both copies.
+     */
+    public MergeCommand(Path filePath, Resolution resolution) {
+        requireAllNonNull(filePath, resolution);
+        this.filePath = filePath;
+        this.resolution = resolution;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        AddressBookFileMerge merge;
+        try {
+            merge = AddressBookFileMerge.merge(filePath, model::getPerson, model::getPersonVersion, resolution);
+        } catch (IOException | DataConversionException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath), e);
+        }
+
+        model.applyChanges(merge.getChanges());
+        merge.getMergedVersions().forEach(model::mergePersonVersion);
+
+        String message = String.format(MESSAGE_SUCCESS, filePath, merge.getChanges().size());
+        if (!merge.getConflicts().isEmpty()) {
+            String conflicts = merge.getConflicts().stream()
+                    .map(uid -> describe(model, uid))
+                    .collect(Collectors.joining(", "));
+            message += String.format(getConflictsMessage(), merge.getConflicts().size(), conflicts);
+        }
+        return new CommandResult(message);
+    }
+
+    private String getConflictsMessage() {
+        switch (resolution) {
+        case KEEP_OURS:
+            return MESSAGE_CONFLICTS_KEPT_HERE;
+        case KEEP_THEIRS:
+            return MESSAGE_CONFLICTS_KEPT_THERE;
+        default:
+            return MESSAGE_CONFLICTS;
+        }
+    }
+
+    private static String describe(Model model, Uid uid) {
+        return model.getPerson(uid)
+                .map(Person::getName)
+                .map(name -> name + " [Uid:" + uid + "]")
+                .orElse("[Uid:" + uid + "]");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MergeCommand // instanceof handles nulls
+                && filePath.equals(((MergeCommand) other).filePath) // state check
+                && resolution == ((MergeCommand) other).resolution);
+    }
+}
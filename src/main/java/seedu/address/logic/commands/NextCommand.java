@@ -0,0 +1,56 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.schedule.ScheduleEntry;
+
+/**
+ * Lists the next upcoming home visits across all nurses, in time order.
+ */
+public class NextCommand extends Command {
+
+    public static final String COMMAND_WORD = "next";
+
+    public static final int DEFAULT_COUNT = 5;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the next upcoming home visits across all nurses, in time order.\n"
+            + "Parameters: [COUNT] (must be a positive integer, " + DEFAULT_COUNT + " if not given)\n"
+            + "Example: " + COMMAND_WORD + " 10";
+
+    public static final String MESSAGE_SUCCESS = "Next %1$d upcoming home visit(s):\n%2$s";
+
+    public static final String MESSAGE_NO_UPCOMING_VISITS = "There are no upcoming home visits.";
+
+    private final int count;
+
+    /**
+     * Creates a NextCommand that lists the next {@code count} upcoming visits.
+     */
+    public NextCommand(int count) {
+        assert count > 0;
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<ScheduleEntry> upcomingVisits = model.getUpcomingVisits(count);
+        if (upcomingVisits.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_UPCOMING_VISITS);
+        }
+        String visits = upcomingVisits.stream().map(ScheduleEntry::toString).collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, upcomingVisits.size(), visits));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NextCommand // instanceof handles nulls
+                && count == ((NextCommand) other).count); // state check
+    }
+}
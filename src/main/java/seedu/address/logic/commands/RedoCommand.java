@@ -0,0 +1,57 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ChangeHistory;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Redoes the latest command that was undone, by making its changes to the persons again.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Redoes the latest command that was undone.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Redone: %1$s";
+    public static final String MESSAGE_NOTHING_TO_REDO = "There is no command to redo.";
+    public static final String MESSAGE_CHANGED_SINCE = "Cannot redo \"%1$s\": %2$s [Uid:%3$s] was changed since.";
+
+    private final ChangeHistory history;
+
+    /**
+     * Creates a RedoCommand to redo the latest command undone in {@code history}.
+     */
+    public RedoCommand(ChangeHistory history) {
+        requireNonNull(history);
+        this.history = history;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        ChangeHistory.Entry entry = history.peekRedo()
+                .orElseThrow(() -> new CommandException(MESSAGE_NOTHING_TO_REDO));
+        Optional<Person> changedPerson = UndoCommand.findChangedSince(model, entry.getChanges());
+        if (changedPerson.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_CHANGED_SINCE, entry.getCommandText(),
+                    changedPerson.get().getCategoryIndicator(), changedPerson.get().getUid()));
+        }
+        model.applyChanges(entry.getChanges());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, entry.getCommandText()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RedoCommand // instanceof handles nulls
+                && history == ((RedoCommand) other).history); // state check
+    }
+}
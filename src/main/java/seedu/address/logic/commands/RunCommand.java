@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file, one command per line, as a single batch.
+ *
+ * @see BatchCommand
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a text file, one per line. Blank lines and lines starting with # are "
+            + "skipped.\n"
+            + "If any command fails, none of the changes are made.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/roster.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$s. %2$s";
+
+    public static final String MESSAGE_READ_ERROR = "Could not read script file: %1$s";
+
+    private final Path scriptFilePath;
+
+    /**
+     * Creates a RunCommand to run the script at {@code scriptFilePath}.
+     */
+    public RunCommand(Path scriptFilePath) {
+        requireNonNull(scriptFilePath);
+        this.scriptFilePath = scriptFilePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        BatchCommand batchCommand;
+        try {
+            batchCommand = new BatchCommand(Files.readAllLines(scriptFilePath));
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, scriptFilePath), ioe);
+        }
+        CommandResult batchResult = batchCommand.execute(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, scriptFilePath, batchResult.getFeedbackToUser()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && scriptFilePath.equals(((RunCommand) other).scriptFilePath)); // state check
+    }
+}
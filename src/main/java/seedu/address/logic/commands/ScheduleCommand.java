@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.schedule.ScheduleEntry;
+import seedu.address.model.schedule.ScheduleEntry.VisitStatus;
+
+/**
+ * Lists the home visits of all patients and nurses within a period, optionally filtered by visit status.
+ */
+public class ScheduleCommand extends Command {
+
+    public static final String COMMAND_WORD = "schedule";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the home visits of every patient and nurse within the given period.\n"
+            + "Parameters (exactly one period): \n"
+            + "ds/ [DATE_AND_SLOT]\n"
+            + "d/ [DATE]\n"
+            + "w/ [DATE] (the Monday to Sunday week containing DATE)\n"
+            + "from/ [DATE] to/ [DATE]\n"
+            + "<optional> st/ [open/assigned/visited/failed]\n"
+            + "Example: " + COMMAND_WORD + " w/2022-11-11 st/open";
+
+    public static final String MESSAGE_SUCCESS = "%1$d home visit(s) from %2$s to %3$s:\n%4$s";
+
+    public static final String MESSAGE_NO_VISITS = "No home visits from %1$s to %2$s.";
+
+    private static final DateTimeFormatter PERIOD_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final Optional<VisitStatus> status;
+
+    /**
+     * Creates a ScheduleCommand listing the visits with slot times in [{@code start}, {@code end}) that have
+     * the given {@code status}, or any status if it is empty.
+     */
+    public ScheduleCommand(LocalDateTime start, LocalDateTime end, Optional<VisitStatus> status) {
+        requireAllNonNull(start, end, status);
+        this.start = start;
+        this.end = end;
+        this.status = status;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<ScheduleEntry> entries = model.getScheduleEntries(start, end).stream()
+                .filter(entry -> status.map(entry.getStatus()::equals).orElse(true))
+                .collect(Collectors.toList());
+
+        String from = start.format(PERIOD_FORMAT);
+        String to = end.format(PERIOD_FORMAT);
+        if (entries.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_VISITS, from, to));
+        }
+        String visits = entries.stream().map(ScheduleEntry::toString).collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, entries.size(), from, to, visits));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ScheduleCommand // instanceof handles nulls
+                && start.equals(((ScheduleCommand) other).start)
+                && end.equals(((ScheduleCommand) other).end)
+                && status.equals(((ScheduleCommand) other).status)); // state check
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ChangeHistory;
+import seedu.address.model.Model;
+import seedu.address.model.PersonChange;
+import seedu.address.model.person.Person;
+
+/**
+ * Undoes the latest command that changed the address book, by reverting the persons it changed.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Undoes the latest command that changed the data.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Undone: %1$s";
+    public static final String MESSAGE_NOTHING_TO_UNDO = "There is no command to undo.";
+    public static final String MESSAGE_CHANGED_SINCE = "Cannot undo \"%1$s\": %2$s [Uid:%3$s] was changed since.";
+
+    private final ChangeHistory history;
+
+    /**
+     * Creates an UndoCommand to undo the latest command in {@code history}.
+     */
+    public UndoCommand(ChangeHistory history) {
+        requireNonNull(history);
+        this.history = history;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        ChangeHistory.Entry entry = history.peekUndo()
+                .orElseThrow(() -> new CommandException(MESSAGE_NOTHING_TO_UNDO));
+        List<PersonChange> inverseChanges = entry.getInverseChanges();
+        Optional<Person> changedPerson = findChangedSince(model, inverseChanges);
+        if (changedPerson.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_CHANGED_SINCE, entry.getCommandText(),
+                    changedPerson.get().getCategoryIndicator(), changedPerson.get().getUid()));
+        }
+        model.applyChanges(inverseChanges);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, entry.getCommandText()));
+    }
+
+    /**
+     * Returns a person that {@code model} no longer holds as it was before {@code changes}, if any.
+     */
+    static Optional<Person> findChangedSince(Model model, List<PersonChange> changes) {
+        return changes.stream()
+                .filter(change -> !change.isCurrentIn(model))
+                .map(change -> change.getBefore().orElseGet(() -> change.getAfter().get()))
+                .findFirst();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof UndoCommand // instanceof handles nulls
+                && history == ((UndoCommand) other).history); // state check
+    }
+}
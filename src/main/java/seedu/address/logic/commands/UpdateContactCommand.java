@@ -97,13 +97,15 @@ public class UpdateContactCommand extends Command {
             return new Patient(patientToEdit.getUid(), patientToEdit.getName(), patientToEdit.getGender(),
                     patientToEdit.getPhone(), patientToEdit.getEmail(), patientToEdit.getAddress(),
                     patientToEdit.getTags(), patientToEdit.getDatesSlots(),
-                    Optional.of((Physician) updatedContact), patientToEdit.getNextOfKin());
+                    Optional.of((Physician) updatedContact), patientToEdit.getNextOfKin(),
+                    patientToEdit.getRecurrences());
         } else if (category.equals(new Category(Category.NEXTOFKIN_SYMBOL))) {
             updatedContact = new NextOfKin(name, phone, email);
             return new Patient(patientToEdit.getUid(), patientToEdit.getName(), patientToEdit.getGender(),
                     patientToEdit.getPhone(), patientToEdit.getEmail(), patientToEdit.getAddress(),
                     patientToEdit.getTags(), patientToEdit.getDatesSlots(),
-                    patientToEdit.getAttendingPhysician(), Optional.of((NextOfKin) updatedContact));
+                    patientToEdit.getAttendingPhysician(), Optional.of((NextOfKin) updatedContact),
+                    patientToEdit.getRecurrences());
         }
         throw new CommandException(Messages.MESSAGE_UPDATECONTACT_INVALID_CONTACT_CATEGORY);
     }
@@ -9,12 +9,14 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_GENDER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_UNAVAILABLE_DATE;
 import static seedu.address.model.category.Category.NURSE_SYMBOL;
 import static seedu.address.model.category.Category.PATIENT_SYMBOL;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -31,6 +33,7 @@ import seedu.address.model.person.Nurse;
 import seedu.address.model.person.Patient;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.Recurrence;
 import seedu.address.model.person.Uid;
 import seedu.address.model.tag.Tag;
 
@@ -56,13 +59,15 @@ public class AddCommandParser implements Parser<AddCommand> {
      */
     public AddCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CATEGORY, PREFIX_NAME, PREFIX_GENDER,
-                PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG, PREFIX_DATE_AND_SLOT, PREFIX_UNAVAILABLE_DATE);
+                PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG, PREFIX_DATE_AND_SLOT, PREFIX_UNAVAILABLE_DATE,
+                PREFIX_RECURRENCE);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_CATEGORY, PREFIX_NAME, PREFIX_GENDER,
                 PREFIX_ADDRESS, PREFIX_PHONE, PREFIX_EMAIL) || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddCommand.MESSAGE_USAGE));
         }
-        Boolean dateSlotsPresent = arePrefixesPresent(argMultimap, PREFIX_DATE_AND_SLOT);
+        Boolean dateSlotsPresent = arePrefixesPresent(argMultimap, PREFIX_DATE_AND_SLOT)
+                || arePrefixesPresent(argMultimap, PREFIX_RECURRENCE);
         Boolean unavailableDatesPresent = arePrefixesPresent(argMultimap, PREFIX_UNAVAILABLE_DATE);
 
         Category category = ParserUtil.parseCategory(argMultimap.getValue(PREFIX_CATEGORY).get());
@@ -88,12 +93,14 @@ public class AddCommandParser implements Parser<AddCommand> {
         Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
         List<DateSlot> dateTimeSlotList = ParserUtil.parseDatesSlots(argMultimap.getAllValues(PREFIX_DATE_AND_SLOT));
         List<Date> unavailableDateList = ParserUtil.parseDates(argMultimap.getAllValues(PREFIX_UNAVAILABLE_DATE));
+        List<Recurrence> recurrenceList = ParserUtil.parseRecurrences(argMultimap.getAllValues(PREFIX_RECURRENCE));
 
         Person person;
         if (isNurse) {
             person = new Nurse(id, name, gender, phone, email, address, tagList, unavailableDateList);
         }
-        person = new Patient(id, name, gender, phone, email, address, tagList, dateTimeSlotList);
+        person = new Patient(id, name, gender, phone, email, address, tagList, dateTimeSlotList, Optional.empty(),
+                Optional.empty(), recurrenceList);
         return new AddCommand(person);
     }
 
@@ -17,7 +17,14 @@ public class CliSyntax {
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_DATE_AND_SLOT = new Prefix("ds/");
     public static final Prefix PREFIX_DATE_AND_SLOT_INDEX = new Prefix("dsi/");
+    public static final Prefix PREFIX_RECURRENCE = new Prefix("re/");
     public static final Prefix PREFIX_UNAVAILABLE_DATE = new Prefix("ud/");
     public static final Prefix PREFIX_UNAVAILABLE_DATE_INDEX = new Prefix("udi/");
+    public static final Prefix PREFIX_DAY = new Prefix("d/");
+    public static final Prefix PREFIX_WEEK = new Prefix("w/");
+    public static final Prefix PREFIX_FROM_DATE = new Prefix("from/");
+    public static final Prefix PREFIX_TO_DATE = new Prefix("to/");
+    public static final Prefix PREFIX_VISIT_STATUS = new Prefix("st/");
+    public static final Prefix PREFIX_KEEP = new Prefix("keep/");
 
 }
@@ -9,6 +9,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_GENDER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_UID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_UNAVAILABLE_DATE;
@@ -26,6 +27,7 @@ import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Date;
 import seedu.address.model.person.DateSlot;
+import seedu.address.model.person.Recurrence;
 import seedu.address.model.person.Uid;
 import seedu.address.model.tag.Tag;
 
@@ -45,7 +47,7 @@ public class EditCommandParser implements Parser<EditCommand> {
         requireNonNull(args);
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_UID, PREFIX_NAME,
                 PREFIX_GENDER, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_DATE_AND_SLOT, PREFIX_TAG,
-                PREFIX_DATE_AND_SLOT_INDEX, PREFIX_UNAVAILABLE_DATE, PREFIX_UNAVAILABLE_DATE_INDEX);
+                PREFIX_DATE_AND_SLOT_INDEX, PREFIX_UNAVAILABLE_DATE, PREFIX_UNAVAILABLE_DATE_INDEX, PREFIX_RECURRENCE);
 
         Uid uid;
 
@@ -75,6 +77,8 @@ public class EditCommandParser implements Parser<EditCommand> {
                 .ifPresent(editPersonDescriptor::setDatesSlots);
         parseDateSlotIndexesForEdit(argMultimap.getAllValues(PREFIX_DATE_AND_SLOT_INDEX))
                 .ifPresent(editPersonDescriptor::setDateSlotIndexes);
+        parseRecurrencesForEdit(argMultimap.getAllValues(PREFIX_RECURRENCE))
+                .ifPresent(editPersonDescriptor::setRecurrences);
         parseTagsForEdit(argMultimap.getAllValues(PREFIX_TAG)).ifPresent(editPersonDescriptor::setTags);
         parseDatesForEdit(argMultimap.getAllValues(PREFIX_UNAVAILABLE_DATE))
                 .ifPresent(editPersonDescriptor::setUnavailableDates);
@@ -125,6 +129,26 @@ public class EditCommandParser implements Parser<EditCommand> {
         return Optional.of(ParserUtil.parseDatesSlots(dateSlotList));
     }
 
+    /**
+     * Parses {@code Collection<String> recurrences} into a {@code List<Recurrence>} if
+     * {@code recurrences} is non-empty.
+     * If {@code recurrences} contain only one element which is an empty string, it
+     * will be parsed into a {@code List<Recurrence>} containing zero recurrences.
+     */
+    private Optional<List<Recurrence>> parseRecurrencesForEdit(Collection<String> recurrences)
+            throws ParseException {
+        assert recurrences != null;
+
+        if (recurrences.isEmpty()) {
+            return Optional.empty();
+        }
+        Collection<String> recurrenceList = recurrences.size() == 1 && recurrences.contains("")
+                ? Collections.emptyList()
+                : recurrences;
+
+        return Optional.of(ParserUtil.parseRecurrences(recurrenceList));
+    }
+
     /**
      * Parses {@code Collection<String> dateSlotIndexes} into a
      * {@code List<Integer>}
@@ -1,8 +1,12 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -18,22 +22,58 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MergeCommand;
+import seedu.address.logic.commands.NextCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UndoUnmarkCommand;
 import seedu.address.logic.commands.UnmarkCommand;
 import seedu.address.logic.commands.UpdateContactCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ChangeHistory;
 import seedu.address.model.Model;
+import seedu.address.model.person.Person;
 
 /**
  * Parses user input.
  */
 public class HealthcareXpressParser {
 
+    /**
+     * The command words this parser knows.
+     */
+    public static final List<String> COMMAND_WORDS = List.of(AddCommand.COMMAND_WORD, EditCommand.COMMAND_WORD,
+            DeleteCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD, FindCommand.COMMAND_WORD,
+            ListCommand.COMMAND_WORD, UnmarkCommand.COMMAND_WORD, UndoUnmarkCommand.COMMAND_WORD,
+            AssignCommand.COMMAND_WORD, DeassignCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD,
+            HelpCommand.COMMAND_WORD, UpdateContactCommand.COMMAND_WORD, CheckSimilarCommand.COMMAND_WORD,
+            ScheduleCommand.COMMAND_WORD, NextCommand.COMMAND_WORD, RunCommand.COMMAND_WORD,
+            MergeCommand.COMMAND_WORD, UndoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD);
+
     /**
      * Used for initial separation of command word and args.
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    private final ChangeHistory history;
+
+    /**
+     * Creates a parser whose undo and redo commands work on a history of their own, which starts empty.
+     */
+    public HealthcareXpressParser() {
+        this(new ChangeHistory());
+    }
+
+    /**
+     * Creates a parser whose undo and redo commands work on {@code history}.
+     */
+    public HealthcareXpressParser(ChangeHistory history) {
+        requireNonNull(history);
+        this.history = history;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -94,9 +134,59 @@ public class HealthcareXpressParser {
         case CheckSimilarCommand.COMMAND_WORD:
             return new CheckSimilarCommand();
 
+        case ScheduleCommand.COMMAND_WORD:
+            return new ScheduleCommandParser().parse(arguments);
+
+        case NextCommand.COMMAND_WORD:
+            return new NextCommandParser().parse(arguments);
+
+        case RunCommand.COMMAND_WORD:
+            return new RunCommandParser().parse(arguments);
+
+        case MergeCommand.COMMAND_WORD:
+            return new MergeCommandParser().parse(arguments);
+
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand(history);
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand(history);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
     }
 
+    /**
+     * Parses user input that may still be being typed into the predicate of the persons it would list, if it is
+     * a complete {@code find} or {@code list} command. Nothing is executed.
+     *
+     * @param userInput full user input string
+     * @return the predicate, or an empty {@code Optional} if the input is not such a command
+     */
+    public Optional<Predicate<Person>> parseFilter(String userInput) {
+        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+
+        final String commandWord = matcher.group("commandWord");
+        final String arguments = matcher.group("arguments");
+        try {
+            switch (commandWord) {
+
+            case FindCommand.COMMAND_WORD:
+                return Optional.of(new FindCommandParser().parse(arguments).getPredicate());
+
+            case ListCommand.COMMAND_WORD:
+                return Optional.of(new ListCommandParser().parse(arguments).getPredicate());
+
+            default:
+                return Optional.empty();
+            }
+        } catch (ParseException pe) {
+            return Optional.empty();
+        }
+    }
+
 }
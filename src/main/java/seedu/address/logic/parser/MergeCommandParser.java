@@ -0,0 +1,52 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_KEEP;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.logic.commands.MergeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.AddressBookFileMerge.Resolution;
+
+/**
+ * Parses input arguments and creates a new MergeCommand object
+ */
+public class MergeCommandParser implements Parser<MergeCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MergeCommand
+     * and returns a MergeCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MergeCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_KEEP);
+        String filePath = argMultimap.getPreamble();
+        if (filePath.isEmpty() || argMultimap.getAllValues(PREFIX_KEEP).size() > 1) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE));
+        }
+        Resolution resolution = parseResolution(argMultimap.getValue(PREFIX_KEEP));
+        try {
+            return new MergeCommand(Paths.get(filePath), resolution);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE),
+                    ipe);
+        }
+    }
+
+    private static Resolution parseResolution(Optional<String> keep) throws ParseException {
+        if (keep.isEmpty()) {
+            return Resolution.NONE;
+        } else if (keep.get().equalsIgnoreCase(MergeCommand.KEEP_HERE)) {
+            return Resolution.KEEP_OURS;
+        } else if (keep.get().equalsIgnoreCase(MergeCommand.KEEP_THERE)) {
+            return Resolution.KEEP_THEIRS;
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE));
+    }
+}
@@ -19,6 +19,7 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Gender;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.Recurrence;
 import seedu.address.model.person.Uid;
 import seedu.address.model.tag.Tag;
 
@@ -120,6 +121,34 @@ public class ParserUtil {
         return dateTimeSlotList;
     }
 
+    /**
+     * Parses a {@code String recurrence} into a {@code Recurrence}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code recurrence} is invalid.
+     */
+    public static Recurrence parseRecurrence(String recurrence) throws ParseException {
+        requireNonNull(recurrence);
+        String trimmedRecurrence = recurrence.trim();
+
+        if (!Recurrence.isValidRecurrence(trimmedRecurrence)) {
+            throw new ParseException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+        return new Recurrence(trimmedRecurrence);
+    }
+
+    /**
+     * Parses {@code Collection<String> recurrences} into a {@code List<Recurrence>}.
+     */
+    public static List<Recurrence> parseRecurrences(Collection<String> recurrences) throws ParseException {
+        requireNonNull(recurrences);
+        List<Recurrence> recurrenceList = new ArrayList<>();
+        for (String recurrence : recurrences) {
+            recurrenceList.add(parseRecurrence(recurrence));
+        }
+        return recurrenceList;
+    }
+
     /**
      * Parses a {@code String date} into a {@code Date}.
      * Leading and trailing whitespaces will be trimmed.
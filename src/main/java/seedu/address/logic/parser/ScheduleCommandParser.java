@@ -0,0 +1,100 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE_AND_SLOT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_VISIT_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEEK;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.schedule.ScheduleEntry.VisitStatus;
+
+/**
+ * Parses input arguments and creates a new ScheduleCommand object
+ */
+public class ScheduleCommandParser implements Parser<ScheduleCommand> {
+
+    public static final String MESSAGE_INVALID_STATUS = "Visit status should be one of: open, assigned, visited, "
+            + "failed";
+
+    public static final String MESSAGE_INVALID_RANGE = "The end date should not be before the start date.";
+
+    private static final int SLOT_DURATION_IN_HOURS = 2;
+
+    /**
+     * Returns the number of the given prefixes that are present in the given {@code ArgumentMultimap}.
+     */
+    private static long countPrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).filter(prefix -> argumentMultimap.getValue(prefix).isPresent()).count();
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ScheduleCommand
+     * and returns a ScheduleCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ScheduleCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE_AND_SLOT, PREFIX_DAY,
+                PREFIX_WEEK, PREFIX_FROM_DATE, PREFIX_TO_DATE, PREFIX_VISIT_STATUS);
+
+        boolean isRange = argMultimap.getValue(PREFIX_FROM_DATE).isPresent()
+                && argMultimap.getValue(PREFIX_TO_DATE).isPresent();
+        boolean isHalfRange = argMultimap.getValue(PREFIX_FROM_DATE).isPresent()
+                != argMultimap.getValue(PREFIX_TO_DATE).isPresent();
+        long periodCount = countPrefixesPresent(argMultimap, PREFIX_DATE_AND_SLOT, PREFIX_DAY, PREFIX_WEEK)
+                + (isRange ? 1 : 0);
+        if (periodCount != 1 || isHalfRange || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE));
+        }
+
+        Optional<VisitStatus> status = Optional.empty();
+        if (argMultimap.getValue(PREFIX_VISIT_STATUS).isPresent()) {
+            status = Optional.of(parseVisitStatus(argMultimap.getValue(PREFIX_VISIT_STATUS).get()));
+        }
+
+        if (argMultimap.getValue(PREFIX_DATE_AND_SLOT).isPresent()) {
+            LocalDateTime slot = ParserUtil.parseDateSlot(argMultimap.getValue(PREFIX_DATE_AND_SLOT).get())
+                    .getDateTime();
+            return new ScheduleCommand(slot, slot.plusHours(SLOT_DURATION_IN_HOURS), status);
+        }
+        if (argMultimap.getValue(PREFIX_DAY).isPresent()) {
+            LocalDate day = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DAY).get()).getDate();
+            return new ScheduleCommand(day.atStartOfDay(), day.plusDays(1).atStartOfDay(), status);
+        }
+        if (argMultimap.getValue(PREFIX_WEEK).isPresent()) {
+            LocalDate day = ParserUtil.parseDate(argMultimap.getValue(PREFIX_WEEK).get()).getDate();
+            LocalDate monday = day.minusDays(day.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue());
+            return new ScheduleCommand(monday.atStartOfDay(), monday.plusWeeks(1).atStartOfDay(), status);
+        }
+
+        LocalDate from = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM_DATE).get()).getDate();
+        LocalDate to = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO_DATE).get()).getDate();
+        if (to.isBefore(from)) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        return new ScheduleCommand(from.atStartOfDay(), to.plusDays(1).atStartOfDay(), status);
+    }
+
+    private static VisitStatus parseVisitStatus(String status) throws ParseException {
+        String trimmedStatus = status.trim().toUpperCase(Locale.ROOT);
+        for (VisitStatus visitStatus : VisitStatus.values()) {
+            if (visitStatus.name().equals(trimmedStatus)) {
+                return visitStatus;
+            }
+        }
+        throw new ParseException(MESSAGE_INVALID_STATUS);
+    }
+}
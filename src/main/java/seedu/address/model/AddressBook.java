@@ -1,21 +1,62 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.completion.CompletionIndex;
+import seedu.address.model.event.ModelEventBus;
+import seedu.address.model.event.PersonAddedEvent;
+import seedu.address.model.event.PersonChangesCompletedEvent;
+import seedu.address.model.event.PersonFieldsChangedEvent;
+import seedu.address.model.event.PersonRemovedEvent;
+import seedu.address.model.event.PersonsResetEvent;
+import seedu.address.model.person.Nurse;
+import seedu.address.model.person.Patient;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Uid;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.schedule.ScheduleEntry;
+import seedu.address.model.schedule.ScheduleIndex;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * <p>
+ * Once given a replica id, the address book also records the version of each person it adds, edits or removes,
+ * so that the copy can later be merged with another copy of it. Marking passed visits and expanding recurring
+ * visits are not recorded, since every copy makes them by itself.
+ * <p>
+ * Every change to the person list is published on the address book's {@link ModelEventBus}, which keeps the
+ * uid lookup and the indexes in step with the list. The changes of each operation are followed by a
+ * {@link PersonChangesCompletedEvent}.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final ModelEventBus events;
+    private final ScheduleIndex schedule;
+    private final Map<Long, Person> personsByUid;
+    private final Map<Long, VersionVector> personVersions;
+    private String replicaId;
+    // Built the first time completions are asked for, since most address books are never used for them.
+    private CompletionIndex completions;
 
     /*
      * The 'unusual' code block below is a non-static initialization block,
@@ -29,6 +70,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        events = new ModelEventBus();
+        schedule = new ScheduleIndex();
+        personsByUid = new HashMap<>();
+        personVersions = new HashMap<>();
+        schedule.subscribeTo(events);
+        subscribeUidLookup();
     }
 
     public AddressBook() {
@@ -50,6 +97,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        events.publish(new PersonsResetEvent(persons));
+        events.publish(new PersonChangesCompletedEvent());
     }
 
     /**
@@ -59,6 +108,23 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(newData);
 
         setPersons(newData.getPersonList());
+        setPersonVersions(newData.getPersonVersions());
+    }
+
+    /**
+     * Replaces the recorded versions of the persons with {@code personVersions}.
+     */
+    public void setPersonVersions(Map<Long, VersionVector> personVersions) {
+        requireNonNull(personVersions);
+        this.personVersions.clear();
+        this.personVersions.putAll(personVersions);
+    }
+
+    /**
+     * Sets the id of the copy of the address book the changes are made in, or null to stop recording versions.
+     */
+    public void setReplicaId(String replicaId) {
+        this.replicaId = replicaId;
     }
 
     //// person-level operations
@@ -90,12 +156,24 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.findSimilarPerson(person);
     }
 
+    /**
+     * Returns the person with the uid {@code uid}, if any.
+     * The lookup does not scan the person list.
+     */
+    public Optional<Person> getPerson(Uid uid) {
+        requireNonNull(uid);
+        return Optional.ofNullable(personsByUid.get(uid.getUid()));
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        events.publish(new PersonAddedEvent(p));
+        events.publish(new PersonChangesCompletedEvent());
+        recordChange(p);
     }
 
     /**
@@ -106,9 +184,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      * existing person in the address book.
      */
     public void setPerson(Person target, Person editedPerson) {
+        replacePerson(target, editedPerson);
+        events.publish(new PersonChangesCompletedEvent());
+        recordChange(editedPerson);
+    }
+
+    private void replacePerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        events.publish(new PersonFieldsChangedEvent(target, editedPerson));
     }
 
     /**
@@ -117,6 +202,260 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        events.publish(new PersonRemovedEvent(key));
+        events.publish(new PersonChangesCompletedEvent());
+        recordChange(key);
+    }
+
+    /**
+     * Makes the given {@code changes}, in order, as a single change to the person list.
+     * A replaced person keeps its position and added persons go to the end, as if each change were made on its
+     * own, and the change to the list reports only those positions. Finding the positions takes at most one pass
+     * over the person list, so the cost of the listeners of the list is proportional to the number of changes.
+     * Either every change is made or, if one of them cannot be made, none are.
+     *
+     * @throws PersonNotFoundException if a person removed or replaced is not in the address book.
+     * @throws DuplicatePersonException if a person added, or a replacement, has the same identity as another
+     *     person in the address book.
+     */
+    public void applyChanges(List<PersonChange> changes) {
+        requireNonNull(changes);
+        List<Person> currentPersons = persons.asUnmodifiableObservableList();
+        int size = currentPersons.size();
+        Map<Long, Integer> positions = findPositions(changes, currentPersons);
+        // The person at each changed position once the changes are made, or null if there is none any more.
+        // Positions from the size of the list on are those of the added persons.
+        TreeMap<Integer, Person> changedPositions = new TreeMap<>();
+        int addedCount = 0;
+
+        for (PersonChange change : changes) {
+            Integer position = null;
+            if (change.getBefore().isPresent()) {
+                Person before = change.getBefore().get();
+                position = positions.remove(before.getUid().getUid());
+                Person current = position == null ? null
+                        : changedPositions.containsKey(position) ? changedPositions.get(position)
+                        : currentPersons.get(position);
+                if (!before.equals(current)) {
+                    throw new PersonNotFoundException();
+                }
+                changedPositions.put(position, null);
+            }
+            if (change.getAfter().isPresent()) {
+                Person after = change.getAfter().get();
+                if (positions.containsKey(after.getUid().getUid())) {
+                    throw new DuplicatePersonException();
+                }
+                if (position == null) {
+                    position = size + addedCount++;
+                }
+                changedPositions.put(position, after);
+                positions.put(after.getUid().getUid(), position);
+            }
+        }
+
+        persons.updateUniquePersons(list -> {
+            changedPositions.headMap(size).forEach((position, person) -> {
+                if (person != null) {
+                    list.set(position, person);
+                }
+            });
+            changedPositions.tailMap(size).values().stream().filter(Objects::nonNull).forEach(list::add);
+            changedPositions.headMap(size, false).descendingMap().forEach((position, person) -> {
+                if (person == null) {
+                    list.remove((int) position);
+                }
+            });
+        });
+        for (PersonChange change : changes) {
+            if (change.isAddition()) {
+                events.publish(new PersonAddedEvent(change.getAfter().get()));
+            } else if (change.isRemoval()) {
+                events.publish(new PersonRemovedEvent(change.getBefore().get()));
+            } else {
+                events.publish(new PersonFieldsChangedEvent(change.getBefore().get(), change.getAfter().get()));
+            }
+            change.getBefore().or(change::getAfter).ifPresent(this::recordChange);
+        }
+        events.publish(new PersonChangesCompletedEvent());
+    }
+
+    /**
+     * Returns the positions in {@code currentPersons} of the persons that {@code changes} remove, replace or add
+     * with a uid already in the address book, by their uids.
+     */
+    private Map<Long, Integer> findPositions(List<PersonChange> changes, List<Person> currentPersons) {
+        Set<Long> uids = new HashSet<>();
+        for (PersonChange change : changes) {
+            change.getBefore().ifPresent(person -> uids.add(person.getUid().getUid()));
+            change.getAfter().ifPresent(person -> uids.add(person.getUid().getUid()));
+        }
+        uids.retainAll(personsByUid.keySet());
+
+        Map<Long, Integer> positions = new HashMap<>();
+        for (int i = 0; i < currentPersons.size() && positions.size() < uids.size(); i++) {
+            Long uid = currentPersons.get(i).getUid().getUid();
+            if (uids.contains(uid)) {
+                positions.put(uid, i);
+            }
+        }
+        return positions;
+    }
+
+    private void subscribeUidLookup() {
+        events.subscribe(PersonsResetEvent.class, event -> {
+            personsByUid.clear();
+            event.getPersons().forEach(person -> personsByUid.put(person.getUid().getUid(), person));
+        });
+        events.subscribe(PersonAddedEvent.class, event ->
+                personsByUid.put(event.getPerson().getUid().getUid(), event.getPerson()));
+        events.subscribe(PersonRemovedEvent.class, event ->
+                personsByUid.remove(event.getPerson().getUid().getUid()));
+        events.subscribe(PersonFieldsChangedEvent.class, event -> {
+            personsByUid.remove(event.getBefore().getUid().getUid());
+            personsByUid.put(event.getAfter().getUid().getUid(), event.getAfter());
+        });
+    }
+
+    /**
+     * Returns the bus the changes to the persons of this address book are published on.
+     */
+    public ModelEventBus getEventBus() {
+        return events;
+    }
+
+    //// version operations
+
+    /**
+     * Returns the version of the person with the uid {@code uid}, which may have been removed, or an empty
+     * version if the person was never changed in any copy of the address book.
+     */
+    public VersionVector getPersonVersion(Uid uid) {
+        requireNonNull(uid);
+        return personVersions.getOrDefault(uid.getUid(), VersionVector.EMPTY);
+    }
+
+    /**
+     * Records that the person with the uid {@code uid} has seen the changes of {@code version} too, such as after
+     * taking the person from another copy of the address book.
+     */
+    public void mergePersonVersion(Uid uid, VersionVector version) {
+        requireAllNonNull(uid, version);
+        if (!version.isEmpty()) {
+            personVersions.merge(uid.getUid(), version, VersionVector::merge);
+        }
+    }
+
+    /**
+     * Records a change to {@code person} made in this copy of the address book.
+     */
+    private void recordChange(Person person) {
+        if (replicaId != null) {
+            personVersions.merge(person.getUid().getUid(), VersionVector.EMPTY.increment(replicaId),
+                    (version, unused) -> version.increment(replicaId));
+        }
+    }
+
+    @Override
+    public Map<Long, VersionVector> getPersonVersions() {
+        return Collections.unmodifiableMap(personVersions);
+    }
+
+    //// schedule operations
+
+    /**
+     * Returns the home visits with slot times in [{@code start}, {@code end}), in chronological order.
+     */
+    public List<ScheduleEntry> getScheduleEntries(LocalDateTime start, LocalDateTime end) {
+        return schedule.getEntriesBetween(start, end);
+    }
+
+    /**
+     * Returns the home visits assigned to the nurse with {@code nurseUidNo} with slot times in [{@code start},
+     * {@code end}), in chronological order.
+     */
+    public List<ScheduleEntry> getNurseScheduleEntries(Long nurseUidNo, LocalDateTime start, LocalDateTime end) {
+        return schedule.getNurseEntriesBetween(nurseUidNo, start, end);
+    }
+
+    /**
+     * Marks every home visit with a slot time before {@code currentDateTime} as visited.
+     * Only the patients and nurses of those visits are replaced.
+     *
+     * @return the number of home visits marked.
+     */
+    public int markPassedVisits(LocalDateTime currentDateTime) {
+        requireNonNull(currentDateTime);
+        List<ScheduleEntry> passedEntries = schedule.getPendingEntriesBefore(currentDateTime);
+        if (passedEntries.isEmpty()) {
+            return 0;
+        }
+        Set<Long> affectedUids = new HashSet<>();
+        for (ScheduleEntry entry : passedEntries) {
+            affectedUids.add(entry.getPatientUidNo());
+            if (entry.hasNurse()) {
+                affectedUids.add(entry.getNurseUidNo());
+            }
+        }
+        List<Person> affectedPersons = affectedUids.stream().map(personsByUid::get).filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        for (Person person : affectedPersons) {
+            if (person instanceof Patient) {
+                replacePerson(person, ((Patient) person).withPassedDateSlotsVisited(currentDateTime));
+            } else if (person instanceof Nurse) {
+                replacePerson(person, ((Nurse) person).withPassedHomeVisitsVisited(currentDateTime));
+            }
+        }
+        events.publish(new PersonChangesCompletedEvent());
+        return passedEntries.size();
+    }
+
+    /**
+     * Expands the recurring home visits of every patient into date slots up to {@code horizonEnd}.
+     *
+     * @return the number of patients updated.
+     */
+    public int expandRecurringVisits(LocalDateTime currentDateTime, LocalDate horizonEnd) {
+        requireAllNonNull(currentDateTime, horizonEnd);
+        List<Patient> recurringPatients = persons.asUnmodifiableObservableList().stream()
+                .filter(person -> person instanceof Patient)
+                .map(person -> (Patient) person)
+                .filter(patient -> !patient.getRecurrences().isEmpty())
+                .collect(Collectors.toList());
+        int updatedPatients = 0;
+        for (Patient patient : recurringPatients) {
+            Patient expandedPatient = patient.withRecurringVisitsExpanded(currentDateTime, horizonEnd);
+            if (expandedPatient != patient) {
+                replacePerson(patient, expandedPatient);
+                updatedPatients++;
+            }
+        }
+        if (updatedPatients > 0) {
+            events.publish(new PersonChangesCompletedEvent());
+        }
+        return updatedPatients;
+    }
+
+    /**
+     * Returns up to {@code limit} home visits that have not taken place, with slot times at or after
+     * {@code from}, in chronological order.
+     */
+    public List<ScheduleEntry> getUpcomingScheduleEntries(LocalDateTime from, int limit) {
+        return schedule.getUpcomingEntries(from, limit);
+    }
+
+    //// completion operations
+
+    /**
+     * Returns the index of the terms of the persons to complete as commands are typed, building it the first time.
+     */
+    public CompletionIndex getCompletionIndex() {
+        if (completions == null) {
+            completions = new CompletionIndex();
+            completions.reset(persons.asUnmodifiableObservableList());
+            completions.subscribeTo(events);
+        }
+        return completions;
     }
 
     //// util methods
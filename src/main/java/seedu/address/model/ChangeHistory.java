@@ -0,0 +1,164 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * The changes made by recent commands, for undoing and redoing them.
+ * <p>
+ * Each command is recorded as the changes it made to each person it changed, not as a copy of the address book,
+ * so undoing or redoing it only touches those persons. The persons are immutable and shared with the model, so
+ * a recorded person only takes up memory of its own once the model no longer holds it.
+ * <p>
+ * The history is bounded both by the number of commands and by the number of person states they hold, which is
+ * what a command's memory grows with. The oldest commands are dropped first once either is exceeded, and a
+ * command that holds more person states than the whole budget, such as clearing a large address book, is not
+ * kept at all.
+ * <p>
+ * Not thread-safe: it is meant to be used by one command at a time.
+ */
+public class ChangeHistory {
+
+    public static final int DEFAULT_CAPACITY = 100;
+    public static final int DEFAULT_PERSON_BUDGET = 20_000;
+
+    private static final Logger logger = LogsCenter.getLogger(ChangeHistory.class);
+
+    private final int capacity;
+    private final int personBudget;
+    private final Deque<Entry> undoEntries = new ArrayDeque<>();
+    private final Deque<Entry> redoEntries = new ArrayDeque<>();
+    private int personCount = 0;
+
+    /**
+     * Creates an empty history with the default capacity and person budget.
+     */
+    public ChangeHistory() {
+        this(DEFAULT_CAPACITY, DEFAULT_PERSON_BUDGET);
+    }
+
+    /**
+     * Creates an empty history that keeps at most {@code capacity} commands, holding at most
+     * {@code personBudget} person states between them.
+     */
+    public ChangeHistory(int capacity, int personBudget) {
+        assert capacity > 0 && personBudget > 0;
+        this.capacity = capacity;
+        this.personBudget = personBudget;
+    }
+
+    /**
+     * Records the {@code changes} made by the command {@code commandText} as the latest command to undo, and
+     * forgets the commands that were undone before it.
+     */
+    public void record(String commandText, List<PersonChange> changes) {
+        requireAllNonNull(commandText, changes);
+        if (changes.isEmpty()) {
+            return;
+        }
+        redoEntries.forEach(entry -> personCount -= entry.getPersonCount());
+        redoEntries.clear();
+
+        Entry entry = new Entry(commandText, changes);
+        undoEntries.addLast(entry);
+        personCount += entry.getPersonCount();
+        while (!undoEntries.isEmpty() && (undoEntries.size() > capacity || personCount > personBudget)) {
+            personCount -= undoEntries.removeFirst().getPersonCount();
+        }
+        if (undoEntries.isEmpty()) {
+            logger.info("Changes of \"" + commandText + "\" are too large to be undone");
+        }
+    }
+
+    /**
+     * Returns the latest command that can be undone, if any.
+     */
+    public Optional<Entry> peekUndo() {
+        return Optional.ofNullable(undoEntries.peekLast());
+    }
+
+    /**
+     * Returns the latest command that was undone and can be redone, if any.
+     */
+    public Optional<Entry> peekRedo() {
+        return Optional.ofNullable(redoEntries.peekLast());
+    }
+
+    /**
+     * Records that the command returned by {@link #peekUndo()} was undone, so that it can be redone.
+     */
+    public void markUndone() {
+        Entry entry = undoEntries.removeLast();
+        redoEntries.addLast(entry);
+    }
+
+    /**
+     * Records that the command returned by {@link #peekRedo()} was redone, so that it can be undone again.
+     */
+    public void markRedone() {
+        Entry entry = redoEntries.removeLast();
+        undoEntries.addLast(entry);
+    }
+
+    /**
+     * Returns the number of person states held by the commands in this history.
+     */
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    /**
+     * The changes made by one command.
+     */
+    public static class Entry {
+        private final String commandText;
+        private final List<PersonChange> changes;
+        private final int personCount;
+
+        private Entry(String commandText, List<PersonChange> changes) {
+            requireNonNull(changes);
+            this.commandText = commandText;
+            this.changes = Collections.unmodifiableList(new ArrayList<>(changes));
+            this.personCount = (int) changes.stream()
+                    .mapToLong(change -> (change.getBefore().isPresent() ? 1 : 0)
+                            + (change.getAfter().isPresent() ? 1 : 0))
+                    .sum();
+        }
+
+        public String getCommandText() {
+            return commandText;
+        }
+
+        /**
+         * Returns the changes the command made.
+         */
+        public List<PersonChange> getChanges() {
+            return changes;
+        }
+
+        /**
+         * Returns the changes that undo the command, latest first.
+         */
+        public List<PersonChange> getInverseChanges() {
+            List<PersonChange> inverseChanges = new ArrayList<>(changes.size());
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                inverseChanges.add(changes.get(i).inverse());
+            }
+            return inverseChanges;
+        }
+
+        public int getPersonCount() {
+            return personCount;
+        }
+    }
+}
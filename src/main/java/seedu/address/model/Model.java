@@ -1,12 +1,20 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.completion.CompletionIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Uid;
+import seedu.address.model.schedule.ScheduleEntry;
 
 /**
  * The API of the Model component.
@@ -17,6 +25,16 @@ public interface Model {
      */
     Predicate<Person> PREDICATE_SHOW_ALL_PERSONS = unused -> true;
 
+    /**
+     * Number of visits shown in the upcoming visit list.
+     */
+    int UPCOMING_VISIT_LIST_SIZE = 10;
+
+    /**
+     * How far ahead of today recurring home visits are expanded into date slots.
+     */
+    Period RECURRING_VISIT_HORIZON = Period.ofWeeks(4);
+
     /**
      * Returns the user prefs.
      */
@@ -75,6 +93,11 @@ public interface Model {
      */
     Optional<Person> findSimilarPerson(Person person);
 
+    /**
+     * Returns the person with the given {@code uid}, if any.
+     */
+    Optional<Person> getPerson(Uid uid);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -95,6 +118,24 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Makes the given {@code changes}, in order, as one update of the person list.
+     * Either every change is made or, if one of them cannot be made, none are.
+     */
+    void applyChanges(List<PersonChange> changes);
+
+    /**
+     * Returns the version of the person with the given {@code uid}, which may have been removed.
+     *
+     * @see ReadOnlyAddressBook#getPersonVersions()
+     */
+    VersionVector getPersonVersion(Uid uid);
+
+    /**
+     * Records that the person with the given {@code uid} has seen the changes of {@code version} too.
+     */
+    void mergePersonVersion(Uid uid, VersionVector version);
+
     /**
      * Returns an unmodifiable view of the filtered person list
      */
@@ -108,4 +149,95 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Returns the home visits of all patients with slot times in [{@code start}, {@code end}),
+     * in chronological order.
+     */
+    List<ScheduleEntry> getScheduleEntries(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Returns the home visits assigned to the nurse with {@code nurseUidNo} with slot times in [{@code start},
+     * {@code end}), in chronological order.
+     */
+    List<ScheduleEntry> getNurseScheduleEntries(Long nurseUidNo, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Returns the next {@code count} home visits that have not taken place, in chronological order.
+     */
+    List<ScheduleEntry> getUpcomingVisits(int count);
+
+    /**
+     * Returns an unmodifiable view of the next {@link #UPCOMING_VISIT_LIST_SIZE} home visits that have not taken
+     * place, kept up to date as the address book changes.
+     */
+    ObservableList<ScheduleEntry> getUpcomingVisitList();
+
+    /**
+     * Marks every home visit whose slot time has passed, according to the app clock, as visited.
+     *
+     * @return the number of home visits marked.
+     */
+    int markPassedVisits();
+
+    /**
+     * Expands the recurring home visits of every patient into date slots up to
+     * {@link #RECURRING_VISIT_HORIZON} after today, according to the app clock.
+     * Does nothing if the horizon has not moved since the last expansion.
+     *
+     * @return the number of patients updated.
+     */
+    int expandRecurringVisits();
+
+    /**
+     * Returns the index of the UIDs, name words and tags of the persons, for completing them as commands are
+     * typed. It is kept up to date as persons change, and like the rest of the model, must only be used by the
+     * thread that changes it.
+     */
+    CompletionIndex getCompletionIndex();
+
+    /**
+     * Returns the latest immutable snapshot of the persons in this model.
+     * Unlike the rest of the model, this can be called from any thread; the snapshot is replaced, never changed,
+     * after each change to the address book.
+     */
+    ModelSnapshot getSnapshot();
+
+    /**
+     * Returns a copy-on-write fork of this model that commands can be run against without affecting this model.
+     * Forking takes constant time; persons are only copied into the fork when they are changed in it.
+     */
+    ModelFork fork();
+
+    /**
+     * Runs {@code operation} on a fork of this model and then makes its changes to this model in one step,
+     * so that the person list is updated and re-filtered once however many persons the operation changes.
+     * If the operation throws, none of its changes are made.
+     *
+     * @return the changes made.
+     * @throws E if the operation throws.
+     */
+    default <E extends Exception> List<PersonChange> batch(BatchOperation<E> operation) throws E {
+        requireNonNull(operation);
+        ModelFork fork = fork();
+        try {
+            operation.execute(fork);
+            List<PersonChange> changes = fork.getChanges();
+            fork.commit();
+            return changes;
+        } finally {
+            if (!fork.isClosed()) {
+                fork.discard();
+            }
+        }
+    }
+
+    /**
+     * A group of changes to a {@code Model} that are made together by {@link Model#batch(BatchOperation)}.
+     *
+     * @param <E> the type of exception the operation may throw.
+     */
+    @FunctionalInterface
+    interface BatchOperation<E extends Exception> {
+        void execute(Model model) throws E;
+    }
 }
@@ -0,0 +1,643 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.AppClock;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.completion.CompletionIndex;
+import seedu.address.model.exceptions.ForkConflictException;
+import seedu.address.model.person.DateSlot;
+import seedu.address.model.person.HomeVisit;
+import seedu.address.model.person.Nurse;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Uid;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.schedule.ScheduleEntry;
+
+/**
+ * A copy-on-write fork of a {@code Model}, for trying out changes before making them.
+ * Creating a fork takes constant time: the fork reads through to the model it was forked from and only records
+ * the persons that are added, replaced or removed in it. Its person list is built the first time it is read and
+ * shares every unchanged person with the base model.
+ * The changes can be listed with {@link #getChanges()}, and are then either made to the base model in one step
+ * with {@link #commit()} or dropped with {@link #discard()}.
+ * User preferences are not part of the fork and are read from and written to the base model.
+ */
+public class ModelFork implements Model {
+
+    public static final String MESSAGE_CLOSED = "This fork has already been committed or discarded.";
+    public static final String MESSAGE_CONFLICT = "%1$s [Uid:%2$s] was changed after the fork was created.";
+
+    private final Model base;
+    private final Map<Long, Person> originalPersons = new LinkedHashMap<>();
+    private final Map<Long, Person> changedPersons = new HashMap<>();
+    private final Map<Uid, VersionVector> mergedVersions = new LinkedHashMap<>();
+    private Predicate<? super Person> predicate;
+    private Predicate<Person> updatedPredicate;
+    private ObservableList<Person> persons;
+    private ObservableList<Person> unmodifiablePersons;
+    private ParallelFilteredList<Person> filteredPersons;
+    private ObservableList<ScheduleEntry> upcomingVisits;
+    private boolean isClosed = false;
+
+    /**
+     * Creates a fork of {@code base} that shows the same persons with the same filter.
+     */
+    ModelFork(Model base) {
+        requireNonNull(base);
+        this.base = base;
+        ObservableList<Person> baseFilteredPersons = base.getFilteredPersonList();
+        if (baseFilteredPersons instanceof ParallelFilteredList) {
+            predicate = ((ParallelFilteredList<Person>) baseFilteredPersons).getPredicate();
+        }
+    }
+
+    //=========== Fork ===============================================================================
+
+    /**
+     * Returns the changes made in this fork, in the order the persons were first changed.
+     * A person that is changed more than once appears once, going from its state in the base model to its
+     * latest state.
+     */
+    public List<PersonChange> getChanges() {
+        List<PersonChange> changes = new ArrayList<>();
+        for (Map.Entry<Long, Person> original : originalPersons.entrySet()) {
+            Person changed = changedPersons.get(original.getKey());
+            if (original.getValue() != changed) {
+                changes.add(new PersonChange(Optional.ofNullable(original.getValue()), Optional.ofNullable(changed)));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Makes the changes of this fork to the base model, and closes this fork.
+     * The changes are made with a single {@link Model#applyChanges(List)}, and the filter of the base model is
+     * updated if the filter of this fork was.
+     * Either every change is made or, if the base model rejects one of them, none are.
+     *
+     * @throws ForkConflictException if a person changed in this fork was also changed in the base model after
+     *     this fork was created.
+     */
+    public void commit() {
+        checkOpen();
+        List<PersonChange> changes = getChanges();
+        for (PersonChange change : changes) {
+            checkUnchangedInBase(change);
+        }
+
+        List<PersonChange> orderedChanges = new ArrayList<>();
+        changes.stream().filter(PersonChange::isRemoval).forEach(orderedChanges::add);
+        changes.stream().filter(change -> !change.isRemoval() && !change.isAddition()).forEach(orderedChanges::add);
+        changes.stream().filter(PersonChange::isAddition).forEach(orderedChanges::add);
+
+        base.applyChanges(orderedChanges);
+        mergedVersions.forEach(base::mergePersonVersion);
+        if (updatedPredicate != null) {
+            base.updateFilteredPersonList(updatedPredicate);
+        }
+        close();
+    }
+
+    /**
+     * Drops the changes of this fork, and closes this fork. The base model is not affected.
+     */
+    public void discard() {
+        checkOpen();
+        close();
+    }
+
+    public boolean isClosed() {
+        return isClosed;
+    }
+
+    private void checkUnchangedInBase(PersonChange change) {
+        if (!change.isCurrentIn(base)) {
+            Person person = change.getBefore().orElseGet(() -> change.getAfter().get());
+            throw new ForkConflictException(String.format(MESSAGE_CONFLICT, person.getCategoryIndicator(),
+                    person.getUid()));
+        }
+    }
+
+    private void checkOpen() {
+        if (isClosed) {
+            throw new IllegalStateException(MESSAGE_CLOSED);
+        }
+    }
+
+    private void close() {
+        isClosed = true;
+        originalPersons.clear();
+        changedPersons.clear();
+        mergedVersions.clear();
+        persons = null;
+        unmodifiablePersons = null;
+        filteredPersons = null;
+    }
+
+    //=========== UserPrefs ==========================================================================
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        return base.getUserPrefs();
+    }
+
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        base.setUserPrefs(userPrefs);
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return base.getGuiSettings();
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        base.setGuiSettings(guiSettings);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return base.getAddressBookFilePath();
+    }
+
+    @Override
+    public void setAddressBookFilePath(Path addressBookFilePath) {
+        base.setAddressBookFilePath(addressBookFilePath);
+    }
+
+    //=========== AddressBook ========================================================================
+
+    /**
+     * {@inheritDoc}
+     * The versions of the persons are those the base model will have once the changes of this fork are committed.
+     */
+    @Override
+    public ReadOnlyAddressBook getAddressBook() {
+        getPersons();
+        ObservableList<Person> personList = unmodifiablePersons;
+        return new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<Person> getPersonList() {
+                return personList;
+            }
+
+            @Override
+            public Map<Long, VersionVector> getPersonVersions() {
+                return getCommittedVersions();
+            }
+        };
+    }
+
+    private Map<Long, VersionVector> getCommittedVersions() {
+        checkOpen();
+        Map<Long, VersionVector> versions = new HashMap<>(base.getAddressBook().getPersonVersions());
+        String replicaId = base.getUserPrefs().getReplicaId();
+        if (replicaId != null) {
+            for (PersonChange change : getChanges()) {
+                Person person = change.getBefore().or(change::getAfter).get();
+                versions.merge(person.getUid().getUid(), VersionVector.EMPTY.increment(replicaId),
+                        (version, unused) -> version.increment(replicaId));
+            }
+        }
+        mergedVersions.forEach((uid, version) -> versions.merge(uid.getUid(), version, VersionVector::merge));
+        return versions;
+    }
+
+    @Override
+    public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        for (Person person : new ArrayList<>(getPersons())) {
+            remove(person);
+        }
+        for (Person person : addressBook.getPersonList()) {
+            add(person);
+        }
+        refreshUpcomingVisits();
+    }
+
+    @Override
+    public boolean hasPerson(Person person) {
+        requireNonNull(person);
+        return getPersons().stream().anyMatch(person::isSamePerson);
+    }
+
+    @Override
+    public boolean hasSimilarPerson(Person person) {
+        requireNonNull(person);
+        return getPersons().stream().anyMatch(person::isSimilarPerson);
+    }
+
+    @Override
+    public Optional<Person> findSimilarPerson(Person person) {
+        requireNonNull(person);
+        return getPersons().stream().filter(person::isSimilarPerson).findFirst();
+    }
+
+    @Override
+    public Optional<Person> getPerson(Uid uid) {
+        requireNonNull(uid);
+        checkOpen();
+        Long uidNo = uid.getUid();
+        if (changedPersons.containsKey(uidNo)) {
+            return Optional.ofNullable(changedPersons.get(uidNo));
+        }
+        return base.getPerson(uid);
+    }
+
+    @Override
+    public VersionVector getPersonVersion(Uid uid) {
+        requireNonNull(uid);
+        checkOpen();
+        return base.getPersonVersion(uid).merge(mergedVersions.getOrDefault(uid, VersionVector.EMPTY));
+    }
+
+    /**
+     * {@inheritDoc}
+     * The version is recorded in the base model when this fork is committed.
+     */
+    @Override
+    public void mergePersonVersion(Uid uid, VersionVector version) {
+        requireAllNonNull(uid, version);
+        checkOpen();
+        mergedVersions.merge(uid, version, VersionVector::merge);
+    }
+
+    @Override
+    public void deletePerson(Person target) {
+        requireNonNull(target);
+        remove(target);
+        refreshUpcomingVisits();
+    }
+
+    @Override
+    public void addPerson(Person person) {
+        requireNonNull(person);
+        add(person);
+        refreshUpcomingVisits();
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The changes are checked against a uid lookup before any is recorded, and the person list is updated once,
+     * so the cost is one pass over the person list plus the number of changes.
+     *
+     * @throws PersonNotFoundException if a person removed or replaced is not in this fork.
+     * @throws DuplicatePersonException if a person added, or a replacement, has the same identity as another
+     *     person in this fork.
+     */
+    @Override
+    public void applyChanges(List<PersonChange> changes) {
+        requireNonNull(changes);
+        checkOpen();
+        Map<Long, Person> initialPersons = new LinkedHashMap<>();
+        Map<Long, Person> stagedPersons = new HashMap<>();
+        for (PersonChange change : changes) {
+            if (change.getBefore().isPresent()) {
+                Person before = change.getBefore().get();
+                Long uidNo = stage(before.getUid(), initialPersons, stagedPersons);
+                if (!before.equals(stagedPersons.get(uidNo))) {
+                    throw new PersonNotFoundException();
+                }
+                stagedPersons.put(uidNo, null);
+            }
+            if (change.getAfter().isPresent()) {
+                Person after = ModelManager.withRecurringVisitsExpanded(change.getAfter().get());
+                Long uidNo = stage(after.getUid(), initialPersons, stagedPersons);
+                if (stagedPersons.get(uidNo) != null) {
+                    throw new DuplicatePersonException();
+                }
+                stagedPersons.put(uidNo, after);
+            }
+        }
+        if (initialPersons.isEmpty()) {
+            return;
+        }
+
+        initialPersons.forEach((uidNo, initial) -> record(uidNo, initial, stagedPersons.get(uidNo)));
+        if (persons != null) {
+            persons.setAll(buildPersons());
+        }
+        refreshUpcomingVisits();
+        if (changes.stream().anyMatch(PersonChange::isAddition)) {
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
+    }
+
+    /**
+     * Adds the person with {@code uid} in this fork, or null if there is none, to {@code initialPersons} and
+     * {@code stagedPersons} unless it is already there, and returns its uid number.
+     */
+    private Long stage(Uid uid, Map<Long, Person> initialPersons, Map<Long, Person> stagedPersons) {
+        Long uidNo = uid.getUid();
+        if (!initialPersons.containsKey(uidNo)) {
+            Person initial = getPerson(uid).orElse(null);
+            initialPersons.put(uidNo, initial);
+            stagedPersons.put(uidNo, initial);
+        }
+        return uidNo;
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        Person storedTarget = getStoredPerson(target);
+        if (!target.isSamePerson(editedPerson) && hasPerson(editedPerson)) {
+            throw new DuplicatePersonException();
+        }
+
+        Person toSet = ModelManager.withRecurringVisitsExpanded(editedPerson);
+        Long targetUidNo = storedTarget.getUid().getUid();
+        Long editedUidNo = toSet.getUid().getUid();
+        if (targetUidNo.equals(editedUidNo)) {
+            record(targetUidNo, storedTarget, toSet);
+        } else {
+            record(targetUidNo, storedTarget, null);
+            record(editedUidNo, null, toSet);
+        }
+        if (persons != null) {
+            persons.set(persons.indexOf(storedTarget), toSet);
+        }
+        refreshUpcomingVisits();
+    }
+
+    private void add(Person person) {
+        if (hasPerson(person)) {
+            throw new DuplicatePersonException();
+        }
+        Person toAdd = ModelManager.withRecurringVisitsExpanded(person);
+        record(toAdd.getUid().getUid(), null, toAdd);
+        persons.add(toAdd);
+    }
+
+    private void remove(Person target) {
+        Person storedTarget = getStoredPerson(target);
+        record(storedTarget.getUid().getUid(), storedTarget, null);
+        if (persons != null) {
+            persons.remove(storedTarget);
+        }
+    }
+
+    /**
+     * Returns the person in this fork that is equal to {@code target}.
+     *
+     * @throws PersonNotFoundException if there is no such person.
+     */
+    private Person getStoredPerson(Person target) {
+        return getPerson(target.getUid()).filter(target::equals).orElseThrow(PersonNotFoundException::new);
+    }
+
+    /**
+     * Records that the person with {@code uidNo} changed from {@code before} to {@code after}, either of which is
+     * null if the person is absent. Only the first {@code before} of each person is kept.
+     */
+    private void record(Long uidNo, Person before, Person after) {
+        if (!originalPersons.containsKey(uidNo)) {
+            originalPersons.put(uidNo, before);
+        }
+        changedPersons.put(uidNo, after);
+    }
+
+    /**
+     * Returns the person list of this fork, building it from the base model on first use.
+     * Unchanged persons are shared with the base model, replaced persons keep their position and added persons
+     * follow the persons of the base model.
+     */
+    private ObservableList<Person> getPersons() {
+        checkOpen();
+        if (persons != null) {
+            return persons;
+        }
+        persons = FXCollections.observableArrayList(buildPersons());
+        unmodifiablePersons = FXCollections.unmodifiableObservableList(persons);
+        filteredPersons = new ParallelFilteredList<>(persons, predicate);
+        return persons;
+    }
+
+    private List<Person> buildPersons() {
+        List<Person> currentPersons = new ArrayList<>();
+        for (Person person : base.getAddressBook().getPersonList()) {
+            Long uidNo = person.getUid().getUid();
+            if (!changedPersons.containsKey(uidNo)) {
+                currentPersons.add(person);
+            } else if (changedPersons.get(uidNo) != null && originalPersons.get(uidNo) != null) {
+                currentPersons.add(changedPersons.get(uidNo));
+            }
+        }
+        for (Map.Entry<Long, Person> original : originalPersons.entrySet()) {
+            Person changed = changedPersons.get(original.getKey());
+            if (original.getValue() == null && changed != null) {
+                currentPersons.add(changed);
+            }
+        }
+        return currentPersons;
+    }
+
+    //=========== Schedule ===========================================================================
+
+    @Override
+    public List<ScheduleEntry> getScheduleEntries(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        checkOpen();
+        List<ScheduleEntry> entries = base.getScheduleEntries(start, end).stream()
+                .filter(entry -> !changedPersons.containsKey(entry.getPatientUidNo()))
+                .collect(Collectors.toList());
+        for (ScheduleEntry entry : getChangedEntries()) {
+            if (!entry.getDateTime().isBefore(start) && entry.getDateTime().isBefore(end)) {
+                entries.add(entry);
+            }
+        }
+        entries.sort(ScheduleEntry.CHRONOLOGICAL_ORDER);
+        return entries;
+    }
+
+    @Override
+    public List<ScheduleEntry> getNurseScheduleEntries(Long nurseUidNo, LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(nurseUidNo, start, end);
+        checkOpen();
+        List<ScheduleEntry> entries = base.getNurseScheduleEntries(nurseUidNo, start, end).stream()
+                .filter(entry -> !changedPersons.containsKey(entry.getPatientUidNo()))
+                .collect(Collectors.toList());
+        for (ScheduleEntry entry : getChangedEntries()) {
+            if (nurseUidNo.equals(entry.getNurseUidNo())
+                    && !entry.getDateTime().isBefore(start) && entry.getDateTime().isBefore(end)) {
+                entries.add(entry);
+            }
+        }
+        entries.sort(ScheduleEntry.CHRONOLOGICAL_ORDER);
+        return entries;
+    }
+
+    @Override
+    public List<ScheduleEntry> getUpcomingVisits(int count) {
+        checkOpen();
+        LocalDateTime now = AppClock.now();
+        int hiddenEntries = 0;
+        for (Person original : originalPersons.values()) {
+            if (original instanceof Patient) {
+                hiddenEntries += ((Patient) original).getDatesSlots().size();
+            }
+        }
+        List<ScheduleEntry> entries = base.getUpcomingVisits(count + hiddenEntries).stream()
+                .filter(entry -> !changedPersons.containsKey(entry.getPatientUidNo()))
+                .collect(Collectors.toList());
+        for (ScheduleEntry entry : getChangedEntries()) {
+            if (entry.isPending() && !entry.getDateTime().isBefore(now)) {
+                entries.add(entry);
+            }
+        }
+        entries.sort(ScheduleEntry.CHRONOLOGICAL_ORDER);
+        return entries.size() > count ? new ArrayList<>(entries.subList(0, count)) : entries;
+    }
+
+    @Override
+    public ObservableList<ScheduleEntry> getUpcomingVisitList() {
+        checkOpen();
+        if (upcomingVisits == null) {
+            upcomingVisits = FXCollections.observableArrayList(getUpcomingVisits(UPCOMING_VISIT_LIST_SIZE));
+        }
+        return FXCollections.unmodifiableObservableList(upcomingVisits);
+    }
+
+    @Override
+    public int markPassedVisits() {
+        LocalDateTime now = AppClock.now();
+        int markedVisits = 0;
+        for (Person person : new ArrayList<>(getPersons())) {
+            if (person instanceof Patient) {
+                long passedSlots = ((Patient) person).getDatesSlots().stream()
+                        .filter(dateSlot -> isPassed(dateSlot, now))
+                        .count();
+                if (passedSlots > 0) {
+                    setPerson(person, ((Patient) person).withPassedDateSlotsVisited(now));
+                    markedVisits += passedSlots;
+                }
+            } else if (person instanceof Nurse) {
+                boolean hasPassedVisits = ((Nurse) person).getHomeVisits().stream()
+                        .map(HomeVisit::getDateSlot)
+                        .anyMatch(dateSlot -> isPassed(dateSlot, now));
+                if (hasPassedVisits) {
+                    setPerson(person, ((Nurse) person).withPassedHomeVisitsVisited(now));
+                }
+            }
+        }
+        return markedVisits;
+    }
+
+    @Override
+    public int expandRecurringVisits() {
+        LocalDateTime now = AppClock.now();
+        LocalDate horizonEnd = AppClock.today().plus(RECURRING_VISIT_HORIZON);
+        int updatedPatients = 0;
+        for (Person person : new ArrayList<>(getPersons())) {
+            if (!(person instanceof Patient)) {
+                continue;
+            }
+            Patient expandedPatient = ((Patient) person).withRecurringVisitsExpanded(now, horizonEnd);
+            if (expandedPatient != person) {
+                setPerson(person, expandedPatient);
+                updatedPatients++;
+            }
+        }
+        return updatedPatients;
+    }
+
+    private static boolean isPassed(DateSlot dateSlot, LocalDateTime now) {
+        return !dateSlot.getHasVisited() && dateSlot.getDateTime().isBefore(now);
+    }
+
+    /**
+     * Returns the schedule entries of the patients changed in this fork.
+     */
+    private List<ScheduleEntry> getChangedEntries() {
+        List<ScheduleEntry> entries = new ArrayList<>();
+        for (Person person : changedPersons.values()) {
+            if (!(person instanceof Patient)) {
+                continue;
+            }
+            Long patientUidNo = person.getUid().getUid();
+            for (DateSlot dateSlot : ((Patient) person).getDatesSlots()) {
+                entries.add(ScheduleEntry.of(dateSlot, patientUidNo));
+            }
+        }
+        return entries;
+    }
+
+    private void refreshUpcomingVisits() {
+        if (upcomingVisits == null) {
+            return;
+        }
+        List<ScheduleEntry> upcoming = getUpcomingVisits(UPCOMING_VISIT_LIST_SIZE);
+        if (!upcoming.equals(upcomingVisits)) {
+            upcomingVisits.setAll(upcoming);
+        }
+    }
+
+    /**
+     * Returns an index of the persons as changed in this fork, built anew on each call. How often each term was
+     * used in the base model is not kept.
+     */
+    @Override
+    public CompletionIndex getCompletionIndex() {
+        checkOpen();
+        CompletionIndex completions = new CompletionIndex();
+        completions.reset(getPersons());
+        return completions;
+    }
+
+    /**
+     * Returns a snapshot of the persons as changed in this fork, numbered as the base model's latest snapshot.
+     */
+    @Override
+    public ModelSnapshot getSnapshot() {
+        checkOpen();
+        return new ModelSnapshot(base.getSnapshot().getVersion(), getPersons());
+    }
+
+    @Override
+    public ModelFork fork() {
+        checkOpen();
+        return new ModelFork(this);
+    }
+
+    //=========== Filtered Person List Accessors =====================================================
+
+    @Override
+    public ObservableList<Person> getFilteredPersonList() {
+        getPersons();
+        return filteredPersons;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The persons are tested here, on the thread running the fork, rather than by the base model when the fork is
+     * committed, which then only looks up the result for each person.
+     */
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        getPersons();
+        this.predicate = predicate;
+        updatedPredicate = filteredPersons.testAhead(persons, predicate);
+        filteredPersons.setPredicate(updatedPredicate);
+    }
+}
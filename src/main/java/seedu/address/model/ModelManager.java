@@ -4,25 +4,58 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.core.AppClock;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.completion.CompletionIndex;
+import seedu.address.model.event.ModelEventBus;
+import seedu.address.model.event.PersonAddedEvent;
+import seedu.address.model.event.PersonFieldsChangedEvent;
+import seedu.address.model.event.PersonRemovedEvent;
+import seedu.address.model.event.PersonsResetEvent;
+import seedu.address.model.person.Patient;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Uid;
+import seedu.address.model.schedule.ScheduleEntry;
 
 /**
  * Represents the in-memory model of the address book data.
+ * <p>
+ * The model has a single writer thread. The person list, its filtered view and the indexes behind them are not
+ * thread-safe, so the first thread to change the model after it is created becomes its writer, and changes from
+ * any other thread are refused. Other threads read the model through {@link #getSnapshot()}, an immutable
+ * snapshot that is replaced after each change. The changes given to {@link #applyChanges(List)}, such as all the
+ * edits of one command, are published in one snapshot, so readers never see only some of them.
  */
 public class ModelManager implements Model {
+    public static final String MESSAGE_NOT_WRITER_THREAD = "The model can only be changed by %1$s, not %2$s";
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final ParallelFilteredList<Person> filteredPersons;
+    private final ObservableList<ScheduleEntry> upcomingVisits = FXCollections.observableArrayList();
+    private final ObservableList<ScheduleEntry> unmodifiableUpcomingVisits = FXCollections
+            .unmodifiableObservableList(upcomingVisits);
+    private LocalDate recurringVisitsExpandedUntil;
+    private volatile ModelSnapshot snapshot;
+    // The changes made to the address book since the last snapshot, unless its persons were all replaced.
+    private final List<PersonChange> unpublishedChanges = new ArrayList<>();
+    private boolean hasPersonsReset;
+    private final AtomicReference<Thread> writerThread = new AtomicReference<>();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -34,7 +67,11 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        this.addressBook.setReplicaId(this.userPrefs.getReplicaId());
+        filteredPersons = new ParallelFilteredList<>(this.addressBook.getPersonList());
+        subscribeUnpublishedChanges();
+        expandRecurringVisitsToHorizon();
+        handleAddressBookChanged();
     }
 
     public ModelManager() {
@@ -53,6 +90,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        addressBook.setReplicaId(this.userPrefs.getReplicaId());
     }
 
     @Override
@@ -85,9 +123,21 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    /**
+     * Returns the bus the changes to the persons of the address book are published on, as they are made, including
+     * the changes of forks once they are committed. The subscribers are called on the thread that owns the model.
+     */
+    public ModelEventBus getEventBus() {
+        return addressBook.getEventBus();
+    }
+
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        checkWriterThread();
         this.addressBook.resetData(addressBook);
+        recurringVisitsExpandedUntil = null;
+        expandRecurringVisitsToHorizon();
+        handleAddressBookChanged();
     }
 
     @Override
@@ -107,21 +157,194 @@ public class ModelManager implements Model {
         return addressBook.findSimilarPerson(person);
     }
 
+    @Override
+    public Optional<Person> getPerson(Uid uid) {
+        requireNonNull(uid);
+        return addressBook.getPerson(uid);
+    }
+
     @Override
     public void deletePerson(Person target) {
+        checkWriterThread();
         addressBook.removePerson(target);
+        handleAddressBookChanged();
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
+        checkWriterThread();
+        addressBook.addPerson(withRecurringVisitsExpanded(person));
+        handleAddressBookChanged();
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
+        checkWriterThread();
         requireAllNonNull(target, editedPerson);
-        addressBook.setPerson(target, editedPerson);
+        addressBook.setPerson(target, withRecurringVisitsExpanded(editedPerson));
+        handleAddressBookChanged();
+    }
+
+    @Override
+    public void applyChanges(List<PersonChange> changes) {
+        checkWriterThread();
+        requireNonNull(changes);
+        if (changes.isEmpty()) {
+            return;
+        }
+        List<PersonChange> expandedChanges = changes.stream()
+                .map(change -> new PersonChange(change.getBefore(),
+                        change.getAfter().map(ModelManager::withRecurringVisitsExpanded)))
+                .collect(Collectors.toList());
+        addressBook.applyChanges(expandedChanges);
+        handleAddressBookChanged();
+        if (expandedChanges.stream().anyMatch(PersonChange::isAddition)) {
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
+    }
+
+    @Override
+    public VersionVector getPersonVersion(Uid uid) {
+        return addressBook.getPersonVersion(uid);
+    }
+
+    @Override
+    public void mergePersonVersion(Uid uid, VersionVector version) {
+        checkWriterThread();
+        addressBook.mergePersonVersion(uid, version);
+    }
+
+    @Override
+    public List<ScheduleEntry> getScheduleEntries(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        return addressBook.getScheduleEntries(start, end);
+    }
+
+    @Override
+    public List<ScheduleEntry> getNurseScheduleEntries(Long nurseUidNo, LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(nurseUidNo, start, end);
+        return addressBook.getNurseScheduleEntries(nurseUidNo, start, end);
+    }
+
+    @Override
+    public List<ScheduleEntry> getUpcomingVisits(int count) {
+        return addressBook.getUpcomingScheduleEntries(AppClock.now(), count);
+    }
+
+    @Override
+    public int markPassedVisits() {
+        checkWriterThread();
+        int markedVisits = addressBook.markPassedVisits(AppClock.now());
+        if (markedVisits > 0) {
+            logger.info("Marked " + markedVisits + " passed home visits as visited");
+            handleAddressBookChanged();
+        }
+        return markedVisits;
+    }
+
+    @Override
+    public int expandRecurringVisits() {
+        checkWriterThread();
+        return expandRecurringVisitsToHorizon();
+    }
+
+    private int expandRecurringVisitsToHorizon() {
+        LocalDate horizonEnd = AppClock.today().plus(RECURRING_VISIT_HORIZON);
+        if (horizonEnd.equals(recurringVisitsExpandedUntil)) {
+            return 0;
+        }
+        int updatedPatients = addressBook.expandRecurringVisits(AppClock.now(), horizonEnd);
+        recurringVisitsExpandedUntil = horizonEnd;
+        if (updatedPatients > 0) {
+            logger.info("Expanded recurring home visits of " + updatedPatients + " patients up to " + horizonEnd);
+            handleAddressBookChanged();
+        }
+        return updatedPatients;
+    }
+
+    @Override
+    public CompletionIndex getCompletionIndex() {
+        return addressBook.getCompletionIndex();
+    }
+
+    @Override
+    public ModelSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public ModelFork fork() {
+        return new ModelFork(this);
+    }
+
+    /**
+     * Returns {@code person} with its recurring home visits expanded up to the current horizon.
+     */
+    static Person withRecurringVisitsExpanded(Person person) {
+        if (!(person instanceof Patient)) {
+            return person;
+        }
+        return ((Patient) person).withRecurringVisitsExpanded(AppClock.now(),
+                AppClock.today().plus(RECURRING_VISIT_HORIZON));
+    }
+
+    @Override
+    public ObservableList<ScheduleEntry> getUpcomingVisitList() {
+        return unmodifiableUpcomingVisits;
+    }
+
+    /**
+     * Makes the current thread the writer of this model if it has none yet.
+     *
+     * @throws IllegalStateException if another thread is the writer of this model.
+     */
+    private void checkWriterThread() {
+        Thread currentThread = Thread.currentThread();
+        if (!writerThread.compareAndSet(null, currentThread) && writerThread.get() != currentThread) {
+            throw new IllegalStateException(String.format(MESSAGE_NOT_WRITER_THREAD, writerThread.get().getName(),
+                    currentThread.getName()));
+        }
+    }
+
+    /**
+     * Updates the upcoming visit list and publishes a new snapshot after a change to the address book.
+     * The snapshot is made from the last one and the changes since, so it does not copy the person list unless
+     * the persons were all replaced.
+     */
+    private void handleAddressBookChanged() {
+        refreshUpcomingVisits();
+        if (snapshot == null || hasPersonsReset) {
+            snapshot = new ModelSnapshot(snapshot == null ? 0 : snapshot.getVersion() + 1,
+                    addressBook.getPersonList());
+        } else {
+            snapshot = snapshot.withChanges(snapshot.getVersion() + 1, unpublishedChanges);
+        }
+        unpublishedChanges.clear();
+        hasPersonsReset = false;
+    }
+
+    private void subscribeUnpublishedChanges() {
+        ModelEventBus events = addressBook.getEventBus();
+        events.subscribe(PersonAddedEvent.class, event ->
+                unpublishedChanges.add(new PersonChange(Optional.empty(), Optional.of(event.getPerson()))));
+        events.subscribe(PersonRemovedEvent.class, event ->
+                unpublishedChanges.add(new PersonChange(Optional.of(event.getPerson()), Optional.empty())));
+        events.subscribe(PersonFieldsChangedEvent.class, event -> unpublishedChanges.add(
+                new PersonChange(Optional.of(event.getBefore()), Optional.of(event.getAfter()))));
+        events.subscribe(PersonsResetEvent.class, event -> hasPersonsReset = true);
+    }
+
+    /**
+     * Reloads the upcoming visit list from the schedule index.
+     * Only the first {@link #UPCOMING_VISIT_LIST_SIZE} pending slots are read, so this is cheap enough to run
+     * after every change.
+     */
+    private void refreshUpcomingVisits() {
+        List<ScheduleEntry> upcoming = getUpcomingVisits(UPCOMING_VISIT_LIST_SIZE);
+        if (!upcoming.equals(upcomingVisits)) {
+            upcomingVisits.setAll(upcoming);
+        }
     }
 
     // =========== Filtered Person List Accessors
@@ -139,7 +362,12 @@ public class ModelManager implements Model {
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
+        checkWriterThread();
         requireNonNull(predicate);
+        if (filteredPersons.isFilteredBy(predicate)) {
+            // the list is already filtered by this predicate and kept up to date as persons change
+            return;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
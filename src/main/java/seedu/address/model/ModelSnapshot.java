@@ -0,0 +1,197 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.ScheduleEntry;
+import seedu.address.model.schedule.ScheduleIndex;
+
+/**
+ * An immutable copy of the persons in a model at one point in time, which can be read from any thread.
+ * The model publishes a new snapshot after each change, so a reader sees either all of a change or none of it.
+ * <p>
+ * A snapshot taken with {@link #withChanges(long, List)} keeps the persons of the snapshot before it and the
+ * changes made since, and only makes a list of its persons when they are first read, so publishing one takes time
+ * proportional to the number of changes rather than to the number of persons. The lookups by UID and slot time are
+ * also built the first time they are needed.
+ */
+public final class ModelSnapshot {
+
+    private final long version;
+    // Until the persons are first read, the persons of an earlier snapshot and the changes made to them since.
+    // Guarded by this snapshot, and cleared once the persons are built.
+    private List<Person> basePersons;
+    private ChangeLog changes;
+    private volatile List<Person> persons;
+
+    // Built on first use. Two readers may both build one, which is harmless since the persons never change.
+    private volatile Map<Long, Person> personsByUid;
+    private volatile ScheduleIndex scheduleIndex;
+
+    /**
+     * Creates a snapshot of {@code persons}, numbered {@code version}.
+     */
+    public ModelSnapshot(long version, List<Person> persons) {
+        requireNonNull(persons);
+        this.version = version;
+        this.persons = List.copyOf(persons);
+    }
+
+    private ModelSnapshot(long version, List<Person> basePersons, ChangeLog changes) {
+        this.version = version;
+        this.basePersons = basePersons;
+        this.changes = changes;
+    }
+
+    /**
+     * Returns a snapshot numbered {@code newVersion} of the persons of this snapshot with {@code newChanges} made
+     * to them, in order, as {@link AddressBook#applyChanges(List)} makes them.
+     * The changes are only made when the persons of the new snapshot are first read, unless the changes not made
+     * yet come to more than the persons, in which case they are made now so that they do not pile up.
+     */
+    public synchronized ModelSnapshot withChanges(long newVersion, List<PersonChange> newChanges) {
+        requireNonNull(newChanges);
+        if (persons == null && changes.size + newChanges.size() > basePersons.size()) {
+            buildPersons();
+        }
+        if (persons != null) {
+            return new ModelSnapshot(newVersion, persons, new ChangeLog(List.copyOf(newChanges), null));
+        }
+        return new ModelSnapshot(newVersion, basePersons, new ChangeLog(List.copyOf(newChanges), changes));
+    }
+
+    /**
+     * Returns the number of this snapshot. Each snapshot a model publishes has a higher number than the last.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the persons in this snapshot, in the order of the model's person list.
+     */
+    public List<Person> getPersonList() {
+        List<Person> builtPersons = persons;
+        return builtPersons != null ? builtPersons : buildPersons();
+    }
+
+    private synchronized List<Person> buildPersons() {
+        if (persons == null) {
+            persons = applyChanges(basePersons, changes.toList());
+            basePersons = null;
+            changes = null;
+        }
+        return persons;
+    }
+
+    /**
+     * Returns {@code basePersons} with {@code changes} made to them in order: a replaced person keeps its position,
+     * added persons go to the end and removed persons are left out.
+     */
+    private static List<Person> applyChanges(List<Person> basePersons, List<PersonChange> changes) {
+        List<Person> updatedPersons = new ArrayList<>(basePersons);
+        Map<Long, Integer> positions = new HashMap<>();
+        for (int i = 0; i < updatedPersons.size(); i++) {
+            positions.put(updatedPersons.get(i).getUid().getUid(), i);
+        }
+        for (PersonChange change : changes) {
+            Integer position = null;
+            if (change.getBefore().isPresent()) {
+                position = positions.remove(change.getBefore().get().getUid().getUid());
+                assert position != null : "A person changed is not in the snapshot";
+                updatedPersons.set(position, null);
+            }
+            if (change.getAfter().isPresent()) {
+                Person after = change.getAfter().get();
+                if (position == null) {
+                    position = updatedPersons.size();
+                    updatedPersons.add(after);
+                } else {
+                    updatedPersons.set(position, after);
+                }
+                positions.put(after.getUid().getUid(), position);
+            }
+        }
+        updatedPersons.removeIf(Objects::isNull);
+        return Collections.unmodifiableList(updatedPersons);
+    }
+
+    /**
+     * Returns the person with the UID number {@code uidNo}, if there is one.
+     */
+    public Optional<Person> getPerson(long uidNo) {
+        Map<Long, Person> index = personsByUid;
+        if (index == null) {
+            index = new HashMap<>();
+            for (Person person : getPersonList()) {
+                index.put(person.getUid().getUid(), person);
+            }
+            personsByUid = index;
+        }
+        return Optional.ofNullable(index.get(uidNo));
+    }
+
+    /**
+     * Returns the persons in this snapshot that match {@code predicate}, in the order of the model's person list.
+     */
+    public List<Person> getPersons(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return getPersonList().stream().filter(predicate).collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Returns the home visits with slot times in [{@code start}, {@code end}), in chronological order.
+     */
+    public List<ScheduleEntry> getScheduleEntries(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        ScheduleIndex index = scheduleIndex;
+        if (index == null) {
+            index = new ScheduleIndex();
+            index.reset(getPersonList());
+            scheduleIndex = index;
+        }
+        return index.getEntriesBetween(start, end);
+    }
+
+    /**
+     * The changes made to a snapshot, as a list of the groups of changes made since an earlier snapshot, latest
+     * first, so that a group can be added without copying the others.
+     */
+    private static class ChangeLog {
+        private final List<PersonChange> latestChanges;
+        private final ChangeLog earlierChanges;
+        private final int size;
+
+        ChangeLog(List<PersonChange> latestChanges, ChangeLog earlierChanges) {
+            this.latestChanges = latestChanges;
+            this.earlierChanges = earlierChanges;
+            this.size = latestChanges.size() + (earlierChanges == null ? 0 : earlierChanges.size);
+        }
+
+        /**
+         * Returns every change in the log, in the order they were made.
+         */
+        List<PersonChange> toList() {
+            List<List<PersonChange>> groups = new ArrayList<>();
+            for (ChangeLog log = this; log != null; log = log.earlierChanges) {
+                groups.add(log.latestChanges);
+            }
+            Collections.reverse(groups);
+            List<PersonChange> allChanges = new ArrayList<>(size);
+            groups.forEach(allChanges::addAll);
+            return allChanges;
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of the elements of a source list that match a predicate, like a {@code FilteredList}.
+ * <p>
+ * Setting a new predicate tests the elements in chunks on a {@link ForkJoinPool} instead of one by one on the
+ * calling thread, and only then replaces the view, as a single change. The calling thread waits for the result,
+ * so the view always matches the predicate once {@link #setPredicate(Predicate)} returns. Elements added to the
+ * source later are tested as they are added, in parallel too if a large range is added at once.
+ * <p>
+ * The thread that owns the list, such as the JavaFX application thread, should not wait for a costly predicate.
+ * It can instead be given a {@link TestedPredicate}, such as one from {@link #testAhead(List, Predicate)}, whose
+ * elements were tested on another thread beforehand, so that setting it only looks up the result for each one.
+ * <p>
+ * The predicate may be tested on several threads at once, so it must not depend on state that is changed while
+ * it is tested. Like the source list, the view must only be changed and read by one thread at a time.
+ */
+public class ParallelFilteredList<E> extends TransformationList<E, E> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 2048;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private Predicate<? super E> predicate;
+    /** The source indexes of the elements in the view, in increasing order. Only the first {@code size} count. */
+    private int[] filtered;
+    private int size;
+
+    /**
+     * Creates a view of {@code source} showing every element, until a predicate is set.
+     */
+    public ParallelFilteredList(ObservableList<E> source) {
+        this(source, null);
+    }
+
+    /**
+     * Creates a view of the elements of {@code source} that match {@code predicate}, or of every element if it
+     * is null.
+     */
+    public ParallelFilteredList(ObservableList<E> source, Predicate<? super E> predicate) {
+        this(source, predicate, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a view of the elements of {@code source} that match {@code predicate}, testing them on
+     * {@code pool} in chunks of {@code chunkSize} elements.
+     */
+    ParallelFilteredList(ObservableList<E> source, Predicate<? super E> predicate, ForkJoinPool pool,
+            int chunkSize) {
+        super(source);
+        requireNonNull(pool);
+        assert chunkSize > 0;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        this.predicate = predicate;
+        this.filtered = filter(source, 0, source.size(), predicate);
+        this.size = filtered.length;
+    }
+
+    public Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Returns true if the view is filtered by {@code otherPredicate}, or by the same predicate tested ahead.
+     */
+    public boolean isFilteredBy(Predicate<? super E> otherPredicate) {
+        return untested(predicate) == untested(otherPredicate);
+    }
+
+    /**
+     * Tests {@code elements} with {@code predicate} now, in parallel, and returns a predicate that looks up the
+     * results, so that setting it takes a lookup per element instead of a test.
+     * Elements not in {@code elements}, such as ones added later, are tested with {@code predicate} when asked.
+     * This may be called on any thread, such as one that prepares a change to be made by the thread that owns
+     * the list, as long as {@code elements} is not changed while it is tested.
+     */
+    public Predicate<E> testAhead(List<? extends E> elements, Predicate<? super E> predicate) {
+        requireNonNull(elements);
+        requireNonNull(predicate);
+        Map<E, Boolean> results = new IdentityHashMap<>(elements.size());
+        int[] matches = filter(elements, 0, elements.size(), predicate);
+        for (E element : elements) {
+            results.put(element, false);
+        }
+        for (int match : matches) {
+            results.put(elements.get(match), true);
+        }
+        return new TestedPredicate<>(results, predicate);
+    }
+
+    /**
+     * Shows only the elements that match {@code newPredicate}, or every element if it is null.
+     * The elements are tested in parallel, unless the predicate was tested ahead, and the view is replaced in one
+     * change once all of them have been.
+     */
+    public void setPredicate(Predicate<? super E> newPredicate) {
+        int[] newFiltered = filter(getSource(), 0, getSource().size(), newPredicate);
+        predicate = newPredicate;
+        if (Arrays.equals(filtered, 0, size, newFiltered, 0, newFiltered.length)) {
+            return;
+        }
+
+        List<E> removed = new ArrayList<>(this);
+        filtered = newFiltered;
+        size = newFiltered.length;
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (size > 0) {
+            nextAdd(0, size);
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return getSource().get(filtered[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return filtered[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int viewIndex = Arrays.binarySearch(filtered, 0, size, index);
+        return viewIndex < 0 ? -1 : viewIndex;
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> c) {
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                refilterRange(c.getFrom(), c.getTo(), c::getPermutation);
+            } else if (c.wasUpdated()) {
+                refilterRange(c.getFrom(), c.getTo(), IntUnaryOperator.identity());
+            } else {
+                replaceRange(c.getFrom(), c.getRemoved(), c.getAddedSize());
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Updates the view for the source elements in [{@code from}, {@code to}), which were reordered or changed
+     * in place. The element that was at each source index is now at the index {@code newIndexOf} maps it to.
+     */
+    private void refilterRange(int from, int to, IntUnaryOperator newIndexOf) {
+        int start = lowerBound(from);
+        int end = lowerBound(to);
+        List<E> removed = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            removed.add(getSource().get(newIndexOf.applyAsInt(filtered[i])));
+        }
+        int[] matches = filter(getSource(), from, to, predicate);
+        splice(start, end, matches, 0);
+        fireReplace(start, removed, matches.length);
+    }
+
+    /**
+     * Updates the view for the source elements {@code removedElements} starting at {@code from}, which were
+     * replaced by {@code addedSize} elements.
+     */
+    private void replaceRange(int from, List<? extends E> removedElements, int addedSize) {
+        int start = lowerBound(from);
+        int end = lowerBound(from + removedElements.size());
+        List<E> removed = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            removed.add(removedElements.get(filtered[i] - from));
+        }
+        int[] matches = filter(getSource(), from, from + addedSize, predicate);
+        splice(start, end, matches, addedSize - removedElements.size());
+        fireReplace(start, removed, matches.length);
+    }
+
+    /**
+     * Replaces the view indexes in [{@code start}, {@code end}) with {@code matches}, shifting the source
+     * indexes of the view elements after them by {@code shift}.
+     */
+    private void splice(int start, int end, int[] matches, int shift) {
+        int newSize = size - (end - start) + matches.length;
+        int[] newFiltered = newSize <= filtered.length ? filtered : new int[Math.max(newSize, filtered.length * 2)];
+        System.arraycopy(filtered, 0, newFiltered, 0, start);
+        System.arraycopy(filtered, end, newFiltered, start + matches.length, size - end);
+        System.arraycopy(matches, 0, newFiltered, start, matches.length);
+        for (int i = start + matches.length; i < newSize; i++) {
+            newFiltered[i] += shift;
+        }
+        filtered = newFiltered;
+        size = newSize;
+    }
+
+    private void fireReplace(int start, List<E> removed, int addedCount) {
+        if (!removed.isEmpty()) {
+            nextRemove(start, removed);
+        }
+        if (addedCount > 0) {
+            nextAdd(start, start + addedCount);
+        }
+    }
+
+    /**
+     * Returns the first view index whose source index is not less than {@code sourceIndex}.
+     */
+    private int lowerBound(int sourceIndex) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (filtered[mid] < sourceIndex) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the indexes in [{@code from}, {@code to}) of the elements of {@code elements} that match
+     * {@code predicate}, in increasing order. Ranges longer than a chunk are tested on the pool, unless the
+     * predicate was tested ahead and only looks up the results.
+     */
+    private int[] filter(List<? extends E> elements, int from, int to, Predicate<? super E> predicate) {
+        int length = to - from;
+        int[] matches = new int[length];
+        if (predicate == null) {
+            Arrays.setAll(matches, i -> from + i);
+            return matches;
+        }
+
+        int count = 0;
+        if (length <= chunkSize || predicate instanceof TestedPredicate) {
+            for (int i = from; i < to; i++) {
+                if (predicate.test(elements.get(i))) {
+                    matches[count++] = i;
+                }
+            }
+            return Arrays.copyOf(matches, count);
+        }
+
+        boolean[] results = new boolean[length];
+        pool.invoke(new FilterTask<>(elements, predicate, results, from, from, to, chunkSize));
+        for (int i = 0; i < length; i++) {
+            if (results[i]) {
+                matches[count++] = from + i;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    private static Object untested(Predicate<?> predicate) {
+        return predicate instanceof TestedPredicate ? ((TestedPredicate<?>) predicate).predicate : predicate;
+    }
+
+    /**
+     * Looks up the results of testing elements with a predicate, and tests the elements that were not with it.
+     * Setting one on the list takes a lookup per element, on the calling thread.
+     */
+    public static class TestedPredicate<E> implements Predicate<E> {
+        private final Map<E, Boolean> results;
+        private final Predicate<? super E> predicate;
+
+        /**
+         * @param results the result of testing each element with {@code predicate}, by identity.
+         */
+        public TestedPredicate(Map<E, Boolean> results, Predicate<? super E> predicate) {
+            requireNonNull(results);
+            requireNonNull(predicate);
+            this.results = results;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(E element) {
+            Boolean result = results.get(element);
+            return result != null ? result : predicate.test(element);
+        }
+    }
+
+    /**
+     * Tests the elements in a range, splitting it in halves until each part fits in a chunk.
+     */
+    private static class FilterTask<E> extends RecursiveAction {
+        private final List<? extends E> elements;
+        private final Predicate<? super E> predicate;
+        private final boolean[] results;
+        private final int offset;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        FilterTask(List<? extends E> elements, Predicate<? super E> predicate, boolean[] results, int offset,
+                int from, int to, int chunkSize) {
+            this.elements = elements;
+            this.predicate = predicate;
+            this.results = results;
+            this.offset = offset;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                for (int i = from; i < to; i++) {
+                    results[i - offset] = predicate.test(elements.get(i));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new FilterTask<>(elements, predicate, results, offset, from, mid, chunkSize),
+                    new FilterTask<>(elements, predicate, results, offset, mid, to, chunkSize));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Represents the change made to one person: an addition, a removal or an edit.
+ * Guarantees: immutable; at least one of the persons before and after the change is present.
+ */
+public class PersonChange {
+
+    private final Optional<Person> before;
+    private final Optional<Person> after;
+
+    /**
+     * Creates the change from {@code before} to {@code after}, either of which may be empty but not both.
+     */
+    public PersonChange(Optional<Person> before, Optional<Person> after) {
+        assert before.isPresent() || after.isPresent();
+        this.before = before;
+        this.after = after;
+    }
+
+    public Optional<Person> getBefore() {
+        return before;
+    }
+
+    public Optional<Person> getAfter() {
+        return after;
+    }
+
+    public boolean isAddition() {
+        return before.isEmpty();
+    }
+
+    public boolean isRemoval() {
+        return after.isEmpty();
+    }
+
+    /**
+     * Makes this change to {@code model}.
+     */
+    public void applyTo(Model model) {
+        requireNonNull(model);
+        if (isAddition()) {
+            model.addPerson(after.get());
+        } else if (isRemoval()) {
+            model.deletePerson(before.get());
+        } else {
+            model.setPerson(before.get(), after.get());
+        }
+    }
+
+    /**
+     * Returns true if {@code model} holds the person as it was before this change, that is the very same person,
+     * or no person with its uid if this change is an addition.
+     */
+    public boolean isCurrentIn(Model model) {
+        requireNonNull(model);
+        Person person = before.orElseGet(after::get);
+        Optional<Person> modelPerson = model.getPerson(person.getUid());
+        return before.map(beforePerson -> modelPerson.isPresent() && modelPerson.get() == beforePerson)
+                .orElse(modelPerson.isEmpty());
+    }
+
+    /**
+     * Returns the change that undoes this change.
+     */
+    public PersonChange inverse() {
+        return new PersonChange(after, before);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonChange // instanceof handles nulls
+                && before.equals(((PersonChange) other).before)
+                && after.equals(((PersonChange) other).after)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(before, after);
+    }
+
+    @Override
+    public String toString() {
+        if (isAddition()) {
+            return "Added " + after.get().getCategoryIndicator() + " [Uid:" + after.get().getUid() + "]";
+        }
+        if (isRemoval()) {
+            return "Removed " + before.get().getCategoryIndicator() + " [Uid:" + before.get().getUid() + "]";
+        }
+        return "Edited " + after.get().getCategoryIndicator() + " [Uid:" + after.get().getUid() + "]";
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import java.util.Map;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 
@@ -14,4 +16,12 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the version of each person changed in this address book, by uid, including persons that have since
+     * been removed. Persons that were never changed in any copy of the address book have no version.
+     */
+    default Map<Long, VersionVector> getPersonVersions() {
+        return Map.of();
+    }
+
 }
@@ -13,4 +13,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the id that tells the changes made by this copy of the app apart from those of other copies,
+     * or null if the changes are not recorded.
+     */
+    String getReplicaId();
+
 }
@@ -0,0 +1,113 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Records how many times a person was changed by each copy of the address book, such as a copy taken away by a
+ * mobile nurse, so that the changes of two copies can be told apart when they are merged.
+ * Each copy is named by the replica id in its user prefs.
+ * Guarantees: immutable; every count is positive.
+ */
+public class VersionVector {
+
+    public static final VersionVector EMPTY = new VersionVector(Map.of());
+
+    /**
+     * The order of two versions of a person.
+     */
+    public enum Order {
+        /** Both versions have seen the same changes. */
+        EQUAL,
+        /** This version has seen only some of the changes of the other version. */
+        BEFORE,
+        /** This version has seen all the changes of the other version, and more. */
+        AFTER,
+        /** Each version has seen changes the other has not. */
+        CONCURRENT
+    }
+
+    private final Map<String, Long> counts;
+
+    /**
+     * Creates a {@code VersionVector} with the given number of changes made by each replica.
+     */
+    public VersionVector(Map<String, Long> counts) {
+        requireNonNull(counts);
+        assert counts.values().stream().allMatch(count -> count > 0);
+        this.counts = Collections.unmodifiableMap(new HashMap<>(counts));
+    }
+
+    /**
+     * Returns the number of changes made by each replica.
+     */
+    public Map<String, Long> getCounts() {
+        return counts;
+    }
+
+    /**
+     * Returns this version with one more change made by {@code replicaId}.
+     */
+    public VersionVector increment(String replicaId) {
+        requireNonNull(replicaId);
+        Map<String, Long> incrementedCounts = new HashMap<>(counts);
+        incrementedCounts.merge(replicaId, 1L, Long::sum);
+        return new VersionVector(incrementedCounts);
+    }
+
+    /**
+     * Returns the version that has seen the changes of both this version and {@code other}.
+     */
+    public VersionVector merge(VersionVector other) {
+        requireNonNull(other);
+        Map<String, Long> mergedCounts = new HashMap<>(counts);
+        other.counts.forEach((replicaId, count) -> mergedCounts.merge(replicaId, count, Math::max));
+        return new VersionVector(mergedCounts);
+    }
+
+    /**
+     * Returns the order of this version relative to {@code other}.
+     */
+    public Order compareTo(VersionVector other) {
+        requireNonNull(other);
+        boolean hasMoreChanges = hasChangesNotIn(this, other);
+        boolean hasFewerChanges = hasChangesNotIn(other, this);
+        if (hasMoreChanges && hasFewerChanges) {
+            return Order.CONCURRENT;
+        } else if (hasMoreChanges) {
+            return Order.AFTER;
+        } else if (hasFewerChanges) {
+            return Order.BEFORE;
+        }
+        return Order.EQUAL;
+    }
+
+    private static boolean hasChangesNotIn(VersionVector first, VersionVector second) {
+        return first.counts.entrySet().stream()
+                .anyMatch(entry -> entry.getValue() > second.counts.getOrDefault(entry.getKey(), 0L));
+    }
+
+    public boolean isEmpty() {
+        return counts.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof VersionVector // instanceof handles nulls
+                && counts.equals(((VersionVector) other).counts));
+    }
+
+    @Override
+    public int hashCode() {
+        return counts.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return counts.toString();
+    }
+}
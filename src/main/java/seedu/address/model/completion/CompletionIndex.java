@@ -0,0 +1,128 @@
+package seedu.address.model.completion;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.event.ModelEventBus;
+import seedu.address.model.event.PersonAddedEvent;
+import seedu.address.model.event.PersonField;
+import seedu.address.model.event.PersonFieldsChangedEvent;
+import seedu.address.model.event.PersonRemovedEvent;
+import seedu.address.model.event.PersonsResetEvent;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index of the UIDs, name words and tags of every person, for completing them as commands are typed.
+ * The index is kept in step with the person list by the changes its owner publishes, see
+ * {@link #subscribeTo(ModelEventBus)}, so that it is never rebuilt as persons change.
+ */
+public class CompletionIndex {
+
+    public static final int COMPLETION_LIMIT = 10;
+
+    /**
+     * The kinds of terms that are completed.
+     */
+    public enum Field {
+        UID, NAME, TAG
+    }
+
+    private final Map<Field, PrefixTrie> tries = new EnumMap<>(Field.class);
+
+    /**
+     * Creates an empty index.
+     */
+    public CompletionIndex() {
+        for (Field field : Field.values()) {
+            tries.put(field, new PrefixTrie(COMPLETION_LIMIT));
+        }
+    }
+
+    /**
+     * Indexes the UID, name words and tags of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        tries.get(Field.UID).add(person.getUid().toString());
+        for (String word : person.getName().fullName.split("\\s+")) {
+            tries.get(Field.NAME).add(word);
+        }
+        for (Tag tag : person.getTags()) {
+            tries.get(Field.TAG).add(tag.tagName);
+        }
+    }
+
+    /**
+     * Removes the UID, name words and tags indexed for {@code person}.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        tries.get(Field.UID).remove(person.getUid().toString());
+        for (String word : person.getName().fullName.split("\\s+")) {
+            tries.get(Field.NAME).remove(word);
+        }
+        for (Tag tag : person.getTags()) {
+            tries.get(Field.TAG).remove(tag.tagName);
+        }
+    }
+
+    /**
+     * Replaces the terms indexed for {@code target} with those of {@code editedPerson}.
+     * The terms of the edited person are added before those of the target are removed, so that how often the
+     * terms both have were used is not forgotten.
+     */
+    public void update(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        add(editedPerson);
+        remove(target);
+    }
+
+    /**
+     * Keeps this index in step with the persons whose changes are published on {@code events}.
+     * Edits that leave the name and tags of a person as they were do not touch the index.
+     */
+    public void subscribeTo(ModelEventBus events) {
+        requireNonNull(events);
+        events.subscribe(PersonsResetEvent.class, event -> reset(event.getPersons()));
+        events.subscribe(PersonAddedEvent.class, event -> add(event.getPerson()));
+        events.subscribe(PersonRemovedEvent.class, event -> remove(event.getPerson()));
+        events.subscribe(PersonFieldsChangedEvent.class, event -> {
+            if (event.hasChanged(PersonField.NAME, PersonField.TAGS)
+                    || !event.getBefore().getUid().equals(event.getAfter().getUid())) {
+                update(event.getBefore(), event.getAfter());
+            }
+        });
+    }
+
+    /**
+     * Replaces the contents of this index with the terms of {@code persons}.
+     * How often each term was used is forgotten.
+     */
+    public void reset(List<Person> persons) {
+        requireNonNull(persons);
+        tries.values().forEach(PrefixTrie::clear);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns at most {@link #COMPLETION_LIMIT} terms of {@code field} starting with {@code prefix}, ignoring
+     * case, the most used first.
+     */
+    public List<String> complete(Field field, String prefix) {
+        requireAllNonNull(field, prefix);
+        return tries.get(field).complete(prefix);
+    }
+
+    /**
+     * Records that the term {@code term} of {@code field} was used in a command, if it is indexed.
+     */
+    public void recordUse(Field field, String term) {
+        requireAllNonNull(field, term);
+        tries.get(field).recordUse(term);
+    }
+}
@@ -0,0 +1,181 @@
+package seedu.address.model.completion;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * A set of terms that can be completed from a prefix, ignoring case, most used terms first.
+ * <p>
+ * Each node of the trie keeps the best {@code limit} terms under it, built when it is first asked for and
+ * dropped when a term under it changes. A change only drops the lists of the nodes on the path to its term, so
+ * completing takes time proportional to the length of the prefix, however many terms there are, and rebuilding
+ * after a change takes time proportional to the length of the term changed.
+ * <p>
+ * A term is added once for each thing that has it, such as each person with a tag, and stays until it has been
+ * removed as many times. Not thread-safe.
+ */
+public class PrefixTrie {
+
+    private static final Comparator<Term> RANK = Comparator.comparingLong((Term term) -> term.uses).reversed()
+            .thenComparing(Comparator.comparingInt((Term term) -> term.count).reversed())
+            .thenComparing(term -> term.key);
+
+    private final int limit;
+    private Node root = new Node();
+
+    /**
+     * Creates an empty trie that completes a prefix to at most {@code limit} terms.
+     */
+    public PrefixTrie(int limit) {
+        assert limit > 0;
+        this.limit = limit;
+    }
+
+    /**
+     * Adds one more occurrence of {@code term}.
+     * A term differing from one already added only in case is taken as the same term.
+     */
+    public void add(String term) {
+        requireNonNull(term);
+        if (term.isEmpty()) {
+            return;
+        }
+        Node node = root;
+        String key = term.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < key.length(); i++) {
+            node.best = null;
+            node = node.children.computeIfAbsent(key.charAt(i), unused -> new Node());
+        }
+        node.best = null;
+        if (node.term == null) {
+            node.term = new Term(term, key);
+        }
+        node.term.count++;
+    }
+
+    /**
+     * Removes one occurrence of {@code term}, forgetting the term and how often it was used once it has been
+     * removed as many times as it was added.
+     */
+    public void remove(String term) {
+        requireNonNull(term);
+        List<Node> path = findPath(term.toLowerCase(Locale.ROOT));
+        Node node = path.isEmpty() ? null : path.get(path.size() - 1);
+        if (node == null || node.term == null) {
+            return;
+        }
+        path.forEach(pathNode -> pathNode.best = null);
+        if (--node.term.count > 0) {
+            return;
+        }
+        node.term = null;
+        // prunes the nodes left with neither a term nor children
+        String key = term.toLowerCase(Locale.ROOT);
+        for (int i = path.size() - 1; i > 0 && path.get(i).term == null && path.get(i).children.isEmpty(); i--) {
+            path.get(i - 1).children.remove(key.charAt(i - 1));
+        }
+    }
+
+    /**
+     * Records that {@code term} was used once more, ranking it above the terms used less often.
+     * Does nothing if the term has not been added.
+     */
+    public void recordUse(String term) {
+        requireNonNull(term);
+        List<Node> path = findPath(term.toLowerCase(Locale.ROOT));
+        Node node = path.isEmpty() ? null : path.get(path.size() - 1);
+        if (node == null || node.term == null) {
+            return;
+        }
+        path.forEach(pathNode -> pathNode.best = null);
+        node.term.uses++;
+    }
+
+    /**
+     * Returns true if {@code term} has been added, ignoring case.
+     */
+    public boolean contains(String term) {
+        requireNonNull(term);
+        List<Node> path = findPath(term.toLowerCase(Locale.ROOT));
+        return !path.isEmpty() && path.get(path.size() - 1).term != null;
+    }
+
+    /**
+     * Returns at most {@code limit} of the terms starting with {@code prefix}, ignoring case, the most used
+     * first, then those added most often, then in alphabetical order.
+     */
+    public List<String> complete(String prefix) {
+        requireNonNull(prefix);
+        List<Node> path = findPath(prefix.toLowerCase(Locale.ROOT));
+        if (path.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return getBest(path.get(path.size() - 1)).stream().map(term -> term.text).collect(Collectors.toList());
+    }
+
+    /**
+     * Removes every term.
+     */
+    public void clear() {
+        root = new Node();
+    }
+
+    /**
+     * Returns the nodes from the root to the node of {@code key}, or an empty list if there is no such node.
+     */
+    private List<Node> findPath(String key) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.get(key.charAt(i));
+            if (node == null) {
+                return Collections.emptyList();
+            }
+            path.add(node);
+        }
+        return path;
+    }
+
+    private List<Term> getBest(Node node) {
+        if (node.best != null) {
+            return node.best;
+        }
+        List<Term> candidates = new ArrayList<>();
+        if (node.term != null) {
+            candidates.add(node.term);
+        }
+        for (Node child : node.children.values()) {
+            candidates.addAll(getBest(child));
+        }
+        candidates.sort(RANK);
+        node.best = List.copyOf(candidates.subList(0, Math.min(limit, candidates.size())));
+        return node.best;
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Term term;
+        private List<Term> best;
+    }
+
+    private static class Term {
+        private final String text;
+        private final String key;
+        private int count;
+        private long uses;
+
+        Term(String text, String key) {
+            this.text = text;
+            this.key = key;
+        }
+    }
+}
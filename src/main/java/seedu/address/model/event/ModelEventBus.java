@@ -0,0 +1,58 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Delivers the changes made to the persons of an address book to the structures kept from them, such as its
+ * indexes, as typed {@link PersonEvent}s.
+ * <p>
+ * The address book publishes every change here once it has made it to its person list, so each subscriber is
+ * told exactly what changed and can update what it keeps incrementally, without comparing the whole list.
+ * Subscribers are called in the order they subscribed, on the thread that changed the address book.
+ * Not thread-safe: it must only be used by the thread that owns the address book.
+ */
+public class ModelEventBus {
+
+    private final Map<Class<? extends PersonEvent>, List<Consumer<?>>> subscribers = new HashMap<>();
+
+    /**
+     * Calls {@code subscriber} with each event of type {@code eventType} published from now on.
+     */
+    public <T extends PersonEvent> void subscribe(Class<T> eventType, Consumer<? super T> subscriber) {
+        requireAllNonNull(eventType, subscriber);
+        subscribers.computeIfAbsent(eventType, unused -> new ArrayList<>()).add(subscriber);
+    }
+
+    /**
+     * Stops calling {@code subscriber} with the events of type {@code eventType}.
+     */
+    public <T extends PersonEvent> void unsubscribe(Class<T> eventType, Consumer<? super T> subscriber) {
+        requireAllNonNull(eventType, subscriber);
+        List<Consumer<?>> eventSubscribers = subscribers.get(eventType);
+        if (eventSubscribers != null) {
+            eventSubscribers.remove(subscriber);
+        }
+    }
+
+    /**
+     * Calls the subscribers of the type of {@code event} with it.
+     */
+    @SuppressWarnings("unchecked")
+    public void publish(PersonEvent event) {
+        requireNonNull(event);
+        List<Consumer<?>> eventSubscribers = subscribers.get(event.getClass());
+        if (eventSubscribers == null) {
+            return;
+        }
+        for (Consumer<?> subscriber : List.copyOf(eventSubscribers)) {
+            ((Consumer<PersonEvent>) subscriber).accept(event);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Indicates that a person was added to the address book.
+ */
+public class PersonAddedEvent extends PersonEvent {
+
+    private final Person person;
+
+    /**
+     * Creates the event for the addition of {@code person}.
+     */
+    public PersonAddedEvent(Person person) {
+        requireNonNull(person);
+        this.person = person;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    @Override
+    public String toString() {
+        return "Added " + person.getUid();
+    }
+}
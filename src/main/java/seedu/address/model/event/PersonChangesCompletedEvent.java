@@ -0,0 +1,14 @@
+package seedu.address.model.event;
+
+/**
+ * Indicates that all the changes of one operation on the address book, such as all the edits of one command,
+ * have been published. Subscribers that handle the changes of an operation together, rather than one by one,
+ * handle the ones published since the last such event.
+ */
+public class PersonChangesCompletedEvent extends PersonEvent {
+
+    @Override
+    public String toString() {
+        return "Changes completed";
+    }
+}
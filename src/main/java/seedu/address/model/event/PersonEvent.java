@@ -0,0 +1,8 @@
+package seedu.address.model.event;
+
+/**
+ * A change to the persons of an address book, published on its {@link ModelEventBus}.
+ * Guarantees: immutable.
+ */
+public abstract class PersonEvent {
+}
@@ -0,0 +1,57 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.person.Nurse;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+
+/**
+ * The fields of a person that a {@link PersonFieldsChangedEvent} reports as changed.
+ * The fields of patients are absent for nurses and the other way round.
+ */
+public enum PersonField {
+    CATEGORY(Person::getCategory),
+    NAME(Person::getName),
+    GENDER(Person::getGender),
+    PHONE(Person::getPhone),
+    EMAIL(Person::getEmail),
+    ADDRESS(Person::getAddress),
+    TAGS(Person::getTags),
+    DATE_SLOTS(person -> person instanceof Patient ? ((Patient) person).getDatesSlots() : null),
+    RECURRENCES(person -> person instanceof Patient ? ((Patient) person).getRecurrences() : null),
+    PHYSICIAN(person -> person instanceof Patient ? ((Patient) person).getPhysicianDetails() : null),
+    NEXT_OF_KIN(person -> person instanceof Patient ? ((Patient) person).getNextOfKinDetails() : null),
+    HOME_VISITS(person -> person instanceof Nurse ? ((Nurse) person).getHomeVisits() : null),
+    UNAVAILABLE_DATES(person -> person instanceof Nurse ? ((Nurse) person).getUnavailableDates() : null),
+    FULLY_SCHEDULED_DATES(person -> person instanceof Nurse ? ((Nurse) person).getFullyScheduledDates() : null);
+
+    private final Function<Person, Object> getter;
+
+    PersonField(Function<Person, Object> getter) {
+        this.getter = getter;
+    }
+
+    /**
+     * Returns the fields whose values differ between {@code before} and {@code after}.
+     * Nothing has changed between a person and itself, so that case is not compared field by field.
+     */
+    public static Set<PersonField> changedBetween(Person before, Person after) {
+        requireAllNonNull(before, after);
+        Set<PersonField> changedFields = EnumSet.noneOf(PersonField.class);
+        if (before == after) {
+            return changedFields;
+        }
+        for (PersonField field : values()) {
+            if (!Objects.equals(field.getter.apply(before), field.getter.apply(after))) {
+                changedFields.add(field);
+            }
+        }
+        return changedFields;
+    }
+}
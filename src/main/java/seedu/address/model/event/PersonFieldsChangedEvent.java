@@ -0,0 +1,62 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Indicates that a person in the address book was replaced by an edited version of it, with the fields that
+ * differ between the two.
+ */
+public class PersonFieldsChangedEvent extends PersonEvent {
+
+    private final Person before;
+    private final Person after;
+    private final Set<PersonField> changedFields;
+
+    /**
+     * Creates the event for the replacement of {@code before} by {@code after}, finding the fields that
+     * changed.
+     */
+    public PersonFieldsChangedEvent(Person before, Person after) {
+        requireAllNonNull(before, after);
+        this.before = before;
+        this.after = after;
+        this.changedFields = Collections.unmodifiableSet(PersonField.changedBetween(before, after));
+    }
+
+    public Person getBefore() {
+        return before;
+    }
+
+    public Person getAfter() {
+        return after;
+    }
+
+    /**
+     * Returns the fields that differ between the person before and after the change.
+     */
+    public Set<PersonField> getChangedFields() {
+        return changedFields;
+    }
+
+    /**
+     * Returns true if any of {@code fields} changed.
+     */
+    public boolean hasChanged(PersonField... fields) {
+        for (PersonField field : fields) {
+            if (changedFields.contains(field)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "Changed " + changedFields + " of " + after.getUid();
+    }
+}
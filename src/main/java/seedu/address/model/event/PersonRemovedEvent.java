@@ -0,0 +1,30 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Indicates that a person was removed from the address book.
+ */
+public class PersonRemovedEvent extends PersonEvent {
+
+    private final Person person;
+
+    /**
+     * Creates the event for the removal of {@code person}.
+     */
+    public PersonRemovedEvent(Person person) {
+        requireNonNull(person);
+        this.person = person;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    @Override
+    public String toString() {
+        return "Removed " + person.getUid();
+    }
+}
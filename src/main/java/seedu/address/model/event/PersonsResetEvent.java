@@ -0,0 +1,36 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Indicates that every person in the address book was replaced at once, such as when the data is loaded.
+ * Subscribers rebuild what they keep from the new persons instead of being told of each one.
+ */
+public class PersonsResetEvent extends PersonEvent {
+
+    private final List<Person> persons;
+
+    /**
+     * Creates the event for the address book now holding {@code persons}.
+     */
+    public PersonsResetEvent(List<Person> persons) {
+        requireNonNull(persons);
+        this.persons = List.copyOf(persons);
+    }
+
+    /**
+     * Returns the persons the address book now holds, in order.
+     */
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    @Override
+    public String toString() {
+        return "Reset to " + persons.size() + " persons";
+    }
+}
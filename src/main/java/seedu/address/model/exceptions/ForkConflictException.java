@@ -0,0 +1,11 @@
+package seedu.address.model.exceptions;
+
+/**
+ * Signals that a fork cannot be committed because a person it changed has also been changed in the model it was
+ * forked from.
+ */
+public class ForkConflictException extends RuntimeException {
+    public ForkConflictException(String message) {
+        super(message);
+    }
+}
@@ -7,6 +7,8 @@ import java.time.LocalDate;
 import java.time.Month;
 import java.time.format.DateTimeFormatter;
 
+import seedu.address.commons.core.AppClock;
+
 /**
  * Represents a date (can be nurse's unavailable date or fully-scheduled date).
  * Guarantees: immutable;
@@ -25,6 +27,8 @@ public class Date implements Comparable<Date> {
 
     public static final String VALIDATION_REGEX = "(20[0-9][0-9])-(0[1-9]|1[012])-(0[1-9]|[12][0-9]|3[01])";
 
+    private static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
     public final LocalDate date;
     private final String dateInString;
 
@@ -47,7 +51,7 @@ public class Date implements Comparable<Date> {
     public Date(LocalDate date) {
         requireNonNull(date);
         this.date = date;
-        this.dateInString = date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        this.dateInString = date.format(DateTimeFormatter.ISO_LOCAL_DATE);
     }
 
     /**
@@ -83,7 +87,7 @@ public class Date implements Comparable<Date> {
 
     @Override
     public String toString() {
-        return date.format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+        return date.format(DISPLAY_FORMATTER);
     }
 
     @Override
@@ -103,7 +107,7 @@ public class Date implements Comparable<Date> {
     }
 
     public static Date today() {
-        return new Date(LocalDate.now());
+        return new Date(AppClock.today());
     }
 
     @Override
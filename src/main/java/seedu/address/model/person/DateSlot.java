@@ -7,6 +7,10 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Function;
+
+import seedu.address.commons.core.AppClock;
 
 /**
  * Represents a Patient's home-visit's date and time slot.
@@ -39,12 +43,13 @@ public class DateSlot implements Comparable<DateSlot> {
     private static final Boolean DEFAULT_BOOLEAN = false;
     private static final Long DEFAULT_EMPTY_ASSIGNED_NURSE = -1L; // No nurse assigned
     private static final String DEFAULT_CHECK = " ";
+    private static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
     public final LocalDateTime dateSlotTime;
     private final String dateSlotInString;
-    private Boolean hasVisited = DEFAULT_BOOLEAN;
-    private Boolean hasAssigned = DEFAULT_BOOLEAN;
-    private Boolean isSuccessVisit = DEFAULT_BOOLEAN;
-    private Long nurseUidNo = DEFAULT_EMPTY_ASSIGNED_NURSE;
+    private final Boolean hasVisited;
+    private final Boolean hasAssigned;
+    private final Boolean isSuccessVisit;
+    private final Long nurseUidNo;
 
     /**
      * Constructs a {@code DateSlot}.
@@ -52,34 +57,42 @@ public class DateSlot implements Comparable<DateSlot> {
      * @param dateSlot A valid dateSlot.
      */
     public DateSlot(String dateSlot) {
-        requireNonNull(dateSlot);
-        checkArgument(isValidDateSlot(dateSlot), MESSAGE_CONSTRAINTS);
-        this.dateSlotTime = parseDateSlot(dateSlot);
-        this.dateSlotInString = dateSlot;
-        this.hasVisited = DEFAULT_BOOLEAN;
-        this.hasAssigned = DEFAULT_BOOLEAN;
-        this.isSuccessVisit = DEFAULT_BOOLEAN;
-        this.nurseUidNo = DEFAULT_EMPTY_ASSIGNED_NURSE;
-        if (this.hasVisited == false) {
-            checkDateTime();
-        }
+        this(validate(dateSlot), DEFAULT_BOOLEAN, DEFAULT_BOOLEAN, DEFAULT_BOOLEAN, DEFAULT_EMPTY_ASSIGNED_NURSE);
     }
 
     /**
      * Constructs a {@code DateSlot}.
+     * A date slot that is not visited but is before the current time of the app clock is marked as visited.
      */
     public DateSlot(String dateSlot, Boolean isAssigned, Boolean isVisited, Boolean isSuccessfulVisit,
             Long nurseUidNo) {
         requireAllNonNull(dateSlot, isAssigned, isVisited, isSuccessfulVisit, nurseUidNo);
         this.dateSlotTime = parseDateSlot(dateSlot);
         this.dateSlotInString = dateSlot;
+        boolean hasPassed = !isVisited && dateSlotTime.isBefore(AppClock.now());
+        this.hasVisited = isVisited || hasPassed;
+        this.hasAssigned = isAssigned;
+        this.isSuccessVisit = isSuccessfulVisit || hasPassed;
+        this.nurseUidNo = nurseUidNo;
+    }
+
+    /**
+     * Constructs a copy of {@code dateSlot} with the given state, without checking it against the app clock.
+     */
+    private DateSlot(DateSlot dateSlot, Boolean isAssigned, Boolean isVisited, Boolean isSuccessfulVisit,
+            Long nurseUidNo) {
+        this.dateSlotTime = dateSlot.dateSlotTime;
+        this.dateSlotInString = dateSlot.dateSlotInString;
         this.hasVisited = isVisited;
         this.hasAssigned = isAssigned;
         this.isSuccessVisit = isSuccessfulVisit;
         this.nurseUidNo = nurseUidNo;
-        if (hasVisited == false) {
-            checkDateTime();
-        }
+    }
+
+    private static String validate(String dateSlot) {
+        requireNonNull(dateSlot);
+        checkArgument(isValidDateSlot(dateSlot), MESSAGE_CONSTRAINTS);
+        return dateSlot;
     }
 
     private static LocalDateTime parseDateSlot(String dateSlot) {
@@ -115,46 +128,43 @@ public class DateSlot implements Comparable<DateSlot> {
     }
 
     /**
-     * Check the datetime of the DateSlot with the current datetime from the system
-     * clock.
-     * Mark isVisited true if the datetime is before the current datetime.
+     * Returns this DateSlot marked as successfully visited if its datetime is before {@code currentDateTime},
+     * or this DateSlot if it is not.
      */
-    public void checkDateTime() {
-        LocalDateTime currentDateTime = LocalDateTime.now();
-        if (this.dateSlotTime.isBefore(currentDateTime)) {
-            this.hasVisited = true;
-            this.isSuccessVisit = true;
+    public DateSlot withDateTimeChecked(LocalDateTime currentDateTime) {
+        if (!this.dateSlotTime.isBefore(currentDateTime)) {
+            return this;
         }
+        return new DateSlot(this, hasAssigned, true, true, nurseUidNo);
     }
 
     /**
-     * Mark DateSlot as assigned with the assigned nurse uid.
+     * Returns this DateSlot marked as assigned with the assigned nurse uid.
      */
-    public void mark(Long nurseUidNo) {
-        this.hasAssigned = true;
-        this.nurseUidNo = nurseUidNo;
+    public DateSlot withMarked(Long nurseUidNo) {
+        requireNonNull(nurseUidNo);
+        return new DateSlot(this, true, hasVisited, isSuccessVisit, nurseUidNo);
     }
 
     /**
-     * Unmark DateSlot (not assigned) and remove assigned nurse uid.
+     * Returns this DateSlot unmarked (not assigned), without an assigned nurse uid.
      */
-    public void unmark() {
-        this.hasAssigned = false;
-        this.nurseUidNo = DEFAULT_EMPTY_ASSIGNED_NURSE;
+    public DateSlot withUnmarked() {
+        return new DateSlot(this, false, hasVisited, isSuccessVisit, DEFAULT_EMPTY_ASSIGNED_NURSE);
     }
 
     /**
-     * Mark DateSlot as fail to visit.
+     * Returns this DateSlot marked as fail to visit.
      */
-    public void markFail() {
-        this.isSuccessVisit = false;
+    public DateSlot withFailedVisit() {
+        return new DateSlot(this, hasAssigned, hasVisited, false, nurseUidNo);
     }
 
     /**
-     * Mark DateSlot as success to visit.
+     * Returns this DateSlot marked as success to visit.
      */
-    public void markSuccess() {
-        this.isSuccessVisit = true;
+    public DateSlot withSuccessfulVisit() {
+        return new DateSlot(this, hasAssigned, hasVisited, true, nurseUidNo);
     }
 
     private String getAssignCheck() {
@@ -186,7 +196,7 @@ public class DateSlot implements Comparable<DateSlot> {
     }
 
     public String getDateSlotFormatted() {
-        return dateSlotTime.format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm"));
+        return dateSlotTime.format(DISPLAY_FORMATTER);
     }
 
     public Boolean getHasVisited() {
@@ -221,7 +231,7 @@ public class DateSlot implements Comparable<DateSlot> {
                 "[%s] [%s] %s",
                 getAssignCheck(),
                 getVisitCheck(),
-                dateSlotTime.format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")));
+                dateSlotTime.format(DISPLAY_FORMATTER));
     }
 
     @Override
@@ -235,24 +245,34 @@ public class DateSlot implements Comparable<DateSlot> {
                 && nurseUidNo.equals(((DateSlot) other).nurseUidNo)); // state check
     }
 
-    /**
-     * Clone a dateslot.
-     * @return a new dateSlot
-     */
-    public DateSlot clone() {
-        String dateSlotInString = this.getDateSlotInString();
-        Boolean hasVisited = this.getHasVisited();
-        Boolean hasAssigned = this.getHasAssigned();
-        Boolean isSuccessVisit = this.getIsSuccessVisit();
-        Long nurseUidNo = this.getNurseUidNo();
-        return new DateSlot(dateSlotInString, hasAssigned, hasVisited, isSuccessVisit, nurseUidNo);
-    }
-
     @Override
     public int hashCode() {
         return dateSlotTime.hashCode();
     }
 
+    /**
+     * Returns the index in {@code items}, sorted by the date and time of their {@code dateSlotOf} date slots, of an
+     * item whose date slot is at {@code dateTime}, or a negative number if there is none.
+     * The items are found by binary search, in time logarithmic in their number.
+     */
+    public static <T> int indexOf(List<T> items, LocalDateTime dateTime, Function<T, DateSlot> dateSlotOf) {
+        requireAllNonNull(items, dateTime, dateSlotOf);
+        int low = 0;
+        int high = items.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = dateSlotOf.apply(items.get(middle)).getDateTime().compareTo(dateTime);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
     @Override
     public int compareTo(DateSlot o) {
         return dateSlotTime.compareTo(o.getDateTime());
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +22,10 @@ public class Name {
 
     public final String fullName;
 
+    // The words of the name in lower case, for searching, built on first use. A thread that finds them unset
+    // builds an equal array, so the field needs no locking.
+    private volatile String[] lowerCaseWords;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -38,6 +44,25 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if one of the words of this name is {@code lowerCaseWord}, which must be in lower case
+     * as converted with {@link Locale#ROOT}.
+     * The words are split and put in lower case once, so that searching many names for words is cheap.
+     */
+    public boolean hasWord(String lowerCaseWord) {
+        String[] words = lowerCaseWords;
+        if (words == null) {
+            words = fullName.toLowerCase(Locale.ROOT).split("\\s+");
+            lowerCaseWords = words;
+        }
+        for (String word : words) {
+            if (word.equals(lowerCaseWord)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public String toString() {
         return fullName;
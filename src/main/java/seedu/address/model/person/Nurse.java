@@ -1,12 +1,13 @@
 package seedu.address.model.person;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.category.Category;
 import seedu.address.model.tag.Tag;
 
@@ -21,6 +22,17 @@ public class Nurse extends Person {
     private final List<HomeVisit> homeVisitList = new ArrayList<>();
     private final List<Date> unavailableDateList = new ArrayList<>();
     private final List<Date> fullyScheduledDateList = new ArrayList<>();
+    private final List<HomeVisit> unmodifiableHomeVisitList = Collections.unmodifiableList(homeVisitList);
+    private final List<Date> unmodifiableUnavailableDateList = Collections.unmodifiableList(unavailableDateList);
+    private final List<Date> unmodifiableFullyScheduledDateList =
+            Collections.unmodifiableList(fullyScheduledDateList);
+
+    // Display strings, built on first use since the nurse is not changed once created. A thread that finds one
+    // unset builds an equal string, so the fields need no locking.
+    private String homeVisitsString;
+    private String homeVisitsSummary;
+    private String unavailableDatesString;
+    private String unavailableDatesSummary;
 
     /**
      * Every field must be present and not null.
@@ -31,6 +43,9 @@ public class Nurse extends Person {
         this.unavailableDateList.addAll(unavailableDates);
         this.homeVisitList.addAll(homeVisits);
         this.fullyScheduledDateList.addAll(fullyScheduledDates);
+        Collections.sort(unavailableDateList);
+        Collections.sort(homeVisitList);
+        Collections.sort(fullyScheduledDateList);
     }
 
     /**
@@ -49,6 +64,7 @@ public class Nurse extends Person {
             List<Date> unavailableDates) {
         super(uid, name, gender, phone, email, address, tags);
         this.unavailableDateList.addAll(unavailableDates);
+        Collections.sort(unavailableDateList);
     }
 
     public Category getCategory() {
@@ -67,45 +83,97 @@ public class Nurse extends Person {
     }
 
     /**
-     * Returns a sorted home visit list
+     * Returns the immutable list of home visits, sorted when the nurse is created.
      */
     public List<HomeVisit> getHomeVisits() {
-        Collections.sort(homeVisitList);
-        return homeVisitList;
+        return unmodifiableHomeVisitList;
     }
 
     /**
-     * Returns a sorted unavailable dates
+     * Returns the immutable list of unavailable dates, sorted when the nurse is created.
      */
     public List<Date> getUnavailableDates() {
-        Collections.sort(unavailableDateList);
-        return unavailableDateList;
+        return unmodifiableUnavailableDateList;
     }
 
     /**
-     * Returns a sorted fully scheduled dates
+     * Returns the immutable list of fully scheduled dates, sorted when the nurse is created.
      */
     public List<Date> getFullyScheduledDates() {
-        Collections.sort(fullyScheduledDateList);
-        return fullyScheduledDateList;
+        return unmodifiableFullyScheduledDateList;
+    }
+
+    /**
+     * Returns a copy of this nurse with every home visit before {@code currentDateTime} marked as visited.
+     * The home visits that are not changed are shared with this nurse.
+     */
+    public Nurse withPassedHomeVisitsVisited(LocalDateTime currentDateTime) {
+        List<HomeVisit> updatedHomeVisits = new ArrayList<>(homeVisitList.size());
+        for (HomeVisit homeVisit : homeVisitList) {
+            DateSlot dateSlot = homeVisit.getDateSlot();
+            if (dateSlot.getHasVisited() || !dateSlot.getDateTime().isBefore(currentDateTime)) {
+                updatedHomeVisits.add(homeVisit);
+                continue;
+            }
+            updatedHomeVisits.add(new HomeVisit(dateSlot.withDateTimeChecked(currentDateTime),
+                    homeVisit.getHomeVisitPatientUidNo()));
+        }
+        return new Nurse(getUid(), getName(), getGender(), getPhone(), getEmail(), getAddress(), getTags(),
+                unavailableDateList, updatedHomeVisits, fullyScheduledDateList);
     }
 
     public String getHomesVisitsInString() {
-        String homeVisitsString = getHomeVisits().stream()
-                .map(x -> x.toString()).collect(Collectors.joining(", "));
-        if (homeVisitsString.length() == 0) {
+        if (homeVisitsString == null) {
+            homeVisitsString = formatHomeVisits(homeVisitList.size());
+        }
+        return homeVisitsString;
+    }
+
+    /**
+     * Returns the home visits in the form of {@link #getHomesVisitsInString()}, but listing only the earliest
+     * {@code SUMMARY_LIMIT} of them, followed by how many more there are.
+     */
+    public String getHomeVisitsSummary() {
+        if (homeVisitsSummary == null) {
+            homeVisitsSummary = homeVisitList.size() <= SUMMARY_LIMIT
+                    ? getHomesVisitsInString()
+                    : formatHomeVisits(SUMMARY_LIMIT);
+        }
+        return homeVisitsSummary;
+    }
+
+    private String formatHomeVisits(int limit) {
+        if (homeVisitList.isEmpty()) {
             return MESSAGE_FOR_EMPTY_HOME_VISIT_LIST;
         }
-        return String.format("Home Visits: %s;", homeVisitsString);
+        return String.format("Home Visits: %s;", StringUtil.joinWithLimit(homeVisitList, limit));
     }
 
     public String getUnavailableDatesInString() {
-        String unavailableString = getUnavailableDates().stream()
-                .map(x -> x.toString()).collect(Collectors.joining(", "));
-        if (unavailableString.length() == 0) {
+        if (unavailableDatesString == null) {
+            unavailableDatesString = formatUnavailableDates(unavailableDateList.size());
+        }
+        return unavailableDatesString;
+    }
+
+    /**
+     * Returns the unavailable dates in the form of {@link #getUnavailableDatesInString()}, but listing only the
+     * earliest {@code SUMMARY_LIMIT} of them, followed by how many more there are.
+     */
+    public String getUnavailableDatesSummary() {
+        if (unavailableDatesSummary == null) {
+            unavailableDatesSummary = unavailableDateList.size() <= SUMMARY_LIMIT
+                    ? getUnavailableDatesInString()
+                    : formatUnavailableDates(SUMMARY_LIMIT);
+        }
+        return unavailableDatesSummary;
+    }
+
+    private String formatUnavailableDates(int limit) {
+        if (unavailableDateList.isEmpty()) {
             return MESSAGE_FOR_EMPTY_UNAVAILABLE_DATE;
         }
-        return String.format("Unavailable Dates: %s;", unavailableString);
+        return String.format("Unavailable Dates: %s;", StringUtil.joinWithLimit(unavailableDateList, limit));
     }
 
     @Override
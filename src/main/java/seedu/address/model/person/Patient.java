@@ -2,14 +2,18 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.category.Category;
 import seedu.address.model.tag.Tag;
 
@@ -21,9 +25,17 @@ public class Patient extends Person {
     private static final String MESSAGE_FOR_EMPTY_DATESLOT = "Home Visit date and slot has not been set yet.";
     private static final String NO_NEXTOFKIN_SET = "No next of kin info was added for this patient.";
     private static final String NO_PHYSICIAN_SET = "There is currently no attending physician for this patient.";
-    public final List<DateSlot> dateSlots = new ArrayList<>();
+    private final List<DateSlot> dateSlots = new ArrayList<>();
+    private final List<DateSlot> unmodifiableDateSlots = Collections.unmodifiableList(dateSlots);
     private final Optional<Physician> attendingPhysician;
     private final Optional<NextOfKin> nextOfKin;
+    private final List<Recurrence> recurrences = new ArrayList<>();
+    private final List<Recurrence> unmodifiableRecurrences = Collections.unmodifiableList(recurrences);
+
+    // Display strings, built on first use since the patient is not changed once created. A thread that finds
+    // one unset builds an equal string, so the fields need no locking.
+    private String datesSlotsString;
+    private String datesSlotsSummary;
 
     /**
      * Initialise patient with no attending physician and no next of kin.
@@ -33,6 +45,7 @@ public class Patient extends Person {
         super(uid, name, gender, phone, email, address, tags);
         requireAllNonNull(dateTimeSlot);
         dateSlots.addAll(dateTimeSlot);
+        Collections.sort(dateSlots);
         attendingPhysician = Optional.empty();
         nextOfKin = Optional.empty();
 
@@ -47,6 +60,7 @@ public class Patient extends Person {
         super(uid, name, gender, phone, email, address, tags);
         requireAllNonNull(dateTime);
         dateSlots.addAll(dateTime);
+        Collections.sort(dateSlots);
         attendingPhysician = Optional.ofNullable(p);
         nextOfKin = Optional.ofNullable(n);
     }
@@ -56,11 +70,22 @@ public class Patient extends Person {
      */
     public Patient(Uid uid, Name name, Gender gender, Phone phone, Email email, Address address,
             Set<Tag> tags, List<DateSlot> dateSlot, Optional<Physician> p, Optional<NextOfKin> n) {
+        this(uid, name, gender, phone, email, address, tags, dateSlot, p, n, Collections.emptyList());
+    }
+
+    /**
+     * Initialise patient with given attending physician, next of kin and recurring visit rules.
+     */
+    public Patient(Uid uid, Name name, Gender gender, Phone phone, Email email, Address address,
+            Set<Tag> tags, List<DateSlot> dateSlot, Optional<Physician> p, Optional<NextOfKin> n,
+            List<Recurrence> recurrence) {
         super(uid, name, gender, phone, email, address, tags);
-        requireAllNonNull(dateSlot);
+        requireAllNonNull(dateSlot, recurrence);
         dateSlots.addAll(dateSlot);
+        Collections.sort(dateSlots);
         attendingPhysician = p;
         nextOfKin = n;
+        recurrences.addAll(recurrence);
     }
 
     public Optional<Physician> getAttendingPhysician() {
@@ -71,6 +96,13 @@ public class Patient extends Person {
         return nextOfKin;
     }
 
+    /**
+     * Returns an immutable list of the recurring visit rules of this patient.
+     */
+    public List<Recurrence> getRecurrences() {
+        return unmodifiableRecurrences;
+    }
+
     public String getNextOfKinDetails() {
         String[] output = new String[] { NO_NEXTOFKIN_SET };
         nextOfKin.ifPresent(x -> output[0] = "NOK: " + x);
@@ -98,20 +130,125 @@ public class Patient extends Person {
     }
 
     /**
-     * Returns a sorted date and slot list
+     * Returns an immutable date and slot list, sorted by date and time.
+     * The list is sorted when the patient is created, so that reading it does not modify it and it can be read
+     * from several threads at once.
      */
     public List<DateSlot> getDatesSlots() {
-        Collections.sort(dateSlots);
-        return dateSlots;
+        return unmodifiableDateSlots;
+    }
+
+    /**
+     * Returns a copy of this patient with every date slot before {@code currentDateTime} marked as visited.
+     * The date slots that are not changed are shared with this patient.
+     */
+    public Patient withPassedDateSlotsVisited(LocalDateTime currentDateTime) {
+        List<DateSlot> updatedDateSlots = new ArrayList<>(dateSlots.size());
+        for (DateSlot dateSlot : dateSlots) {
+            if (dateSlot.getHasVisited() || !dateSlot.getDateTime().isBefore(currentDateTime)) {
+                updatedDateSlots.add(dateSlot);
+                continue;
+            }
+            updatedDateSlots.add(dateSlot.withDateTimeChecked(currentDateTime));
+        }
+        return withDateSlots(updatedDateSlots);
+    }
+
+    /**
+     * Returns a copy of this patient with {@code updatedDateSlots} as its date slots.
+     */
+    public Patient withDateSlots(List<DateSlot> updatedDateSlots) {
+        return new Patient(getUid(), getName(), getGender(), getPhone(), getEmail(), getAddress(), getTags(),
+                updatedDateSlots, attendingPhysician, nextOfKin, recurrences);
+    }
+
+    /**
+     * Returns a copy of this patient whose recurring visits are expanded into date slots up to
+     * {@code horizonEnd}, or this patient if there is nothing to expand.
+     * Occurrences before {@code currentDateTime} are never added, and unassigned occurrences from before that
+     * day are dropped, since the rule can recreate them. Only the occurrences within the horizon are stored.
+     */
+    public Patient withRecurringVisitsExpanded(LocalDateTime currentDateTime, LocalDate horizonEnd) {
+        requireAllNonNull(currentDateTime, horizonEnd);
+        if (recurrences.isEmpty()) {
+            return this;
+        }
+        LocalDate today = currentDateTime.toLocalDate();
+        boolean isChanged = false;
+        List<DateSlot> updatedDateSlots = new ArrayList<>();
+        Set<LocalDateTime> slotTimes = new HashSet<>();
+        for (DateSlot dateSlot : dateSlots) {
+            boolean isRecreatable = dateSlot.getDate().isBefore(today) && !dateSlot.getHasAssigned()
+                    && recurrences.stream().anyMatch(r -> r.occursAt(dateSlot.getDateTime()));
+            if (isRecreatable) {
+                isChanged = true;
+                continue;
+            }
+            updatedDateSlots.add(dateSlot);
+            slotTimes.add(dateSlot.getDateTime());
+        }
+
+        List<Recurrence> updatedRecurrences = new ArrayList<>();
+        for (Recurrence recurrence : recurrences) {
+            if (recurrence.getExpandedUntil().filter(date -> !date.isBefore(horizonEnd)).isPresent()) {
+                updatedRecurrences.add(recurrence);
+                continue;
+            }
+            for (LocalDate date : recurrence.getOccurrencesBetween(recurrence.getFirstUnexpandedDate(today),
+                    horizonEnd)) {
+                DateSlot occurrence = recurrence.toDateSlot(date);
+                if (!occurrence.getDateTime().isBefore(currentDateTime)
+                        && slotTimes.add(occurrence.getDateTime())) {
+                    updatedDateSlots.add(occurrence);
+                }
+            }
+            updatedRecurrences.add(recurrence.withExpandedUntil(horizonEnd));
+            isChanged = true;
+        }
+
+        if (!isChanged) {
+            return this;
+        }
+        return new Patient(getUid(), getName(), getGender(), getPhone(), getEmail(), getAddress(), getTags(),
+                updatedDateSlots, attendingPhysician, nextOfKin, updatedRecurrences);
     }
 
     public String getDatesSlotsInString() {
-        String dateSlotsString = getDatesSlots().stream().map(x -> x.toString()).collect(
-                Collectors.joining(", "));
-        if (dateSlotsString.length() == 0) {
+        if (datesSlotsString == null) {
+            datesSlotsString = formatDateSlots(dateSlots.size());
+        }
+        return datesSlotsString;
+    }
+
+    /**
+     * Returns the date slots in the form of {@link #getDatesSlotsInString()}, but listing only the earliest
+     * {@code SUMMARY_LIMIT} of them, followed by how many more there are.
+     */
+    public String getDatesSlotsSummary() {
+        if (datesSlotsSummary == null) {
+            datesSlotsSummary = dateSlots.size() <= SUMMARY_LIMIT
+                    ? getDatesSlotsInString()
+                    : formatDateSlots(SUMMARY_LIMIT);
+        }
+        return datesSlotsSummary;
+    }
+
+    private String formatDateSlots(int limit) {
+        if (dateSlots.isEmpty()) {
             return String.format("Home Visits Date and Time: %s;", MESSAGE_FOR_EMPTY_DATESLOT);
         }
-        return String.format("Home Visits Date and Time: %s;", dateSlotsString);
+        return String.format("Home Visits Date and Time: %s;", StringUtil.joinWithLimit(dateSlots, limit));
+    }
+
+    /**
+     * Returns the recurring visit rules in a readable form, or an empty string if there are none.
+     */
+    public String getRecurrencesInString() {
+        if (recurrences.isEmpty()) {
+            return "";
+        }
+        String recurrencesString = recurrences.stream().map(Recurrence::toString).collect(Collectors.joining(", "));
+        return String.format("Recurring Home Visits: %s;", recurrencesString);
     }
 
     @Override
@@ -122,6 +259,9 @@ public class Patient extends Person {
                 .append(super.toString())
                 .append(" ")
                 .append(getDatesSlotsInString());
+        if (!recurrences.isEmpty()) {
+            builder.append(" ").append(getRecurrencesInString());
+        }
 
         return builder.toString();
     }
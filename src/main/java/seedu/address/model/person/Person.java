@@ -17,6 +17,9 @@ import seedu.address.model.tag.Tag;
  */
 public class Person extends BasePerson {
 
+    /** The number of dates listed by the summaries of a person's visits and dates, such as for display. */
+    public static final int SUMMARY_LIMIT = 10;
+
     // Identity fields
     private final Uid uid;
     private final Gender gender;
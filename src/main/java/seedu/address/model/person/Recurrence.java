@@ -0,0 +1,252 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Represents a rule for a Patient's recurring home visits, such as every Tuesday and Friday in slot 2.
+ * Only the occurrences inside the rolling horizon are stored as {@code DateSlot}s; the rule remembers up to
+ * which date it has been expanded so that later expansions only add the new occurrences.
+ * Guarantees: immutable; is valid as declared in {@link #isValidRecurrence(String)}
+ */
+public class Recurrence {
+
+    public static final String MESSAGE_CONSTRAINTS = "Recurrence should be in "
+            + "START_DATE,SLOT_NUMBER,PATTERN[,END].\n"
+            + "PATTERN is weekly:DAY[+DAY]... (e.g. weekly:TUE+FRI) or every:N for every N days.\n"
+            + "END is optional and is either until:YYYY-MM-DD or count:N.\n"
+            + "For example, 2022-11-01,2,weekly:TUE+FRI,until:2023-03-01";
+
+    public static final String VALIDATION_REGEX = "(19|20)\\d{2}-\\d{2}-\\d{2},[1-4],"
+            + "(weekly:(MON|TUE|WED|THU|FRI|SAT|SUN)(\\+(MON|TUE|WED|THU|FRI|SAT|SUN))*|every:[1-9]\\d{0,3})"
+            + "(,(until:(19|20)\\d{2}-\\d{2}-\\d{2}|count:[1-9]\\d{0,3}))?";
+
+    private static final String WEEKLY = "weekly:";
+    private static final String EVERY = "every:";
+    private static final String UNTIL = "until:";
+    private static final String COUNT = "count:";
+    private static final int DAYS_PER_WEEK = 7;
+
+    private final String rule;
+    private final LocalDate startDate;
+    private final int slotNumber;
+    private final Set<DayOfWeek> days;
+    private final int intervalInDays;
+    private final Optional<LocalDate> endDate;
+    private final Optional<Integer> count;
+    private final Optional<LocalDate> expandedUntil;
+
+    /**
+     * Constructs a {@code Recurrence} that has not been expanded yet.
+     *
+     * @param rule A valid recurrence rule.
+     */
+    public Recurrence(String rule) {
+        this(rule, Optional.empty());
+    }
+
+    /**
+     * Constructs a {@code Recurrence} whose occurrences up to {@code expandedUntil} have already been added.
+     *
+     * @param rule A valid recurrence rule.
+     */
+    public Recurrence(String rule, Optional<LocalDate> expandedUntil) {
+        requireAllNonNull(rule, expandedUntil);
+        checkArgument(isValidRecurrence(rule), MESSAGE_CONSTRAINTS);
+        String[] parts = rule.split(",");
+        this.rule = rule;
+        this.startDate = LocalDate.parse(parts[0]);
+        this.slotNumber = Integer.parseInt(parts[1]);
+        if (parts[2].startsWith(WEEKLY)) {
+            this.days = parseDays(parts[2].substring(WEEKLY.length()));
+            this.intervalInDays = 0;
+        } else {
+            this.days = Collections.emptySet();
+            this.intervalInDays = Integer.parseInt(parts[2].substring(EVERY.length()));
+        }
+        boolean hasEnd = parts.length > 3;
+        this.endDate = hasEnd && parts[3].startsWith(UNTIL)
+                ? Optional.of(LocalDate.parse(parts[3].substring(UNTIL.length())))
+                : Optional.empty();
+        this.count = hasEnd && parts[3].startsWith(COUNT)
+                ? Optional.of(Integer.parseInt(parts[3].substring(COUNT.length())))
+                : Optional.empty();
+        this.expandedUntil = expandedUntil;
+    }
+
+    /**
+     * Returns true if a given string is a valid recurrence rule.
+     */
+    public static boolean isValidRecurrence(String test) {
+        if (!test.matches(VALIDATION_REGEX)) {
+            return false;
+        }
+        String[] parts = test.split(",");
+        try {
+            LocalDate start = LocalDate.parse(parts[0]);
+            return parts.length <= 3 || !parts[3].startsWith(UNTIL)
+                    || !LocalDate.parse(parts[3].substring(UNTIL.length())).isBefore(start);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private static Set<DayOfWeek> parseDays(String days) {
+        Set<DayOfWeek> result = EnumSet.noneOf(DayOfWeek.class);
+        for (String day : days.split("\\+")) {
+            for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+                if (dayOfWeek.name().startsWith(day)) {
+                    result.add(dayOfWeek);
+                }
+            }
+        }
+        return result;
+    }
+
+    public String getRule() {
+        return rule;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public int getSlotNumber() {
+        return slotNumber;
+    }
+
+    public Optional<LocalDate> getExpandedUntil() {
+        return expandedUntil;
+    }
+
+    /**
+     * Returns a copy of this recurrence that records it has been expanded up to {@code date}.
+     */
+    public Recurrence withExpandedUntil(LocalDate date) {
+        requireNonNull(date);
+        return new Recurrence(rule, Optional.of(date));
+    }
+
+    /**
+     * Returns the first date on or after {@code from} whose occurrences have not been added yet.
+     */
+    public LocalDate getFirstUnexpandedDate(LocalDate from) {
+        requireNonNull(from);
+        LocalDate firstUnexpanded = expandedUntil.map(date -> date.plusDays(1)).orElse(startDate);
+        return firstUnexpanded.isAfter(from) ? firstUnexpanded : from;
+    }
+
+    /**
+     * Returns the dates of the occurrences in [{@code from}, {@code to}], in chronological order.
+     * Only the dates inside the range are visited, so the cost does not depend on how long the rule has run.
+     */
+    public List<LocalDate> getOccurrencesBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        LocalDate first = from.isBefore(startDate) ? startDate : from;
+        LocalDate last = endDate.filter(end -> end.isBefore(to)).orElse(to);
+        List<LocalDate> occurrences = new ArrayList<>();
+        if (first.isAfter(last)) {
+            return occurrences;
+        }
+
+        long ordinal;
+        LocalDate date;
+        int step;
+        if (isWeekly()) {
+            ordinal = countWeeklyOccurrencesBefore(first);
+            date = first;
+            step = 1;
+        } else {
+            long intervals = (ChronoUnit.DAYS.between(startDate, first) + intervalInDays - 1) / intervalInDays;
+            ordinal = intervals;
+            date = startDate.plusDays(intervals * intervalInDays);
+            step = intervalInDays;
+        }
+
+        for (; !date.isAfter(last) && !isCountReached(ordinal); date = date.plusDays(step)) {
+            if (isWeekly() && !days.contains(date.getDayOfWeek())) {
+                continue;
+            }
+            occurrences.add(date);
+            ordinal++;
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns true if this rule has an occurrence at {@code dateTime}.
+     */
+    public boolean occursAt(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        LocalDate date = dateTime.toLocalDate();
+        return toDateSlot(date).getDateTime().equals(dateTime) && !getOccurrencesBetween(date, date).isEmpty();
+    }
+
+    /**
+     * Returns the unassigned home-visit slot of the occurrence on {@code date}.
+     */
+    public DateSlot toDateSlot(LocalDate date) {
+        requireNonNull(date);
+        return new DateSlot(date + "," + slotNumber);
+    }
+
+    private boolean isWeekly() {
+        return !days.isEmpty();
+    }
+
+    private boolean isCountReached(long ordinal) {
+        return count.map(limit -> ordinal >= limit).orElse(false);
+    }
+
+    /**
+     * Returns the number of weekly occurrences in [{@code startDate}, {@code date}).
+     */
+    private long countWeeklyOccurrencesBefore(LocalDate date) {
+        long daysBefore = ChronoUnit.DAYS.between(startDate, date);
+        long fullWeeks = daysBefore / DAYS_PER_WEEK;
+        long ordinal = fullWeeks * days.size();
+        for (LocalDate day = startDate.plusWeeks(fullWeeks); day.isBefore(date); day = day.plusDays(1)) {
+            if (days.contains(day.getDayOfWeek())) {
+                ordinal++;
+            }
+        }
+        return ordinal;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Recurrence // instanceof handles nulls
+                && rule.equals(((Recurrence) other).rule)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(rule);
+    }
+
+    @Override
+    public String toString() {
+        String pattern = isWeekly()
+                ? "every " + days.stream().map(day -> day.name().substring(0, 3)).collect(Collectors.joining("/"))
+                : "every " + intervalInDays + " day(s)";
+        String end = endDate.map(date -> ", until " + date)
+                .orElse(count.map(limit -> ", " + limit + " time(s)").orElse(""));
+        return String.format("[%s slot %d from %s%s]", pattern, slotNumber, startDate, end);
+    }
+}
@@ -65,6 +65,21 @@ public class Uid implements Comparable<Uid> {
         }
     }
 
+    /**
+     * Makes the UIDs generated from now on greater than {@code uid}, such as after reading persons saved elsewhere,
+     * which sets the next UID to follow the last one read.
+     */
+    public static void reserveUpTo(long uid) {
+        NEXT_UID.accumulateAndGet(uid + 1, Math::max);
+    }
+
+    /**
+     * Returns the UID that will be generated next.
+     */
+    public static long peekNextUid() {
+        return NEXT_UID.get();
+    }
+
     public static Uid generateUniversalUid() {
         return new Uid(UNIVERSAL_UID);
     }
@@ -3,11 +3,14 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -29,7 +32,7 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final PersonObservableList internalList = new PersonObservableList();
     private final ObservableList<Person> internalUnmodifiableList = FXCollections
             .unmodifiableObservableList(internalList);
 
@@ -119,6 +122,17 @@ public class UniquePersonList implements Iterable<Person> {
         internalList.setAll(persons);
     }
 
+    /**
+     * Makes the changes {@code update} makes to the list it is given as a single change to this list, which
+     * reports only the positions that were changed.
+     * Unlike the other operations, the persons set or added are not checked for duplicates here, so the caller
+     * must have already made sure that the list only contains unique persons after the update.
+     */
+    public void updateUniquePersons(Consumer<List<Person>> update) {
+        requireNonNull(update);
+        internalList.updateInOneChange(update);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -143,6 +157,47 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.hashCode();
     }
 
+    /**
+     * Observable list of persons whose changes can be grouped into a single change event.
+     */
+    private static class PersonObservableList extends ModifiableObservableListBase<Person> {
+        private final List<Person> persons = new ArrayList<>();
+
+        void updateInOneChange(Consumer<List<Person>> update) {
+            beginChange();
+            try {
+                update.accept(this);
+            } finally {
+                endChange();
+            }
+        }
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Person element) {
+            persons.add(index, element);
+        }
+
+        @Override
+        protected Person doSet(int index, Person element) {
+            return persons.set(index, element);
+        }
+
+        @Override
+        protected Person doRemove(int index) {
+            return persons.remove(index);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
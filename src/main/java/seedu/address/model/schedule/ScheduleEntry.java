@@ -0,0 +1,123 @@
+package seedu.address.model.schedule;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Objects;
+
+import seedu.address.model.person.DateSlot;
+
+/**
+ * Represents one patient's home-visit slot as recorded in the {@link ScheduleIndex}.
+ * Guarantees: immutable; a snapshot of the {@code DateSlot} it was created from.
+ */
+public class ScheduleEntry {
+
+    /**
+     * Orders entries by slot time, then by patient uid.
+     */
+    public static final Comparator<ScheduleEntry> CHRONOLOGICAL_ORDER = Comparator
+            .comparing(ScheduleEntry::getDateTime)
+            .thenComparing(ScheduleEntry::getPatientUidNo);
+
+    private static final Long NO_NURSE_ASSIGNED = -1L;
+    private static final DateTimeFormatter DISPLAY_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    /**
+     * Status of a home-visit slot.
+     */
+    public enum VisitStatus {
+        OPEN, ASSIGNED, VISITED, FAILED;
+
+        /**
+         * Returns the status described by {@code dateSlot}.
+         */
+        public static VisitStatus of(DateSlot dateSlot) {
+            if (dateSlot.getHasVisited()) {
+                return dateSlot.getIsSuccessVisit() ? VISITED : FAILED;
+            }
+            return dateSlot.getHasAssigned() ? ASSIGNED : OPEN;
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final LocalDateTime dateTime;
+    private final Long patientUidNo;
+    private final Long nurseUidNo;
+    private final VisitStatus status;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ScheduleEntry(LocalDateTime dateTime, Long patientUidNo, Long nurseUidNo, VisitStatus status) {
+        requireAllNonNull(dateTime, patientUidNo, nurseUidNo, status);
+        this.dateTime = dateTime;
+        this.patientUidNo = patientUidNo;
+        this.nurseUidNo = nurseUidNo;
+        this.status = status;
+    }
+
+    /**
+     * Creates the entry for {@code dateSlot} of the patient with {@code patientUidNo}.
+     */
+    public static ScheduleEntry of(DateSlot dateSlot, Long patientUidNo) {
+        return new ScheduleEntry(dateSlot.getDateTime(), patientUidNo, dateSlot.getNurseUidNo(),
+                VisitStatus.of(dateSlot));
+    }
+
+    public LocalDateTime getDateTime() {
+        return dateTime;
+    }
+
+    public Long getPatientUidNo() {
+        return patientUidNo;
+    }
+
+    public Long getNurseUidNo() {
+        return nurseUidNo;
+    }
+
+    public VisitStatus getStatus() {
+        return status;
+    }
+
+    public boolean hasNurse() {
+        return !NO_NURSE_ASSIGNED.equals(nurseUidNo);
+    }
+
+    /**
+     * Returns true if the visit has not taken place yet.
+     */
+    public boolean isPending() {
+        return status == VisitStatus.OPEN || status == VisitStatus.ASSIGNED;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ScheduleEntry // instanceof handles nulls
+                && dateTime.equals(((ScheduleEntry) other).dateTime)
+                && patientUidNo.equals(((ScheduleEntry) other).patientUidNo)
+                && nurseUidNo.equals(((ScheduleEntry) other).nurseUidNo)
+                && status.equals(((ScheduleEntry) other).status)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dateTime, patientUidNo, nurseUidNo, status);
+    }
+
+    @Override
+    public String toString() {
+        String nurse = hasNurse() ? String.format("Nurse [Uid:%s]", nurseUidNo) : "no nurse assigned";
+        return String.format("%s Patient [Uid:%s] - %s (%s)", dateTime.format(DISPLAY_FORMAT), patientUidNo,
+                nurse, status);
+    }
+}
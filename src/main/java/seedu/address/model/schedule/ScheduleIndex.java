@@ -0,0 +1,241 @@
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.model.event.ModelEventBus;
+import seedu.address.model.event.PersonAddedEvent;
+import seedu.address.model.event.PersonField;
+import seedu.address.model.event.PersonFieldsChangedEvent;
+import seedu.address.model.event.PersonRemovedEvent;
+import seedu.address.model.event.PersonsResetEvent;
+import seedu.address.model.person.DateSlot;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+
+/**
+ * An index of every patient's home-visit slots, keyed by slot time.
+ * Date and range queries only touch the slots inside the requested range instead of scanning every person.
+ * Slots that have not been visited yet are also kept in a separate time-ordered map, so upcoming and overdue
+ * visits can be found without walking past the visit history. The slots assigned to each nurse are kept in a
+ * time-ordered map of their own too, so a nurse's visits over a few days can be read without looking at any
+ * other nurse's.
+ * The index is kept in step with the person list by the changes its owner publishes, see
+ * {@link #subscribeTo(ModelEventBus)}.
+ */
+public class ScheduleIndex {
+
+    private final NavigableMap<LocalDateTime, List<ScheduleEntry>> entriesBySlot = new TreeMap<>();
+    private final NavigableMap<LocalDateTime, List<ScheduleEntry>> pendingEntriesBySlot = new TreeMap<>();
+    private final Map<Long, List<ScheduleEntry>> entriesByPatient = new HashMap<>();
+    private final Map<Long, NavigableMap<LocalDateTime, List<ScheduleEntry>>> entriesByNurse = new HashMap<>();
+    private int size = 0;
+
+    /**
+     * Indexes the home-visit slots of {@code person}, if it is a patient.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        if (!(person instanceof Patient)) {
+            return;
+        }
+        Long patientUidNo = person.getUid().getUid();
+        List<ScheduleEntry> entries = new ArrayList<>();
+        for (DateSlot dateSlot : ((Patient) person).getDatesSlots()) {
+            ScheduleEntry entry = ScheduleEntry.of(dateSlot, patientUidNo);
+            insert(entry);
+            entries.add(entry);
+        }
+        if (!entries.isEmpty()) {
+            entriesByPatient.computeIfAbsent(patientUidNo, k -> new ArrayList<>()).addAll(entries);
+        }
+    }
+
+    /**
+     * Removes every slot indexed for {@code person}.
+     * The entries recorded when the person was added are removed, so later changes to its date slots do not
+     * leave stale entries behind.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        List<ScheduleEntry> entries = entriesByPatient.remove(person.getUid().getUid());
+        if (entries == null) {
+            return;
+        }
+        for (ScheduleEntry entry : entries) {
+            if (removeFrom(entriesBySlot, entry)) {
+                size--;
+            }
+            if (entry.isPending()) {
+                removeFrom(pendingEntriesBySlot, entry);
+            }
+            if (entry.hasNurse()) {
+                NavigableMap<LocalDateTime, List<ScheduleEntry>> nurseEntries = entriesByNurse.get(
+                        entry.getNurseUidNo());
+                if (nurseEntries != null && removeFrom(nurseEntries, entry) && nurseEntries.isEmpty()) {
+                    entriesByNurse.remove(entry.getNurseUidNo());
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the slots indexed for {@code target} with those of {@code editedPerson}.
+     */
+    public void update(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Keeps this index in step with the persons whose changes are published on {@code events}.
+     * Edits that leave the date slots of a patient as they were do not touch the index.
+     */
+    public void subscribeTo(ModelEventBus events) {
+        requireNonNull(events);
+        events.subscribe(PersonsResetEvent.class, event -> reset(event.getPersons()));
+        events.subscribe(PersonAddedEvent.class, event -> add(event.getPerson()));
+        events.subscribe(PersonRemovedEvent.class, event -> remove(event.getPerson()));
+        events.subscribe(PersonFieldsChangedEvent.class, event -> {
+            if (event.hasChanged(PersonField.CATEGORY, PersonField.DATE_SLOTS)
+                    || !event.getBefore().getUid().equals(event.getAfter().getUid())) {
+                update(event.getBefore(), event.getAfter());
+            }
+        });
+    }
+
+    /**
+     * Replaces the contents of this index with the slots of {@code persons}.
+     */
+    public void reset(List<Person> persons) {
+        requireNonNull(persons);
+        entriesBySlot.clear();
+        pendingEntriesBySlot.clear();
+        entriesByPatient.clear();
+        entriesByNurse.clear();
+        size = 0;
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the entries with slot times in [{@code start}, {@code end}), in chronological order.
+     */
+    public List<ScheduleEntry> getEntriesBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        if (!start.isBefore(end)) {
+            return Collections.emptyList();
+        }
+        List<ScheduleEntry> result = new ArrayList<>();
+        entriesBySlot.subMap(start, true, end, false).values().forEach(result::addAll);
+        return result;
+    }
+
+    /**
+     * Returns up to {@code limit} pending entries with slot times at or after {@code from}, in chronological
+     * order.
+     * Only the pending slots from {@code from} up to the last returned entry are visited.
+     */
+    public List<ScheduleEntry> getUpcomingEntries(LocalDateTime from, int limit) {
+        requireNonNull(from);
+        List<ScheduleEntry> result = new ArrayList<>();
+        for (List<ScheduleEntry> bucket : pendingEntriesBySlot.tailMap(from, true).values()) {
+            for (ScheduleEntry entry : bucket) {
+                if (result.size() >= limit) {
+                    return result;
+                }
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the pending entries with slot times before {@code time}, in chronological order.
+     * These are the visits whose time has passed but which are not marked as visited yet.
+     */
+    public List<ScheduleEntry> getPendingEntriesBefore(LocalDateTime time) {
+        requireNonNull(time);
+        List<ScheduleEntry> result = new ArrayList<>();
+        pendingEntriesBySlot.headMap(time, false).values().forEach(result::addAll);
+        return result;
+    }
+
+    /**
+     * Returns the entries assigned to the nurse with {@code nurseUidNo} with slot times in [{@code start},
+     * {@code end}), in chronological order.
+     * Only that nurse's slots inside the range are visited.
+     */
+    public List<ScheduleEntry> getNurseEntriesBetween(Long nurseUidNo, LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(nurseUidNo, start, end);
+        NavigableMap<LocalDateTime, List<ScheduleEntry>> nurseEntries = entriesByNurse.get(nurseUidNo);
+        if (nurseEntries == null || !start.isBefore(end)) {
+            return Collections.emptyList();
+        }
+        List<ScheduleEntry> result = new ArrayList<>();
+        nurseEntries.subMap(start, true, end, false).values().forEach(result::addAll);
+        return result;
+    }
+
+    /**
+     * Returns the entries in the slot starting at {@code dateTime}.
+     */
+    public List<ScheduleEntry> getEntriesAt(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        List<ScheduleEntry> bucket = entriesBySlot.get(dateTime);
+        return bucket == null ? Collections.emptyList() : new ArrayList<>(bucket);
+    }
+
+    /**
+     * Returns the entries on {@code date}, in chronological order.
+     */
+    public List<ScheduleEntry> getEntriesOn(LocalDate date) {
+        requireNonNull(date);
+        return getEntriesBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Returns the number of indexed slots.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void insert(ScheduleEntry entry) {
+        insertInto(entriesBySlot, entry);
+        if (entry.isPending()) {
+            insertInto(pendingEntriesBySlot, entry);
+        }
+        if (entry.hasNurse()) {
+            insertInto(entriesByNurse.computeIfAbsent(entry.getNurseUidNo(), k -> new TreeMap<>()), entry);
+        }
+        size++;
+    }
+
+    private static void insertInto(NavigableMap<LocalDateTime, List<ScheduleEntry>> slots, ScheduleEntry entry) {
+        List<ScheduleEntry> bucket = slots.computeIfAbsent(entry.getDateTime(), k -> new ArrayList<>());
+        int position = Collections.binarySearch(bucket, entry, ScheduleEntry.CHRONOLOGICAL_ORDER);
+        bucket.add(position < 0 ? -position - 1 : position, entry);
+    }
+
+    private static boolean removeFrom(NavigableMap<LocalDateTime, List<ScheduleEntry>> slots, ScheduleEntry entry) {
+        List<ScheduleEntry> bucket = slots.get(entry.getDateTime());
+        if (bucket == null || !bucket.remove(entry)) {
+            return false;
+        }
+        if (bucket.isEmpty()) {
+            slots.remove(entry.getDateTime());
+        }
+        return true;
+    }
+}
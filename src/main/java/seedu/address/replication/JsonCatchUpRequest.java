@@ -0,0 +1,32 @@
+package seedu.address.replication;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the first line a follower sends: the last change it applied, so that the leader
+ * sends only the changes after it.
+ */
+class JsonCatchUpRequest {
+
+    private final long epoch;
+    private final long sequence;
+
+    /**
+     * Constructs a {@code JsonCatchUpRequest} for a follower that last applied change {@code sequence} of the run
+     * {@code epoch} of the leader. A follower that has applied no changes sends epoch 0.
+     */
+    @JsonCreator
+    public JsonCatchUpRequest(@JsonProperty("epoch") long epoch, @JsonProperty("sequence") long sequence) {
+        this.epoch = epoch;
+        this.sequence = sequence;
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.replication;
+
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAdaptedPerson;
+
+/**
+ * Jackson-friendly version of the addition, replacement or removal of one person.
+ */
+class JsonPersonEvent {
+
+    /**
+     * The kinds of change to a person.
+     */
+    enum Type {
+        ADD, SET, DELETE
+    }
+
+    private final Type type;
+    private final long uid;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonPersonEvent} with the given details. {@code person} is null for a removal.
+     */
+    @JsonCreator
+    public JsonPersonEvent(@JsonProperty("type") Type type, @JsonProperty("uid") long uid,
+            @JsonProperty("person") JsonAdaptedPerson person) {
+        this.type = type;
+        this.uid = uid;
+        this.person = person;
+    }
+
+    /**
+     * Converts the change of a person with UID {@code uid} to {@code person} into this class for Jackson use.
+     */
+    public static JsonPersonEvent of(Type type, long uid, Person person) {
+        return new JsonPersonEvent(type, uid, person == null ? null : new JsonAdaptedPerson(person));
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public long getUid() {
+        return uid;
+    }
+
+    /**
+     * Returns the person after the change, or an empty {@code Optional} for a removal.
+     *
+     * @throws IllegalValueException if the person's data is not valid.
+     */
+    public Optional<Person> toModelPerson() throws IllegalValueException {
+        if (type != Type.DELETE && person == null) {
+            throw new IllegalValueException("A " + type + " event must have a person");
+        }
+        return person == null ? Optional.empty() : Optional.of(person.toModelType());
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.replication;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of one change made to the leader's model, sent to followers as one line.
+ * A reset replaces all the persons of a follower with the persons it adds.
+ */
+class JsonReplicationEvent {
+
+    private final long epoch;
+    private final long sequence;
+    private final boolean isReset;
+    private final List<JsonPersonEvent> events = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonReplicationEvent} with the given details.
+     *
+     * @param epoch identifies the run of the leader that numbered the event.
+     * @param sequence the number of the change, which is one more than that of the leader's previous change.
+     */
+    @JsonCreator
+    public JsonReplicationEvent(@JsonProperty("epoch") long epoch, @JsonProperty("sequence") long sequence,
+            @JsonProperty("isReset") boolean isReset, @JsonProperty("events") List<JsonPersonEvent> events) {
+        this.epoch = epoch;
+        this.sequence = sequence;
+        this.isReset = isReset;
+        if (events != null) {
+            this.events.addAll(events);
+        }
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public boolean isReset() {
+        return isReset;
+    }
+
+    public List<JsonPersonEvent> getEvents() {
+        return events;
+    }
+}
@@ -0,0 +1,216 @@
+package seedu.address.replication;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.PersonChange;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Uid;
+
+/**
+ * Keeps a model in step with the model of a {@link ReplicationLeader} on a localhost port, so that it can be read
+ * locally. Changes can only be made to the leader's model, since a follower's own changes are not sent back: the
+ * app runs the logic of a follower read-only, so that commands that would change the persons fail and passed
+ * visits are not marked.
+ * <p>
+ * The events from the leader are read on a thread of the follower's own, and applied on the model's thread, each
+ * as one change to the model. When the connection is lost, the follower reconnects and asks for the events after
+ * the last one it applied.
+ */
+public class ReplicationFollower {
+
+    public static final Duration RECONNECT_DELAY = Duration.ofSeconds(1);
+
+    private static final Logger logger = LogsCenter.getLogger(ReplicationFollower.class);
+
+    private final Model model;
+    private final Executor modelExecutor;
+    private final int leaderPort;
+    private final Duration reconnectDelay;
+
+    // The last event applied. Written on the model's thread, and read when connecting.
+    private volatile long epoch;
+    private volatile long sequence;
+
+    private volatile boolean isStopped;
+    private volatile Socket socket;
+    private Thread thread;
+
+    /**
+     * Creates a {@code ReplicationFollower} that keeps {@code model} in step with the leader on the localhost port
+     * {@code leaderPort}, retrying every {@code reconnectDelay} while the leader cannot be reached.
+     *
+     * @param modelExecutor runs each change on the thread that owns the model.
+     */
+    public ReplicationFollower(Model model, Executor modelExecutor, int leaderPort, Duration reconnectDelay) {
+        requireAllNonNull(model, modelExecutor, reconnectDelay);
+        this.model = model;
+        this.modelExecutor = modelExecutor;
+        this.leaderPort = leaderPort;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    /**
+     * Creates a {@code ReplicationFollower} that keeps {@code model} in step with the leader on the localhost port
+     * {@code leaderPort}.
+     *
+     * @param modelExecutor runs each change on the thread that owns the model.
+     */
+    public ReplicationFollower(Model model, Executor modelExecutor, int leaderPort) {
+        this(model, modelExecutor, leaderPort, RECONNECT_DELAY);
+    }
+
+    /**
+     * Starts following the leader. Does nothing if the follower has already started.
+     */
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        thread = new Thread(this::follow, "replication-follower");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops following the leader.
+     */
+    public synchronized void stop() {
+        isStopped = true;
+        closeSocket();
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Returns the epoch of the leader whose events are applied to the model, or 0 before the first event.
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Returns the number of the last event applied to the model.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    private void follow() {
+        while (!isStopped) {
+            try (Socket leaderSocket = new Socket(InetAddress.getLoopbackAddress(), leaderPort)) {
+                socket = leaderSocket;
+                readEvents(leaderSocket);
+            } catch (IOException ioe) {
+                if (!isStopped) {
+                    logger.info("Lost the replication leader on port " + leaderPort + ": " + ioe);
+                }
+            }
+            try {
+                Thread.sleep(reconnectDelay.toMillis());
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Asks the leader on {@code leaderSocket} for the events after the last one applied, and hands each event to
+     * the model's thread until the connection is lost.
+     */
+    private void readEvents(Socket leaderSocket) throws IOException {
+        Writer writer = new OutputStreamWriter(leaderSocket.getOutputStream(), StandardCharsets.UTF_8);
+        writer.write(JsonUtil.toJsonLine(new JsonCatchUpRequest(epoch, sequence)));
+        writer.write('\n');
+        writer.flush();
+
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(leaderSocket.getInputStream(), StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            JsonReplicationEvent event = JsonUtil.fromJsonString(line, JsonReplicationEvent.class);
+            modelExecutor.execute(() -> apply(event));
+        }
+    }
+
+    /**
+     * Applies {@code event} to the model, unless it has been applied already. If the event does not follow the last
+     * one applied, or cannot be applied, reconnects to get all the persons from the leader again.
+     */
+    private void apply(JsonReplicationEvent event) {
+        if (!event.isReset() && (event.getEpoch() != epoch || event.getSequence() <= sequence)) {
+            // read before a reset that is on its way, or sent again after a reconnection
+            return;
+        }
+        try {
+            if (event.isReset()) {
+                model.setAddressBook(toAddressBook(event));
+            } else if (event.getSequence() == sequence + 1) {
+                model.applyChanges(toPersonChanges(event));
+            } else {
+                throw new IllegalValueException("Event " + event.getSequence() + " does not follow " + sequence);
+            }
+            epoch = event.getEpoch();
+            sequence = event.getSequence();
+        } catch (IllegalValueException | RuntimeException e) {
+            logger.warning("Failed to apply replication event " + event.getSequence() + ", resynchronizing: " + e);
+            epoch = 0;
+            sequence = 0;
+            closeSocket();
+        }
+    }
+
+    private static AddressBook toAddressBook(JsonReplicationEvent event) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        for (JsonPersonEvent personEvent : event.getEvents()) {
+            addressBook.addPerson(personEvent.toModelPerson().orElseThrow());
+        }
+        return addressBook;
+    }
+
+    private List<PersonChange> toPersonChanges(JsonReplicationEvent event) throws IllegalValueException {
+        List<PersonChange> changes = new ArrayList<>();
+        for (JsonPersonEvent personEvent : event.getEvents()) {
+            Optional<Person> before = Optional.empty();
+            if (personEvent.getType() != JsonPersonEvent.Type.ADD) {
+                before = model.getPerson(new Uid(personEvent.getUid()));
+                if (before.isEmpty()) {
+                    throw new IllegalValueException("No person has the UID " + personEvent.getUid());
+                }
+            }
+            changes.add(new PersonChange(before, personEvent.toModelPerson()));
+        }
+        return changes;
+    }
+
+    private void closeSocket() {
+        Socket currentSocket = socket;
+        if (currentSocket != null) {
+            try {
+                currentSocket.close();
+            } catch (IOException ioe) {
+                logger.fine("Failed to close the replication socket: " + ioe);
+            }
+        }
+    }
+}
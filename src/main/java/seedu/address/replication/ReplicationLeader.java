@@ -0,0 +1,352 @@
+package seedu.address.replication;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.PersonChange;
+import seedu.address.model.event.ModelEventBus;
+import seedu.address.model.event.PersonAddedEvent;
+import seedu.address.model.event.PersonChangesCompletedEvent;
+import seedu.address.model.event.PersonFieldsChangedEvent;
+import seedu.address.model.event.PersonRemovedEvent;
+import seedu.address.model.event.PersonsResetEvent;
+import seedu.address.model.person.Person;
+import seedu.address.replication.JsonPersonEvent.Type;
+
+/**
+ * Streams the changes made to a model to {@link ReplicationFollower}s over a localhost socket.
+ * <p>
+ * Each change to the model's persons, such as all the edits of one command, becomes one numbered event listing
+ * the persons added, replaced and removed. The latest events are kept, so that a follower that reconnects is sent
+ * only the events it missed. A follower that missed more than that, or that followed an earlier run of the leader,
+ * is sent all the persons instead.
+ * <p>
+ * The events are recorded on the model's thread from the changes published on the model's {@link ModelEventBus},
+ * so recording one takes time proportional to the number of persons changed. Each follower is sent them on a
+ * thread of its own, so a slow follower does not hold up the model or the other followers.
+ */
+public class ReplicationLeader {
+
+    public static final int DEFAULT_EVENT_CAPACITY = 10_000;
+
+    private static final Logger logger = LogsCenter.getLogger(ReplicationLeader.class);
+
+    private final ModelManager model;
+    private final int eventCapacity;
+    private final ServerSocket serverSocket;
+    private final long epoch = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+    private final Set<Socket> followerSockets = ConcurrentHashMap.newKeySet();
+    private final ExecutorService threads;
+
+    // Only used on the model's thread. The changes published since the last event, and whether they replaced
+    // every person, in which case the persons published last are all the persons.
+    private final List<PersonChange> pendingChanges = new ArrayList<>();
+    private List<Person> resetPersons;
+    private final Consumer<PersonAddedEvent> addedSubscriber = event ->
+            pendingChanges.add(new PersonChange(Optional.empty(), Optional.of(event.getPerson())));
+    private final Consumer<PersonRemovedEvent> removedSubscriber = event ->
+            pendingChanges.add(new PersonChange(Optional.of(event.getPerson()), Optional.empty()));
+    private final Consumer<PersonFieldsChangedEvent> fieldsChangedSubscriber = event ->
+            pendingChanges.add(new PersonChange(Optional.of(event.getBefore()), Optional.of(event.getAfter())));
+    private final Consumer<PersonsResetEvent> resetSubscriber = event -> {
+        pendingChanges.clear();
+        resetPersons = event.getPersons();
+    };
+    private final Consumer<PersonChangesCompletedEvent> completedSubscriber = event -> recordChange();
+
+    // Guarded by this. The persons as of the latest event, and the latest events in order.
+    private long latestSequence;
+    private ModelSnapshot latestPersons;
+    private final Deque<Event> events = new ArrayDeque<>();
+    private boolean isStopped;
+
+    /**
+     * Creates a {@code ReplicationLeader} for {@code model} on the localhost port {@code port}, keeping the latest
+     * {@code eventCapacity} events for followers that reconnect.
+     * The port is bound straight away; port 0 picks a free port.
+     *
+     * @throws IOException if the port cannot be bound.
+     */
+    public ReplicationLeader(ModelManager model, int port, int eventCapacity) throws IOException {
+        requireNonNull(model);
+        this.model = model;
+        this.eventCapacity = eventCapacity;
+        serverSocket = new ServerSocket();
+        // lets a restarted leader bind the port while connections of the previous run are closing
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        AtomicInteger threadNumber = new AtomicInteger();
+        threads = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "replication-leader-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Creates a {@code ReplicationLeader} for {@code model} on the localhost port {@code port}.
+     *
+     * @throws IOException if the port cannot be bound.
+     */
+    public ReplicationLeader(ModelManager model, int port) throws IOException {
+        this(model, port, DEFAULT_EVENT_CAPACITY);
+    }
+
+    /**
+     * Starts recording the changes to the model and accepting followers. Must be called on the model's thread.
+     */
+    public void start() {
+        synchronized (this) {
+            latestPersons = new ModelSnapshot(latestSequence, model.getAddressBook().getPersonList());
+        }
+        ModelEventBus bus = model.getEventBus();
+        bus.subscribe(PersonAddedEvent.class, addedSubscriber);
+        bus.subscribe(PersonRemovedEvent.class, removedSubscriber);
+        bus.subscribe(PersonFieldsChangedEvent.class, fieldsChangedSubscriber);
+        bus.subscribe(PersonsResetEvent.class, resetSubscriber);
+        bus.subscribe(PersonChangesCompletedEvent.class, completedSubscriber);
+        threads.execute(this::acceptFollowers);
+        logger.info("Replicating changes on port " + getPort());
+    }
+
+    /**
+     * Stops recording changes and disconnects the followers. Must be called on the model's thread.
+     */
+    public void stop() {
+        ModelEventBus bus = model.getEventBus();
+        bus.unsubscribe(PersonAddedEvent.class, addedSubscriber);
+        bus.unsubscribe(PersonRemovedEvent.class, removedSubscriber);
+        bus.unsubscribe(PersonFieldsChangedEvent.class, fieldsChangedSubscriber);
+        bus.unsubscribe(PersonsResetEvent.class, resetSubscriber);
+        bus.unsubscribe(PersonChangesCompletedEvent.class, completedSubscriber);
+        synchronized (this) {
+            isStopped = true;
+            notifyAll();
+        }
+        try {
+            serverSocket.close();
+        } catch (IOException ioe) {
+            logger.warning("Failed to close the replication socket: " + ioe);
+        }
+        followerSockets.forEach(ReplicationLeader::closeQuietly);
+        threads.shutdownNow();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Returns the number that tells this run of the leader apart from earlier ones.
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Returns the number of the latest event.
+     */
+    public synchronized long getLatestSequence() {
+        return latestSequence;
+    }
+
+    /**
+     * Records the changes published since the last event as a new event, leaving out persons replaced by
+     * themselves. If every person was replaced, the event replaces all the persons of the followers instead.
+     */
+    private synchronized void recordChange() {
+        List<PersonChange> changes = new ArrayList<>(pendingChanges);
+        List<Person> persons = resetPersons;
+        pendingChanges.clear();
+        resetPersons = null;
+        // persons are immutable, so an unchanged person is the same object
+        changes.removeIf(change -> change.getBefore().isPresent()
+                && change.getBefore().get() == change.getAfter().orElse(null));
+        if (persons == null && changes.isEmpty()) {
+            return;
+        }
+
+        latestSequence++;
+        if (persons != null) {
+            latestPersons = new ModelSnapshot(latestSequence, persons).withChanges(latestSequence, changes);
+            events.addLast(createReset());
+        } else {
+            latestPersons = latestPersons.withChanges(latestSequence, changes);
+            events.addLast(new Event(epoch, latestSequence, false, changes));
+        }
+        if (events.size() > eventCapacity) {
+            events.removeFirst();
+        }
+        notifyAll();
+    }
+
+    private void acceptFollowers() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                followerSockets.add(socket);
+                threads.execute(() -> serveFollower(socket));
+            } catch (SocketException e) {
+                // the socket was closed by stop()
+            } catch (IOException ioe) {
+                logger.warning("Failed to accept a follower: " + ioe);
+            }
+        }
+    }
+
+    /**
+     * Sends the follower connected on {@code socket} the events after the one it asks for, then each new event,
+     * until it disconnects or the leader stops.
+     */
+    private void serveFollower(Socket socket) {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                Writer writer = new BufferedWriter(
+                        new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            String requestLine = reader.readLine();
+            if (requestLine == null) {
+                return;
+            }
+            JsonCatchUpRequest request = JsonUtil.fromJsonString(requestLine, JsonCatchUpRequest.class);
+            logger.info("Follower " + socket.getRemoteSocketAddress() + " connected after event "
+                    + request.getEpoch() + ":" + request.getSequence());
+
+            long sentSequence = request.getEpoch() == epoch ? request.getSequence() : -1;
+            while (true) {
+                List<Event> eventsToSend = new ArrayList<>();
+                synchronized (this) {
+                    while (!isStopped && sentSequence == latestSequence) {
+                        wait();
+                    }
+                    if (isStopped) {
+                        return;
+                    }
+                    if (canCatchUp(sentSequence)) {
+                        for (Event event : events) {
+                            if (event.getSequence() > sentSequence) {
+                                eventsToSend.add(event);
+                            }
+                        }
+                    } else {
+                        eventsToSend.add(createReset());
+                    }
+                    sentSequence = latestSequence;
+                }
+
+                // converted outside the lock, so that the model's thread is not held up recording changes
+                for (Event event : eventsToSend) {
+                    writer.write(event.toJsonLine());
+                    writer.write('\n');
+                }
+                writer.flush();
+            }
+        } catch (IOException ioe) {
+            logger.info("Follower " + socket.getRemoteSocketAddress() + " disconnected: " + ioe);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            followerSockets.remove(socket);
+            closeQuietly(socket);
+        }
+    }
+
+    /**
+     * Returns true if all the events after {@code sequence} are still kept.
+     */
+    private boolean canCatchUp(long sequence) {
+        assert Thread.holdsLock(this);
+        if (sequence < 0 || sequence > latestSequence) {
+            return false;
+        }
+        long firstKeptSequence = events.isEmpty() ? latestSequence + 1 : events.getFirst().getSequence();
+        return sequence >= firstKeptSequence - 1;
+    }
+
+    /**
+     * Returns an event that adds all the persons as of the latest event, in place of those a follower has.
+     */
+    private Event createReset() {
+        assert Thread.holdsLock(this);
+        List<PersonChange> changes = new ArrayList<>();
+        for (Person person : latestPersons.getPersonList()) {
+            changes.add(new PersonChange(Optional.empty(), Optional.of(person)));
+        }
+        return new Event(epoch, latestSequence, true, changes);
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ioe) {
+            logger.fine("Failed to close a follower socket: " + ioe);
+        }
+    }
+
+    /**
+     * An event for followers, converted to JSON the first time it is sent.
+     */
+    private static class Event {
+        private final long epoch;
+        private final long sequence;
+        private final boolean isReset;
+        private final List<PersonChange> changes;
+        // Two followers may both convert the event, which is harmless since the persons never change.
+        private volatile String jsonLine;
+
+        Event(long epoch, long sequence, boolean isReset, List<PersonChange> changes) {
+            this.epoch = epoch;
+            this.sequence = sequence;
+            this.isReset = isReset;
+            this.changes = changes;
+        }
+
+        long getSequence() {
+            return sequence;
+        }
+
+        String toJsonLine() throws IOException {
+            String line = jsonLine;
+            if (line == null) {
+                List<JsonPersonEvent> personEvents = new ArrayList<>();
+                for (PersonChange change : changes) {
+                    Person person = change.getAfter().or(change::getBefore).get();
+                    Type type = change.isAddition() ? Type.ADD : change.isRemoval() ? Type.DELETE : Type.SET;
+                    personEvents.add(JsonPersonEvent.of(type, person.getUid().getUid(),
+                            change.getAfter().orElse(null)));
+                }
+                line = JsonUtil.toJsonLine(new JsonReplicationEvent(epoch, sequence, isReset, personEvents));
+                jsonLine = line;
+            }
+            return line;
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.category.Category;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Uid;
+import seedu.address.model.schedule.ScheduleEntry;
+import seedu.address.storage.JsonAdaptedPerson;
+
+/**
+ * An optional HTTP server, bound to localhost, that lets other tools at the clinic read the persons and schedule
+ * and run commands.
+ * <p>
+ * Reads are served from the latest {@link ModelSnapshot}, so any number of them run at once on the server's
+ * threads without touching the live model. Commands are run through {@link Logic#executeAsync(String)}, which
+ * runs them one at a time, in the order they arrive, alongside the commands typed in the app.
+ * <p>
+ * Endpoints, all of which answer with JSON:
+ * <ul>
+ *     <li>{@code GET /persons[?category=CATEGORY][&name=KEYWORD]...}: the persons of the given category whose
+ *     names contain any of the given keywords</li>
+ *     <li>{@code GET /persons/UID}: the person with the given UID</li>
+ *     <li>{@code GET /schedule?from=DATE_TIME&to=DATE_TIME}: the home visits from {@code from} up to, but not
+ *     including, {@code to}. A date without a time means the start of that day for {@code from} and the end of
+ *     that day for {@code to}.</li>
+ *     <li>{@code POST /commands}: runs the command in the request body</li>
+ * </ul>
+ * Every response carries the version of the snapshot it was read from, or that a command's changes were first
+ * visible in, in the {@value #SNAPSHOT_VERSION_HEADER} header.
+ */
+public class ApiServer {
+
+    public static final String PERSONS_PATH = "/persons";
+    public static final String SCHEDULE_PATH = "/schedule";
+    public static final String COMMANDS_PATH = "/commands";
+    public static final String SNAPSHOT_VERSION_HEADER = "X-Snapshot-Version";
+
+    public static final String MESSAGE_NOT_FOUND = "No such resource: %1$s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s is not supported on %2$s";
+    public static final String MESSAGE_PERSON_NOT_FOUND = "No person has the UID %1$s";
+    public static final String MESSAGE_INVALID_PARAMETER = "Invalid %1$s: %2$s";
+    public static final String MESSAGE_MISSING_PARAMETER = "Missing parameter: %1$s";
+    public static final String MESSAGE_EMPTY_COMMAND = "The request body must contain a command";
+    public static final String MESSAGE_COMMAND_TIMED_OUT = "The command did not finish within %1$d seconds";
+
+    static final Duration COMMAND_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_INTERNAL_ERROR = 500;
+    private static final int STATUS_UNAVAILABLE = 503;
+
+    private static final String METHOD_GET = "GET";
+    private static final String METHOD_POST = "POST";
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final Logic logic;
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+
+    /**
+     * Creates a server for {@code logic} on the localhost {@code port}, which is not started yet.
+     * A {@code port} of 0 picks any free port, which {@link #getPort()} then returns.
+     *
+     * @param threads the number of requests that can be served at once.
+     * @throws IOException if the port cannot be bound.
+     */
+    public ApiServer(Logic logic, int port, int threads) throws IOException {
+        requireNonNull(logic);
+        this.logic = logic;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        AtomicInteger threadCount = new AtomicInteger();
+        requestExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "api-server-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(requestExecutor);
+        server.createContext(PERSONS_PATH, exchange -> handle(exchange, METHOD_GET, this::handlePersons));
+        server.createContext(SCHEDULE_PATH, exchange -> handle(exchange, METHOD_GET, this::handleSchedule));
+        server.createContext(COMMANDS_PATH, exchange -> handle(exchange, METHOD_POST, this::handleCommand));
+    }
+
+    /**
+     * Creates a server for {@code logic} on the localhost {@code port}, with a thread for each processor.
+     *
+     * @throws IOException if the port cannot be bound.
+     */
+    public ApiServer(Logic logic, int port) throws IOException {
+        this(logic, port, Math.max(2, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Starts serving requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Serving the API on " + getBaseUri());
+    }
+
+    /**
+     * Stops serving requests, without waiting for the ones being served.
+     */
+    public void stop() {
+        server.stop(0);
+        requestExecutor.shutdownNow();
+        logger.info("Stopped serving the API");
+    }
+
+    /**
+     * Returns the port the server is bound to.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the address of the server, such as {@code http://127.0.0.1:8421}.
+     */
+    public URI getBaseUri() {
+        try {
+            return new URI("http", null, server.getAddress().getHostString(), getPort(), null, null, null);
+        } catch (URISyntaxException use) {
+            throw new IllegalStateException(use);
+        }
+    }
+
+    private void handle(HttpExchange exchange, String allowedMethod, RequestHandler handler) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals(allowedMethod)) {
+                exchange.getResponseHeaders().set("Allow", allowedMethod);
+                throw new ApiException(STATUS_METHOD_NOT_ALLOWED, String.format(MESSAGE_METHOD_NOT_ALLOWED,
+                        exchange.getRequestMethod(), exchange.getRequestURI().getPath()));
+            }
+            handler.handle(exchange);
+        } catch (ApiException ae) {
+            sendJson(exchange, ae.status, Map.of("error", ae.getMessage()), logic.getSnapshot());
+        } catch (RuntimeException re) {
+            logger.warning("Failed to serve " + exchange.getRequestURI() + ": " + re);
+            sendJson(exchange, STATUS_INTERNAL_ERROR, Map.of("error", String.valueOf(re.getMessage())),
+                    logic.getSnapshot());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handlePersons(HttpExchange exchange) throws IOException, ApiException {
+        ModelSnapshot snapshot = logic.getSnapshot();
+        String path = exchange.getRequestURI().getPath();
+        if (path.equals(PERSONS_PATH) || path.equals(PERSONS_PATH + "/")) {
+            Predicate<Person> predicate = parsePersonFilter(parseQuery(exchange));
+            List<JsonAdaptedPerson> persons = snapshot.getPersons(predicate).stream()
+                    .map(JsonAdaptedPerson::new)
+                    .collect(Collectors.toList());
+            sendJson(exchange, STATUS_OK, persons, snapshot);
+            return;
+        }
+
+        String uid = path.substring(PERSONS_PATH.length() + 1);
+        if (uid.contains("/")) {
+            throw new ApiException(STATUS_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, path));
+        }
+        if (uid.isEmpty() || !Uid.isValidUid(uid)) {
+            throw new ApiException(STATUS_BAD_REQUEST, String.format(MESSAGE_INVALID_PARAMETER, "UID", uid));
+        }
+        Person person;
+        try {
+            person = snapshot.getPerson(Long.parseLong(uid))
+                    .orElseThrow(() -> new ApiException(STATUS_NOT_FOUND,
+                            String.format(MESSAGE_PERSON_NOT_FOUND, uid)));
+        } catch (NumberFormatException nfe) {
+            throw new ApiException(STATUS_NOT_FOUND, String.format(MESSAGE_PERSON_NOT_FOUND, uid));
+        }
+        sendJson(exchange, STATUS_OK, new JsonAdaptedPerson(person), snapshot);
+    }
+
+    private void handleSchedule(HttpExchange exchange) throws IOException, ApiException {
+        ModelSnapshot snapshot = logic.getSnapshot();
+        Map<String, List<String>> query = parseQuery(exchange);
+        LocalDateTime from = parseDateTime(query, "from", false);
+        LocalDateTime to = parseDateTime(query, "to", true);
+        List<JsonScheduleEntry> entries = snapshot.getScheduleEntries(from, to).stream()
+                .map(JsonScheduleEntry::new)
+                .collect(Collectors.toList());
+        sendJson(exchange, STATUS_OK, entries, snapshot);
+    }
+
+    private void handleCommand(HttpExchange exchange) throws IOException, ApiException {
+        String commandText;
+        try (InputStream body = exchange.getRequestBody()) {
+            commandText = new String(body.readAllBytes(), StandardCharsets.UTF_8).trim();
+        }
+        if (commandText.isEmpty()) {
+            throw new ApiException(STATUS_BAD_REQUEST, MESSAGE_EMPTY_COMMAND);
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("command", commandText);
+        try {
+            CommandResult commandResult = logic.executeAsync(commandText)
+                    .get(COMMAND_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+            response.put("success", true);
+            response.put("feedback", commandResult.getFeedbackToUser());
+            sendJson(exchange, STATUS_OK, response, logic.getSnapshot());
+        } catch (ExecutionException ee) {
+            response.put("success", false);
+            response.put("feedback", ee.getCause().getMessage());
+            sendJson(exchange, STATUS_BAD_REQUEST, response, logic.getSnapshot());
+        } catch (TimeoutException te) {
+            throw new ApiException(STATUS_UNAVAILABLE,
+                    String.format(MESSAGE_COMMAND_TIMED_OUT, COMMAND_TIMEOUT.toSeconds()));
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(STATUS_UNAVAILABLE, "The server is stopping");
+        }
+    }
+
+    /**
+     * Returns the filter described by the {@code category} and {@code name} query parameters.
+     */
+    private static Predicate<Person> parsePersonFilter(Map<String, List<String>> query) throws ApiException {
+        Predicate<Person> predicate = Model.PREDICATE_SHOW_ALL_PERSONS;
+        List<String> categories = query.getOrDefault("category", List.of());
+        if (!categories.isEmpty()) {
+            String category = Category.formatMisspelling(categories.get(0)).toUpperCase(Locale.ROOT);
+            if (!Category.isValidCategoryName(category)) {
+                throw new ApiException(STATUS_BAD_REQUEST,
+                        String.format(MESSAGE_INVALID_PARAMETER, "category", categories.get(0)));
+            }
+            predicate = predicate.and(person -> person.getCategory() != null
+                    && person.getCategory().categoryName.equals(category));
+        }
+        List<String> keywords = query.getOrDefault("name", List.of()).stream()
+                .flatMap(name -> Arrays.stream(name.trim().split("\\s+")))
+                .filter(keyword -> !keyword.isEmpty())
+                .collect(Collectors.toList());
+        if (!keywords.isEmpty()) {
+            predicate = predicate.and(new NameContainsKeywordsPredicate(keywords));
+        }
+        return predicate;
+    }
+
+    private static LocalDateTime parseDateTime(Map<String, List<String>> query, String name, boolean isEnd)
+            throws ApiException {
+        List<String> values = query.getOrDefault(name, List.of());
+        if (values.isEmpty()) {
+            throw new ApiException(STATUS_BAD_REQUEST, String.format(MESSAGE_MISSING_PARAMETER, name));
+        }
+        String value = values.get(0);
+        try {
+            if (!value.contains("T")) {
+                LocalDate date = LocalDate.parse(value);
+                return isEnd ? date.plusDays(1).atStartOfDay() : date.atStartOfDay();
+            }
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException dtpe) {
+            throw new ApiException(STATUS_BAD_REQUEST, String.format(MESSAGE_INVALID_PARAMETER, name, value));
+        }
+    }
+
+    private static Map<String, List<String>> parseQuery(HttpExchange exchange) {
+        Map<String, List<String>> query = new HashMap<>();
+        String rawQuery = exchange.getRequestURI().getRawQuery();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            int separator = parameter.indexOf('=');
+            String name = separator < 0 ? parameter : parameter.substring(0, separator);
+            String value = separator < 0 ? "" : parameter.substring(separator + 1);
+            query.computeIfAbsent(URLDecoder.decode(name, StandardCharsets.UTF_8), k -> new ArrayList<>())
+                    .add(URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, Object body, ModelSnapshot snapshot)
+            throws IOException {
+        byte[] bytes = JsonUtil.toJsonLine(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.getResponseHeaders().set(SNAPSHOT_VERSION_HEADER, String.valueOf(snapshot.getVersion()));
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+
+    /**
+     * Serves one request to an endpoint.
+     */
+    @FunctionalInterface
+    private interface RequestHandler {
+        void handle(HttpExchange exchange) throws IOException, ApiException;
+    }
+
+    /**
+     * Signals that a request cannot be served, with the HTTP status to answer with.
+     */
+    private static class ApiException extends Exception {
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    /**
+     * Jackson-friendly version of {@link ScheduleEntry}.
+     */
+    private static class JsonScheduleEntry {
+        private final String dateTime;
+        private final Long patientUid;
+        private final Long nurseUid;
+        private final String status;
+
+        JsonScheduleEntry(ScheduleEntry entry) {
+            dateTime = entry.getDateTime().toString();
+            patientUid = entry.getPatientUidNo();
+            nurseUid = entry.hasNurse() ? entry.getNurseUidNo() : null;
+            status = entry.getStatus().toString();
+        }
+    }
+}
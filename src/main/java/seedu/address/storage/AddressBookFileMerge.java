@@ -0,0 +1,240 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.PersonChange;
+import seedu.address.model.VersionVector;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Uid;
+
+/**
+ * Merges the persons of another copy of the address book, saved as a json file, into ours, by comparing the
+ * version each copy recorded for each person.
+ * <p>
+ * A person whose version in one copy has seen all the changes of the other takes that copy's data, including a
+ * removal. A person changed in both copies since they parted is a conflict, unless both made the same change.
+ * Unless the merge is told which copy to keep, it keeps our data and version, so that the conflict is reported
+ * again by each merge until the user chooses. Keeping our data takes it to have seen the other copy's change, so
+ * that it is the one merged into the other copy later; keeping theirs takes their data and version. A person only
+ * one copy has ever known is taken from that copy.
+ * <p>
+ * The file is read one person at a time and each person is looked up by uid in our copy, so that large files
+ * are merged in one pass without holding the other copy in memory. Only the versions of the other copy's
+ * persons, written before them, and the changes to make are kept.
+ */
+public class AddressBookFileMerge {
+
+    public static final String MESSAGE_VERSIONS_AFTER_PERSONS = "The versions of the persons must come before "
+            + "the persons.";
+    public static final String MESSAGE_DUPLICATE_UID = "The file has more than one person with UID %1$s.";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFileMerge.class);
+
+    /**
+     * Which copy's data a person changed in both copies keeps.
+     */
+    public enum Resolution {
+        /** Neither: our data is kept until the user chooses, and the conflict is reported again. */
+        NONE,
+        KEEP_OURS,
+        KEEP_THEIRS
+    }
+
+    private final Function<Uid, Optional<Person>> ourPersons;
+    private final Function<Uid, VersionVector> ourVersions;
+    private final Resolution resolution;
+    private final List<PersonChange> changes = new ArrayList<>();
+    private final Map<Uid, VersionVector> mergedVersions = new LinkedHashMap<>();
+    private final List<Uid> conflicts = new ArrayList<>();
+
+    private AddressBookFileMerge(Function<Uid, Optional<Person>> ourPersons,
+            Function<Uid, VersionVector> ourVersions, Resolution resolution) {
+        this.ourPersons = ourPersons;
+        this.ourVersions = ourVersions;
+        this.resolution = resolution;
+    }
+
+    /**
+     * Merges the copy of the address book saved at {@code filePath} into the copy whose persons and versions are
+     * looked up by uid with {@code ourPersons} and {@code ourVersions}, resolving the conflicts with
+     * {@code resolution}. Our copy is not changed.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public static AddressBookFileMerge merge(Path filePath, Function<Uid, Optional<Person>> ourPersons,
+            Function<Uid, VersionVector> ourVersions, Resolution resolution)
+            throws IOException, DataConversionException {
+        requireAllNonNull(filePath, ourPersons, ourVersions, resolution);
+        AddressBookFileMerge merge = new AddressBookFileMerge(ourPersons, ourVersions, resolution);
+        // reading the persons sets the next uid to follow each of them, so it is restored afterwards
+        long nextUid = Uid.peekNextUid();
+        long maxTheirUid = -1;
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            maxTheirUid = merge.read(parser);
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        } finally {
+            Uid.reserveUpTo(Math.max(nextUid - 1, maxTheirUid));
+        }
+        logger.info("Merged " + filePath + ": " + merge.changes.size() + " change(s), "
+                + merge.conflicts.size() + " conflict(s)");
+        return merge;
+    }
+
+    /**
+     * Reads the versions and then the persons of the other copy from {@code parser}, merging each person as it is
+     * read, and returns the greatest uid read.
+     */
+    private long read(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException("The file does not hold an address book.");
+        }
+        Map<Long, VersionVector> theirVersions = new HashMap<>();
+        Set<Long> theirUids = new HashSet<>();
+        long maxUid = -1;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (JsonSerializableAddressBook.PERSON_VERSIONS_FIELD.equals(fieldName)
+                    && valueToken == JsonToken.START_ARRAY) {
+                if (!theirUids.isEmpty()) {
+                    throw new IllegalValueException(MESSAGE_VERSIONS_AFTER_PERSONS);
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonAdaptedPersonVersion personVersion = parser.readValueAs(JsonAdaptedPersonVersion.class);
+                    theirVersions.put(personVersion.getUid(), personVersion.toModelType());
+                    maxUid = Math.max(maxUid, personVersion.getUid());
+                }
+            } else if (JsonSerializableAddressBook.PERSONS_FIELD.equals(fieldName)
+                    && valueToken == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    Person theirPerson = parser.readValueAs(JsonAdaptedPerson.class).toModelType();
+                    long uidNo = theirPerson.getUid().getUid();
+                    if (!theirUids.add(uidNo)) {
+                        throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_UID, uidNo));
+                    }
+                    maxUid = Math.max(maxUid, uidNo);
+                    VersionVector theirVersion = theirVersions.getOrDefault(uidNo, VersionVector.EMPTY);
+                    mergePerson(theirPerson.getUid(), theirPerson, theirVersion);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        // the versions left are of persons the other copy removed
+        for (Map.Entry<Long, VersionVector> theirVersion : theirVersions.entrySet()) {
+            if (!theirUids.contains(theirVersion.getKey())) {
+                mergePerson(new Uid(theirVersion.getKey()), null, theirVersion.getValue());
+            }
+        }
+        return maxUid;
+    }
+
+    /**
+     * Merges the person with {@code uid}, which the other copy has as {@code theirPerson}, or null if it removed
+     * the person, with the version {@code theirVersion}.
+     */
+    private void mergePerson(Uid uid, Person theirPerson, VersionVector theirVersion) throws IOException {
+        Person ourPerson = ourPersons.apply(uid).orElse(null);
+        VersionVector ourVersion = ourVersions.apply(uid);
+        if (ourPerson == null && ourVersion.isEmpty()) {
+            // never known to our copy
+            takeTheirs(uid, null, theirPerson, theirVersion);
+            return;
+        }
+
+        switch (ourVersion.compareTo(theirVersion)) {
+        case BEFORE:
+            takeTheirs(uid, ourPerson, theirPerson, theirVersion);
+            break;
+        case CONCURRENT:
+            if (AddressBookMerge.isSameData(ourPerson, theirPerson)) {
+                mergedVersions.put(uid, theirVersion);
+            } else {
+                resolveConflict(uid, ourPerson, theirPerson, theirVersion);
+            }
+            break;
+        case EQUAL:
+            // neither copy has recorded a change the other has not seen, except for the visits each copy marks
+            // by itself, but a person neither copy recorded a version for may still have been changed in both
+            if (ourVersion.isEmpty() && !AddressBookMerge.isSameData(ourPerson, theirPerson)) {
+                resolveConflict(uid, ourPerson, theirPerson, theirVersion);
+            }
+            break;
+        default:
+            // our copy has seen all the changes of theirs
+            break;
+        }
+    }
+
+    private void resolveConflict(Uid uid, Person ourPerson, Person theirPerson, VersionVector theirVersion) {
+        conflicts.add(uid);
+        switch (resolution) {
+        case KEEP_OURS:
+            // their change is taken to be seen, so that our data is the one merged into their copy later
+            if (!theirVersion.isEmpty()) {
+                mergedVersions.put(uid, theirVersion);
+            }
+            break;
+        case KEEP_THEIRS:
+            takeTheirs(uid, ourPerson, theirPerson, theirVersion);
+            break;
+        default:
+            // neither version is merged, so that the conflict is reported again until the user chooses
+            break;
+        }
+    }
+
+    private void takeTheirs(Uid uid, Person ourPerson, Person theirPerson, VersionVector theirVersion) {
+        if (ourPerson != null || theirPerson != null) {
+            changes.add(new PersonChange(Optional.ofNullable(ourPerson), Optional.ofNullable(theirPerson)));
+        }
+        if (!theirVersion.isEmpty()) {
+            mergedVersions.put(uid, theirVersion);
+        }
+    }
+
+    /**
+     * Returns the changes to make to our copy to take the persons of the other copy.
+     */
+    public List<PersonChange> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Returns the versions to merge into the versions of our persons once the changes are made, by uid.
+     */
+    public Map<Uid, VersionVector> getMergedVersions() {
+        return mergedVersions;
+    }
+
+    /**
+     * Returns the uids of the persons changed differently in both copies, which keep the data of the copy chosen
+     * by the resolution, or ours if none was.
+     */
+    public List<Uid> getConflicts() {
+        return conflicts;
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.PersonChange;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Uid;
+
+/**
+ * A three-way merge, by UID, of two lists of persons that were both changed from a common base list.
+ * A person changed in only one list takes that list's version. A person changed in both lists is a conflict,
+ * unless both made the same change.
+ */
+class AddressBookMerge {
+
+    private final List<Person> mergedPersons = new ArrayList<>();
+    private final List<PersonChange> theirChanges = new ArrayList<>();
+    private final List<Uid> conflicts = new ArrayList<>();
+
+    private AddressBookMerge() {}
+
+    /**
+     * Merges {@code theirs} into {@code ours}, both changed from {@code base}.
+     * The merged persons keep the order of {@code ours}, followed by the persons only {@code theirs} added.
+     */
+    public static AddressBookMerge merge(List<Person> base, List<Person> ours, List<Person> theirs)
+            throws JsonProcessingException {
+        requireAllNonNull(base, ours, theirs);
+        Map<Long, Person> baseByUid = byUid(base);
+        Map<Long, Person> theirsByUid = byUid(theirs);
+        AddressBookMerge merge = new AddressBookMerge();
+
+        for (Person ourPerson : ours) {
+            Person basePerson = baseByUid.get(ourPerson.getUid().getUid());
+            Person theirPerson = theirsByUid.remove(ourPerson.getUid().getUid());
+            if (isSameData(basePerson, theirPerson)) {
+                merge.mergedPersons.add(ourPerson);
+            } else if (isSameData(basePerson, ourPerson)) {
+                merge.takeTheirChange(ourPerson, theirPerson);
+            } else if (isSameData(ourPerson, theirPerson)) {
+                merge.mergedPersons.add(ourPerson);
+            } else {
+                merge.conflicts.add(ourPerson.getUid());
+                merge.mergedPersons.add(ourPerson);
+            }
+        }
+
+        // the persons left were either added by them or removed by us
+        for (Person theirPerson : theirsByUid.values()) {
+            Person basePerson = baseByUid.get(theirPerson.getUid().getUid());
+            if (basePerson == null) {
+                merge.takeTheirChange(null, theirPerson);
+            } else if (!isSameData(basePerson, theirPerson)) {
+                merge.conflicts.add(theirPerson.getUid());
+            }
+        }
+        return merge;
+    }
+
+    /**
+     * Returns the changes to make to the persons of {@code from} to get the persons of {@code to}.
+     */
+    public static List<PersonChange> changesBetween(List<Person> from, List<Person> to)
+            throws JsonProcessingException {
+        requireAllNonNull(from, to);
+        Map<Long, Person> toByUid = byUid(to);
+        List<PersonChange> changes = new ArrayList<>();
+        for (Person fromPerson : from) {
+            Person toPerson = toByUid.remove(fromPerson.getUid().getUid());
+            if (!isSameData(fromPerson, toPerson)) {
+                changes.add(new PersonChange(Optional.of(fromPerson), Optional.ofNullable(toPerson)));
+            }
+        }
+        for (Person toPerson : toByUid.values()) {
+            changes.add(new PersonChange(Optional.empty(), Optional.of(toPerson)));
+        }
+        return changes;
+    }
+
+    private void takeTheirChange(Person ourPerson, Person theirPerson) {
+        if (theirPerson != null) {
+            mergedPersons.add(theirPerson);
+        }
+        theirChanges.add(new PersonChange(Optional.ofNullable(ourPerson), Optional.ofNullable(theirPerson)));
+    }
+
+    /**
+     * Returns the persons of both lists, with the changes of both.
+     */
+    public List<Person> getMergedPersons() {
+        return mergedPersons;
+    }
+
+    /**
+     * Returns the changes to make to the persons of our list to get the merged persons.
+     */
+    public List<PersonChange> getTheirChanges() {
+        return theirChanges;
+    }
+
+    /**
+     * Returns the UIDs of the persons changed differently in both lists, whose changes in their list are not
+     * in the merged persons.
+     */
+    public List<Uid> getConflicts() {
+        return conflicts;
+    }
+
+    public boolean hasConflicts() {
+        return !conflicts.isEmpty();
+    }
+
+    private static Map<Long, Person> byUid(List<Person> persons) {
+        Map<Long, Person> personsByUid = new LinkedHashMap<>();
+        for (Person person : persons) {
+            personsByUid.put(person.getUid().getUid(), person);
+        }
+        return personsByUid;
+    }
+
+    /**
+     * Returns true if {@code first} and {@code second} would be saved the same, or are both absent.
+     * {@link Person#equals(Object)} does not compare the visits of patients and nurses, so the saved forms are
+     * compared, unless the persons are the same object.
+     */
+    static boolean isSameData(Person first, Person second) throws JsonProcessingException {
+        if (first == second) {
+            return true;
+        }
+        if (first == null || second == null || !first.equals(second)) {
+            return false;
+        }
+        return JsonUtil.toJsonLine(new JsonAdaptedPerson(first))
+                .equals(JsonUtil.toJsonLine(new JsonAdaptedPerson(second)));
+    }
+}
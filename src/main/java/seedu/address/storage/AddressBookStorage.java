@@ -2,9 +2,11 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.PersonChange;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -35,15 +37,20 @@ public interface AddressBookStorage {
 
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
+     * Changes saved to the storage by another instance of the app since it was last read or saved are kept. If the
+     * other instance changed the same persons, nothing is saved.
      *
      * @param addressBook cannot be null.
+     * @return the changes saved by other instances, to make to {@code addressBook} to match the storage.
      * @throws IOException if there was any problem writing to the file.
+     * @throws ConflictingChangesException if the address book was not saved, as another instance changed the same
+     *                     persons.
      */
-    void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+    List<PersonChange> saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
     /**
      * @see #saveAddressBook(ReadOnlyAddressBook)
      */
-    void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
+    List<PersonChange> saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
 }
@@ -0,0 +1,27 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConflictException;
+import seedu.address.model.PersonChange;
+
+/**
+ * Signals that an address book was not saved, as another instance of the app saved changes to the same persons
+ * since it was last read or saved. The file is left as the other instance saved it, and the changes to make to the
+ * address book to match the file are carried, so that neither instance's changes are saved over the other's.
+ */
+public class ConflictingChangesException extends DataConflictException {
+    private final List<PersonChange> theirChanges;
+
+    /**
+     * @param theirChanges the changes to make to the address book that was not saved to match the file.
+     */
+    public ConflictingChangesException(String message, List<PersonChange> theirChanges) {
+        super(message);
+        this.theirChanges = List.copyOf(theirChanges);
+    }
+
+    public List<PersonChange> getTheirChanges() {
+        return theirChanges;
+    }
+}
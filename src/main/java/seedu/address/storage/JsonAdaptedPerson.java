@@ -30,13 +30,14 @@ import seedu.address.model.person.Patient;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Physician;
+import seedu.address.model.person.Recurrence;
 import seedu.address.model.person.Uid;
 import seedu.address.model.tag.Tag;
 
 /**
  * Jackson-friendly version of {@link Person}.
  */
-class JsonAdaptedPerson {
+public class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
     public static final String NOT_APPLICABLE = "NA";
@@ -51,6 +52,7 @@ class JsonAdaptedPerson {
     private final List<JsonAdaptedDate> unavailableDates = new ArrayList<>();
     private final List<JsonAdaptedDate> fullyAssignedDates = new ArrayList<>();
     private final List<JsonAdaptedDateSlot> dateSlots = new ArrayList<>();
+    private final List<JsonAdaptedRecurrence> recurrences = new ArrayList<>();
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
     private final String pName;
     private final String pPhone;
@@ -59,6 +61,18 @@ class JsonAdaptedPerson {
     private final String nPhone;
     private final String nEmail;
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no recurring visits.
+     */
+    public JsonAdaptedPerson(Long uid, String name, String category, String gender, String phone, String email,
+            String address, List<JsonAdaptedDateSlot> dateSlot, List<JsonAdaptedTag> tagged,
+            List<JsonAdaptedHomeVisit> homeVisit, List<JsonAdaptedDate> unavailableDateList,
+            List<JsonAdaptedDate> fullyAssignedDateList, String pName, String pPhone, String pEmail,
+            String nName, String nPhone, String nEmail) {
+        this(uid, name, category, gender, phone, email, address, dateSlot, tagged, homeVisit, unavailableDateList,
+                fullyAssignedDateList, pName, pPhone, pEmail, nName, nPhone, nEmail, null);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
@@ -77,7 +91,8 @@ class JsonAdaptedPerson {
             @JsonProperty("pEmail") String pEmail,
             @JsonProperty("nName") String nName,
             @JsonProperty("nPhone") String nPhone,
-            @JsonProperty("nEmail") String nEmail) {
+            @JsonProperty("nEmail") String nEmail,
+            @JsonProperty("recurrences") List<JsonAdaptedRecurrence> recurrenceList) {
 
         this.uid = uid;
         this.name = name;
@@ -113,6 +128,10 @@ class JsonAdaptedPerson {
             this.fullyAssignedDates.addAll(fullyAssignedDateList);
         }
 
+        if (recurrenceList != null) {
+            this.recurrences.addAll(recurrenceList);
+        }
+
     }
 
     /**
@@ -126,6 +145,8 @@ class JsonAdaptedPerson {
             Patient sourcePatient = (Patient) source;
             dateSlots.addAll(sourcePatient.getDatesSlots().stream().map(JsonAdaptedDateSlot::new)
                     .collect(Collectors.toList()));
+            recurrences.addAll(sourcePatient.getRecurrences().stream().map(JsonAdaptedRecurrence::new)
+                    .collect(Collectors.toList()));
             pName = getpName(sourcePatient);
             pEmail = getpEmail(sourcePatient);
             pPhone = getpPhone(sourcePatient);
@@ -223,8 +244,9 @@ class JsonAdaptedPerson {
             List<DateSlot> modelDateSlots = getModelDateSlots();
             Optional<Physician> modelPhysician = getModelPhysician();
             Optional<NextOfKin> modelNextOfKin = getModelNextOfKin();
+            List<Recurrence> modelRecurrences = getModelRecurrences();
             return new Patient(modelUid, modelName, modelGender, modelPhone, modelEmail,
-                    modelAddress, modelTags, modelDateSlots, modelPhysician, modelNextOfKin);
+                    modelAddress, modelTags, modelDateSlots, modelPhysician, modelNextOfKin, modelRecurrences);
 
         }
         throw new IllegalValueException(Category.MESSAGE_CONSTRAINTS);
@@ -351,6 +373,14 @@ class JsonAdaptedPerson {
         return patientHomeVisitDatesSlots;
     }
 
+    private List<Recurrence> getModelRecurrences() throws IllegalValueException {
+        final List<Recurrence> patientRecurrences = new ArrayList<>();
+        for (JsonAdaptedRecurrence recurrence : recurrences) {
+            patientRecurrences.add(recurrence.toModelType());
+        }
+        return patientRecurrences;
+    }
+
     private Optional<Physician> getModelPhysician() throws IllegalValueException {
         Boolean haspName = !pName.equals(NOT_APPLICABLE);
         Boolean haspPhone = !pPhone.equals(NOT_APPLICABLE);
@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.VersionVector;
+
+/**
+ * Jackson-friendly version of the {@link VersionVector} of one person.
+ */
+class JsonAdaptedPersonVersion {
+
+    public static final String MESSAGE_INVALID_VERSION = "The version of the person with UID %1$s is invalid.";
+
+    private final long uid;
+    private final Map<String, Long> version = new HashMap<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedPersonVersion} with the given person uid and version.
+     */
+    @JsonCreator
+    public JsonAdaptedPersonVersion(@JsonProperty("uid") long uid,
+            @JsonProperty("version") Map<String, Long> version) {
+        this.uid = uid;
+        if (version != null) {
+            this.version.putAll(version);
+        }
+    }
+
+    /**
+     * Converts the version of the person with {@code uid} into this class for Jackson use.
+     */
+    public JsonAdaptedPersonVersion(long uid, VersionVector source) {
+        this.uid = uid;
+        version.putAll(source.getCounts());
+    }
+
+    public long getUid() {
+        return uid;
+    }
+
+    public Map<String, Long> getVersion() {
+        return version;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted version into the model's {@code VersionVector} object.
+     *
+     * @throws IllegalValueException if a count is not positive.
+     */
+    public VersionVector toModelType() throws IllegalValueException {
+        if (version.values().stream().anyMatch(count -> count == null || count <= 0)) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_VERSION, uid));
+        }
+        return new VersionVector(version);
+    }
+
+}
@@ -0,0 +1,66 @@
+package seedu.address.storage;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Recurrence;
+
+/**
+ * Jackson-friendly version of {@link Recurrence}.
+ * Stored as the rule, followed by {@code ;} and the date it has been expanded until, if any.
+ */
+class JsonAdaptedRecurrence {
+
+    public static final String MESSAGE_INVALID_EXPANDED_UNTIL = "Recurrence's expanded until date is invalid!";
+    private static final String SEPARATOR = ";";
+
+    private final String recurrence;
+
+    /**
+     * Constructs a {@code JsonAdaptedRecurrence} with the given {@code recurrence}.
+     */
+    @JsonCreator
+    public JsonAdaptedRecurrence(String recurrence) {
+        this.recurrence = recurrence;
+    }
+
+    /**
+     * Converts a given {@code Recurrence} into this class for Jackson use.
+     */
+    public JsonAdaptedRecurrence(Recurrence source) {
+        recurrence = source.getRule() + source.getExpandedUntil().map(date -> SEPARATOR + date).orElse("");
+    }
+
+    @JsonValue
+    public String getRecurrence() {
+        return recurrence;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted recurrence object into the model's
+     * {@code Recurrence} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in
+     *                               the adapted recurrence.
+     */
+    public Recurrence toModelType() throws IllegalValueException {
+        String[] parts = recurrence.split(SEPARATOR);
+        if (parts.length > 2 || !Recurrence.isValidRecurrence(parts[0])) {
+            throw new IllegalValueException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+        if (parts.length == 1) {
+            return new Recurrence(parts[0]);
+        }
+        try {
+            return new Recurrence(parts[0], Optional.of(LocalDate.parse(parts[1])));
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_EXPANDED_UNTIL);
+        }
+    }
+
+}
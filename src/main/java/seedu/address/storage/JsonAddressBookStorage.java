@@ -3,26 +3,70 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.PersonChange;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.VersionVector;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Uid;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * <p>
+ * The file may be shared with other instances of the app, such as on a shared drive. Each save locks a lock file
+ * next to it, replaces it in one step and increases the version written at its start. If the version is not the
+ * one this storage last read or saved, another instance has saved the file since, and its changes are merged with
+ * the ones being saved, person by person. Where both instances changed the same person, nothing is saved: the file
+ * is left as the other instance saved it, and the save reports the persons changed by both, with the changes to
+ * make to the address book being saved to match the file.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final String MESSAGE_CONFLICTING_CHANGES = "%1$s was changed by another instance of the app, "
+            + "which also changed the persons with UIDs %2$s. Your changes were not saved, and the persons it saved "
+            + "are shown instead.";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final String LOCK_FILE_SUFFIX = ".lock";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    /** Enough of the start of the file to hold the version. */
+    private static final int VERSION_HEADER_LENGTH = 64;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     private final Path filePath;
 
+    // The file, version and persons this storage last read or saved, to tell whether another instance has saved
+    // the file since, and what it changed.
+    private Path knownFilePath;
+    private long knownVersion;
+    private List<Person> knownPersons = List.of();
+
     public JsonAddressBookStorage(Path filePath) {
         this.filePath = filePath;
     }
@@ -42,17 +86,29 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
      */
-    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
+        JsonSerializableAddressBook jsonAddressBook;
+        try (FileChannel lockChannel = openLockFile(filePath);
+                FileLock lock = lockChannel.lock(0, Long.MAX_VALUE, true);
+                FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            jsonAddressBook = readJsonAddressBook(channel);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            AddressBook addressBook = jsonAddressBook.toModelType();
+            setKnownFile(filePath, jsonAddressBook.getVersion(), addressBook.getPersonList());
+            return Optional.of(addressBook);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -60,21 +116,137 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     }
 
     @Override
-    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, filePath);
+    public List<PersonChange> saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        return saveAddressBook(addressBook, filePath);
     }
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
      *
      * @param filePath location of the data. Cannot be null.
+     * @throws ConflictingChangesException if the address book was not saved, as another instance changed the same
+     *     persons.
      */
-    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+    public synchronized List<PersonChange> saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+            throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel lockChannel = openLockFile(filePath);
+                FileLock lock = lockChannel.lock()) {
+            boolean isKnownFile = filePath.equals(knownFilePath);
+            long fileVersion = readVersion(filePath);
+            List<Person> persons = List.copyOf(addressBook.getPersonList());
+            Map<Long, VersionVector> personVersions = addressBook.getPersonVersions();
+            List<PersonChange> theirChanges = List.of();
+
+            if (isKnownFile && fileVersion != knownVersion) {
+                AddressBook theirAddressBook = readAddressBookWhileLocked(filePath);
+                List<Person> theirPersons = theirAddressBook.getPersonList();
+                AddressBookMerge merge = AddressBookMerge.merge(knownPersons, persons, theirPersons);
+                if (merge.hasConflicts()) {
+                    // the file is left as they saved it, and is what later saves are merged with
+                    theirPersons.stream().mapToLong(person -> person.getUid().getUid()).max()
+                            .ifPresent(Uid::reserveUpTo);
+                    setKnownFile(filePath, fileVersion, theirPersons);
+                    String uids = merge.getConflicts().stream().map(uid -> String.valueOf(uid.getUid()))
+                            .collect(Collectors.joining(", "));
+                    logger.warning("Not saved, as another instance changed the persons with UIDs " + uids);
+                    throw new ConflictingChangesException(String.format(MESSAGE_CONFLICTING_CHANGES, filePath, uids),
+                            AddressBookMerge.changesBetween(persons, theirPersons));
+                }
+                persons = merge.getMergedPersons();
+                theirChanges = merge.getTheirChanges();
+                Map<Long, VersionVector> mergedVersions = new HashMap<>(personVersions);
+                theirAddressBook.getPersonVersions().forEach((uid, version) ->
+                        mergedVersions.merge(uid, version, VersionVector::merge));
+                personVersions = mergedVersions;
+                persons.stream().mapToLong(person -> person.getUid().getUid()).max().ifPresent(Uid::reserveUpTo);
+                logger.info("Merged " + theirChanges.size() + " change(s) saved to " + filePath
+                        + " by another instance");
+            }
+
+            long version = Math.max(fileVersion, isKnownFile ? knownVersion : 0) + 1;
+            writeJsonAddressBook(filePath, new JsonSerializableAddressBook(persons, personVersions, version));
+            setKnownFile(filePath, version, persons);
+            return theirChanges;
+        }
+    }
+
+    private void setKnownFile(Path filePath, long version, List<Person> persons) {
+        knownFilePath = filePath;
+        knownVersion = version;
+        knownPersons = List.copyOf(persons);
+    }
+
+    /**
+     * Opens the file locked while {@code filePath} is read or saved. The data file itself is not locked, as it is
+     * replaced, rather than written to, by each save.
+     */
+    private static FileChannel openLockFile(Path filePath) throws IOException {
+        Path lockFilePath = filePath.resolveSibling(filePath.getFileName() + LOCK_FILE_SUFFIX);
+        return FileChannel.open(lockFilePath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Returns the version written at the start of the file, without reading the rest of it.
+     * Returns 0 for a missing or empty file, or one saved before versions were added.
+     */
+    private static long readVersion(Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return 0;
+        }
+        ByteBuffer header = ByteBuffer.allocate(VERSION_HEADER_LENGTH);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            channel.read(header, 0);
+        }
+        try (JsonParser parser = JSON_FACTORY.createParser(header.array(), 0, header.position())) {
+            if (parser.nextToken() == JsonToken.START_OBJECT
+                    && parser.nextToken() == JsonToken.FIELD_NAME
+                    && JsonSerializableAddressBook.VERSION_FIELD.equals(parser.getCurrentName())
+                    && parser.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+                return parser.getLongValue();
+            }
+        } catch (JsonProcessingException e) {
+            logger.fine("No version found at the start of the file: " + e.getMessage());
+        }
+        return 0;
+    }
+
+    private static AddressBook readAddressBookWhileLocked(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return readJsonAddressBook(channel).toModelType();
+        } catch (IllegalValueException ive) {
+            throw new IOException("The changes saved by another instance cannot be read: " + ive.getMessage(), ive);
+        }
+    }
+
+    private static JsonSerializableAddressBook readJsonAddressBook(FileChannel channel) throws IOException {
+        ByteBuffer content = ByteBuffer.allocate((int) channel.size());
+        int bytesRead = 0;
+        while (content.hasRemaining() && bytesRead >= 0) {
+            bytesRead = channel.read(content, content.position());
+        }
+        return JsonUtil.fromJsonString(new String(content.array(), 0, content.position(), StandardCharsets.UTF_8),
+                JsonSerializableAddressBook.class);
+    }
+
+    /**
+     * Writes {@code jsonAddressBook} to a temporary file next to {@code filePath}, then moves it over the file in
+     * one step, so that the file is never left partly written, even if the app stops while saving.
+     */
+    private static void writeJsonAddressBook(Path filePath, JsonSerializableAddressBook jsonAddressBook)
+            throws IOException {
+        Path tempFilePath = Files.createTempFile(filePath.toAbsolutePath().getParent(),
+                filePath.getFileName().toString(), TEMP_FILE_SUFFIX);
+        try {
+            Files.write(tempFilePath, JsonUtil.toJsonString(jsonAddressBook).getBytes(StandardCharsets.UTF_8));
+            Files.move(tempFilePath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFilePath);
+        }
     }
 
 }
@@ -1,34 +1,57 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.VersionVector;
 import seedu.address.model.person.Person;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
  */
 @JsonRootName(value = "addressbook")
+@JsonPropertyOrder({JsonSerializableAddressBook.VERSION_FIELD, JsonSerializableAddressBook.PERSON_VERSIONS_FIELD,
+    JsonSerializableAddressBook.PERSONS_FIELD})
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "The list contains duplicate %1$s.";
     public static final String PERSON_IDENTIFIER = "person(s)";
 
+    /** The field written first in the file, so that the version can be read without reading the persons. */
+    public static final String VERSION_FIELD = "version";
+    /** Written before the persons, so that the version of each person is known as the persons are read. */
+    public static final String PERSON_VERSIONS_FIELD = "personVersions";
+    public static final String PERSONS_FIELD = "persons";
+
+    private final long version;
+    private final List<JsonAdaptedPersonVersion> personVersions = new ArrayList<>();
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given version, person versions and persons.
+     * Files saved before versions were added have no version, and are read as version 0, and files saved before
+     * person versions were added are read as having none.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty(VERSION_FIELD) Long version,
+            @JsonProperty(PERSON_VERSIONS_FIELD) List<JsonAdaptedPersonVersion> personVersions,
+            @JsonProperty(PERSONS_FIELD) List<JsonAdaptedPerson> persons) {
+        this.version = version == null ? 0 : version;
+        if (personVersions != null) {
+            this.personVersions.addAll(personVersions);
+        }
         this.persons.addAll(persons);
     }
 
@@ -39,7 +62,25 @@ class JsonSerializableAddressBook {
      *               {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        this(source.getPersonList(), source.getPersonVersions(), 0);
+    }
+
+    /**
+     * Converts the given persons and their versions into this class for Jackson use, to be saved as
+     * {@code version}.
+     */
+    public JsonSerializableAddressBook(List<Person> persons, Map<Long, VersionVector> personVersions, long version) {
+        this.version = version;
+        new TreeMap<>(personVersions).forEach((uid, personVersion) ->
+                this.personVersions.add(new JsonAdaptedPersonVersion(uid, personVersion)));
+        this.persons.addAll(persons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the number of saves made to the file this address book was read from.
+     */
+    public long getVersion() {
+        return version;
     }
 
     /**
@@ -56,6 +97,11 @@ class JsonSerializableAddressBook {
             }
             addressBook.addPerson(person);
         }
+        Map<Long, VersionVector> versions = new HashMap<>();
+        for (JsonAdaptedPersonVersion personVersion : personVersions) {
+            versions.put(personVersion.getUid(), personVersion.toModelType());
+        }
+        addressBook.setPersonVersions(versions);
         return addressBook;
     }
 
@@ -0,0 +1,211 @@
+package seedu.address.ui;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
+import seedu.address.commons.core.AppClock;
+import seedu.address.logic.Logic;
+import seedu.address.model.event.ModelEventBus;
+import seedu.address.model.event.PersonAddedEvent;
+import seedu.address.model.event.PersonField;
+import seedu.address.model.event.PersonFieldsChangedEvent;
+import seedu.address.model.event.PersonRemovedEvent;
+import seedu.address.model.event.PersonsResetEvent;
+import seedu.address.model.person.DateSlot;
+import seedu.address.model.person.Nurse;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.ScheduleEntry;
+
+/**
+ * Panel showing the home visits of each nurse over a week, one row per nurse with a cell for each of the four
+ * slots of each day.
+ * <p>
+ * The list view only creates the rows that fit the visible area and reuses them as it scrolls, and each row
+ * reads the visits of its own nurse for the week shown from the model's schedule index.
+ * <p>
+ * The nurses are kept from the changes published on the model's event bus, so a change to a patient does not
+ * touch the list, and a change to a nurse replaces only that nurse's row. The visible rows are redrawn when the
+ * date slots of a patient assigned to one of the nurses change, since the rows show the state of the slots.
+ */
+public class CalendarPanel extends UiPart<Region> {
+    private static final String FXML = "CalendarPanel.fxml";
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int SLOTS_PER_DAY = 4;
+    private static final int FIRST_SLOT_HOUR = 10;
+    private static final int HOURS_PER_SLOT = 2;
+    private static final DateTimeFormatter WEEK_FORMATTER = DateTimeFormatter.ofPattern("d MMM yyyy");
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.ofPattern("EEE d");
+
+    private final Logic logic;
+    private final ObservableList<Person> nurses = FXCollections.observableArrayList();
+    private LocalDate weekStart;
+
+    @FXML
+    private Label weekLabel;
+    @FXML
+    private HBox dayHeader;
+    @FXML
+    private ListView<Person> calendarListView;
+
+    /**
+     * Creates a {@code CalendarPanel} showing the nurses of {@code logic} over the current week, and keeps it in
+     * step with the changes to the persons.
+     */
+    public CalendarPanel(Logic logic) {
+        super(FXML);
+        this.logic = logic;
+        resetNurses(logic.getAddressBook().getPersonList());
+        ModelEventBus events = logic.getEventBus();
+        events.subscribe(PersonsResetEvent.class, event -> resetNurses(event.getPersons()));
+        events.subscribe(PersonAddedEvent.class, event -> replaceNurse(null, event.getPerson()));
+        events.subscribe(PersonRemovedEvent.class, event -> replaceNurse(event.getPerson(), null));
+        events.subscribe(PersonFieldsChangedEvent.class, this::handleFieldsChanged);
+        calendarListView.setItems(nurses);
+        calendarListView.setCellFactory(listView -> new NurseWeekCell());
+        showWeek(AppClock.today().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
+    }
+
+    private void resetNurses(List<Person> persons) {
+        nurses.setAll(persons.stream().filter(person -> person instanceof Nurse).collect(Collectors.toList()));
+    }
+
+    private void handleFieldsChanged(PersonFieldsChangedEvent event) {
+        replaceNurse(event.getBefore(), event.getAfter());
+        if (event.hasChanged(PersonField.DATE_SLOTS) && (isAssignedToNurse(event.getBefore())
+                || isAssignedToNurse(event.getAfter()))) {
+            calendarListView.refresh();
+        }
+    }
+
+    /**
+     * Replaces {@code before} with {@code after} in the nurses shown, where either may be null or not a nurse.
+     * A replaced nurse keeps its row, and an added nurse goes last, as in the person list.
+     */
+    private void replaceNurse(Person before, Person after) {
+        int index = before instanceof Nurse ? nurses.indexOf(before) : -1;
+        if (index >= 0 && after instanceof Nurse) {
+            nurses.set(index, after);
+        } else if (index >= 0) {
+            nurses.remove(index);
+        } else if (after instanceof Nurse) {
+            nurses.add(after);
+        }
+    }
+
+    private static boolean isAssignedToNurse(Person person) {
+        return person instanceof Patient
+                && ((Patient) person).getDatesSlots().stream().anyMatch(DateSlot::getHasAssigned);
+    }
+
+    @FXML
+    private void handlePreviousWeek() {
+        showWeek(weekStart.minusWeeks(1));
+    }
+
+    @FXML
+    private void handleNextWeek() {
+        showWeek(weekStart.plusWeeks(1));
+    }
+
+    /**
+     * Shows the week starting on {@code newWeekStart}, redrawing the visible rows.
+     */
+    private void showWeek(LocalDate newWeekStart) {
+        weekStart = newWeekStart;
+        weekLabel.setText("Week of " + WEEK_FORMATTER.format(weekStart));
+        dayHeader.getChildren().clear();
+        Label nurseHeader = new Label("Nurse");
+        nurseHeader.getStyleClass().add("calendar-nurse");
+        dayHeader.getChildren().add(nurseHeader);
+        for (int day = 0; day < DAYS_PER_WEEK; day++) {
+            Label dayLabel = new Label(DAY_FORMATTER.format(weekStart.plusDays(day)));
+            dayLabel.getStyleClass().add("calendar-day");
+            dayHeader.getChildren().add(dayLabel);
+        }
+        calendarListView.refresh();
+    }
+
+    /**
+     * Row showing the week of one nurse.
+     * The labels of the row are created once and refilled for each nurse the row is reused for, and a row
+     * that is updated with the nurse and week it already shows is left as it is.
+     */
+    class NurseWeekCell extends ListCell<Person> {
+        private final HBox row = new HBox();
+        private final Label nameLabel = new Label();
+        private final Label[][] slotLabels = new Label[DAYS_PER_WEEK][SLOTS_PER_DAY];
+        private Person shownNurse;
+        private LocalDate shownWeek;
+
+        NurseWeekCell() {
+            GridPane grid = new GridPane();
+            for (int day = 0; day < DAYS_PER_WEEK; day++) {
+                for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+                    Label slotLabel = new Label();
+                    slotLabel.getStyleClass().add("calendar-slot");
+                    slotLabels[day][slot] = slotLabel;
+                    grid.add(slotLabel, day * SLOTS_PER_DAY + slot, 0);
+                }
+            }
+            nameLabel.getStyleClass().addAll("cell_small_label", "calendar-nurse");
+            row.getChildren().addAll(nameLabel, grid);
+        }
+
+        @Override
+        protected void updateItem(Person nurse, boolean empty) {
+            super.updateItem(nurse, empty);
+
+            if (empty || nurse == null) {
+                shownNurse = null;
+                setGraphic(null);
+                setText(null);
+                return;
+            }
+            if (nurse != shownNurse || !weekStart.equals(shownWeek)) {
+                fill(nurse);
+            }
+            setGraphic(row);
+        }
+
+        private void fill(Person nurse) {
+            shownNurse = nurse;
+            shownWeek = weekStart;
+            nameLabel.setText(nurse.getName().fullName + " #" + nurse.getUid());
+            for (Label[] daySlots : slotLabels) {
+                for (Label slotLabel : daySlots) {
+                    slotLabel.setText("");
+                    slotLabel.getStyleClass().removeAll("calendar-slot-open", "calendar-slot-assigned",
+                            "calendar-slot-visited", "calendar-slot-failed");
+                }
+            }
+            LocalDateTime start = weekStart.atStartOfDay();
+            List<ScheduleEntry> entries = logic.getNurseScheduleEntries(nurse.getUid().getUid(), start,
+                    start.plusDays(DAYS_PER_WEEK));
+            for (ScheduleEntry entry : entries) {
+                int day = (int) (entry.getDateTime().toLocalDate().toEpochDay() - weekStart.toEpochDay());
+                int slot = (entry.getDateTime().getHour() - FIRST_SLOT_HOUR) / HOURS_PER_SLOT;
+                if (slot < 0 || slot >= SLOTS_PER_DAY) {
+                    continue;
+                }
+                Label slotLabel = slotLabels[day][slot];
+                slotLabel.setText("#" + entry.getPatientUidNo());
+                slotLabel.getStyleClass().add("calendar-slot-" + entry.getStatus());
+            }
+        }
+    }
+}
@@ -1,12 +1,19 @@
 package seedu.address.ui;
 
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -14,26 +21,77 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
     private static final String FXML = "CommandBox.fxml";
 
+    private final Logger logger = LogsCenter.getLogger(getClass());
+
     private final CommandExecutor commandExecutor;
+    private final CommandPreviewer commandPreviewer;
+    private final CompletionProvider completionProvider;
+    private final Queue<String> pendingCommands = new ArrayDeque<>();
+    private boolean isBusy = false;
+    // The completions being cycled through with the Tab key, until the text is changed by other means.
+    private List<String> completions;
+    private int completionIndex;
+    private boolean isCompleting = false;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, the given {@code CommandPreviewer},
+     * which is given each change to the command text as it is typed, and the given {@code CompletionProvider},
+     * which completes the command text when the Tab key is pressed.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandPreviewer commandPreviewer,
+            CompletionProvider completionProvider) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the
+        this.commandPreviewer = commandPreviewer;
+        this.completionProvider = completionProvider;
+        // calls #setStyleToDefault() and previews the command whenever there is a change to the text of the
         // command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, commandText) -> {
+            setStyleToDefault();
+            if (!isCompleting) {
+                completions = null;
+            }
+            commandPreviewer.preview(commandText);
+        });
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                // keeps the focus in the command box
+                event.consume();
+                handleCompletion();
+            }
+        });
+    }
+
+    /**
+     * Completes the last word of the command text, or replaces the completion just made with the next one if
+     * the Tab key is pressed again.
+     */
+    private void handleCompletion() {
+        if (completions == null) {
+            completions = completionProvider.getCompletions(commandTextField.getText());
+            completionIndex = 0;
+        } else if (!completions.isEmpty()) {
+            completionIndex = (completionIndex + 1) % completions.size();
+        }
+        if (completions.isEmpty()) {
+            return;
+        }
+
+        isCompleting = true;
+        commandTextField.setText(completions.get(completionIndex));
+        commandTextField.end();
+        isCompleting = false;
     }
 
     /**
      * Handles the Enter button pressed event.
+     * Commands entered while another command is running are queued and run after it, in order.
      */
     @FXML
     private void handleCommandEntered() {
@@ -42,11 +100,53 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
+        commandTextField.setText("");
+        pendingCommands.add(commandText);
+        if (!isBusy) {
+            executeNextCommand();
+        }
+    }
+
+    /**
+     * Executes the first queued command, and the ones after it as each one succeeds.
+     * If a command fails, its text is put back for the user to correct and the commands queued after it are
+     * dropped, since they may depend on it.
+     */
+    private void executeNextCommand() {
+        String commandText = pendingCommands.poll();
+        if (commandText == null) {
+            setBusy(false);
+            return;
+        }
+
+        setBusy(true);
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            if (error == null) {
+                executeNextCommand();
+                return;
+            }
+            if (!pendingCommands.isEmpty()) {
+                logger.info("Dropped " + pendingCommands.size() + " queued command(s) after a failed command");
+                pendingCommands.clear();
+            }
+            setBusy(false);
+            if (commandTextField.getText().isEmpty()) {
+                commandTextField.setText(commandText);
+            }
             setStyleToIndicateCommandFailure();
+        });
+    }
+
+    /**
+     * Shows whether a command is running.
+     */
+    private void setBusy(boolean isBusy) {
+        this.isBusy = isBusy;
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (!isBusy) {
+            styleClass.remove(BUSY_STYLE_CLASS);
+        } else if (!styleClass.contains(BUSY_STYLE_CLASS)) {
+            styleClass.add(BUSY_STYLE_CLASS);
         }
     }
 
@@ -76,11 +176,39 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns the future result, which is completed on the JavaFX
+         * Application Thread.
+         *
+         * @see seedu.address.logic.Logic#executeAsync(String)
+         */
+        CompletableFuture<CommandResult> execute(String commandText);
+    }
+
+    /**
+     * Represents a function that previews commands as they are typed.
+     */
+    @FunctionalInterface
+    public interface CommandPreviewer {
+        /**
+         * Previews {@code commandText}, the text of the command box after a change. Must not block, since it is
+         * called on the JavaFX Application Thread as the user types.
+         *
+         * @see seedu.address.logic.Logic#previewFilter(String)
+         */
+        void preview(String commandText);
+    }
+
+    /**
+     * Represents a function that completes commands as they are typed.
+     */
+    @FunctionalInterface
+    public interface CompletionProvider {
+        /**
+         * Returns the ways to complete the last word of {@code commandText}, each as the whole completed text.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#getCompletions(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        List<String> getCompletions(String commandText);
     }
 
 }
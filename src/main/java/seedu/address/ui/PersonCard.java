@@ -3,12 +3,16 @@ package seedu.address.ui;
 import static seedu.address.model.person.Gender.MALE_SYMBOL;
 
 import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.model.event.PersonField;
 import seedu.address.model.person.Nurse;
 import seedu.address.model.person.Patient;
 import seedu.address.model.person.Person;
@@ -36,7 +40,8 @@ public class PersonCard extends UiPart<Region> {
      *      issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -69,50 +74,109 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private Label nokInfo;
 
+    /**
+     * Creates a {@code PersonCard} that displays no person until {@link #setPerson(Person, int)} is called.
+     * The FXML is only loaded here, so a list cell creates one card and shows each of its persons in turn.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to
      * display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Displays {@code person} at {@code displayedIndex} in this card, in place of the person it displayed.
+     * Nothing is changed if the card already displays the same person at the same index, and if it displays
+     * another version of the same person, only the labels of the fields that differ are redrawn.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        if (person == this.person && displayedIndex == this.displayedIndex) {
+            return;
+        }
+        Set<PersonField> changedFields = this.person != null && this.person.getUid().equals(person.getUid())
+                ? PersonField.changedBetween(this.person, person)
+                : EnumSet.allOf(PersonField.class);
         this.person = person;
-        id.setText(displayedIndex + ". ");
+        if (displayedIndex != this.displayedIndex || changedFields.contains(PersonField.CATEGORY)) {
+            this.displayedIndex = displayedIndex;
+            id.setText(displayedIndex + ". ");
+        }
+
+        if (changedFields.contains(PersonField.CATEGORY)) {
+            category.getChildren().clear();
+            category.getChildren().add(new Label(person.isNurse() ? NURSE_LABEL_TEXT
+                    : person.isPatient() ? PATIENT_LABEL_TEXT : NAN_LABEL_TEXT));
+            uid.setText("UID: [" + person.getUid().toString() + "]");
+        }
+        if (changedFields.contains(PersonField.CATEGORY) || changedFields.contains(PersonField.DATE_SLOTS)
+                || changedFields.contains(PersonField.RECURRENCES)) {
+            dateSlots.setText(getDateSlotsText(person));
+        }
+        if (changedFields.contains(PersonField.CATEGORY) || changedFields.contains(PersonField.HOME_VISITS)) {
+            homeVisits.setText(person.isNurse() ? ((Nurse) person).getHomeVisitsSummary()
+                    : person.isPatient() ? "HomeVisits: " + NOT_APPLICABLE : NOT_APPLICABLE);
+        }
+        if (changedFields.contains(PersonField.CATEGORY) || changedFields.contains(PersonField.UNAVAILABLE_DATES)) {
+            unavailableDates.setText(person.isNurse() ? ((Nurse) person).getUnavailableDatesSummary()
+                    : person.isPatient() ? "Unavailable Dates: " + NOT_APPLICABLE : NOT_APPLICABLE);
+        }
+        if (changedFields.contains(PersonField.CATEGORY) || changedFields.contains(PersonField.PHYSICIAN)) {
+            physInfo.setText(person.isPatient() ? ((Patient) person).getPhysicianDetails()
+                    : person.isNurse() ? "Attending Physician: " + NOT_APPLICABLE : NOT_APPLICABLE);
+        }
+        if (changedFields.contains(PersonField.CATEGORY) || changedFields.contains(PersonField.NEXT_OF_KIN)) {
+            nokInfo.setText(person.isPatient() ? ((Patient) person).getNextOfKinDetails()
+                    : person.isNurse() ? "NOK: " + NOT_APPLICABLE : NOT_APPLICABLE);
+        }
+        if (changedFields.contains(PersonField.NAME)) {
+            name.setText(person.getName().fullName);
+        }
+        if (changedFields.contains(PersonField.GENDER)) {
+            if (person.getGender().gender.equals(MALE_SYMBOL)) {
+                gender.setText(MALE_GENDER_LABEL_TEXT);
+            } else {
+                gender.setText(FEMALE_GENDER_LABEL_TEXT);
+            }
+        }
+        if (changedFields.contains(PersonField.PHONE)) {
+            phone.setText(person.getPhone().value);
+        }
+        if (changedFields.contains(PersonField.ADDRESS)) {
+            address.setText(person.getAddress().value);
+        }
+        if (changedFields.contains(PersonField.EMAIL)) {
+            email.setText(person.getEmail().value);
+        }
+        if (changedFields.contains(PersonField.TAGS)) {
+            tags.getChildren().clear();
+            person.getTags().stream()
+                    .sorted(Comparator.comparing(tag -> tag.tagName))
+                    .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        }
+    }
 
+    private static String getDateSlotsText(Person person) {
         if (person.isNurse()) {
-            dateSlots.setText("HomeVisits DateSlot: " + NOT_APPLICABLE);
-            homeVisits.setText(((Nurse) person).getHomesVisitsInString());
-            unavailableDates.setText(((Nurse) person).getUnavailableDatesInString());
-            category.getChildren().add(new Label(NURSE_LABEL_TEXT));
-            physInfo.setText("Attending Physician: " + NOT_APPLICABLE);
-            nokInfo.setText("NOK: " + NOT_APPLICABLE);
+            return "HomeVisits DateSlot: " + NOT_APPLICABLE;
         } else if (person.isPatient()) {
-            dateSlots.setText(((Patient) person).getDatesSlotsInString());
-            homeVisits.setText("HomeVisits: " + NOT_APPLICABLE);
-            unavailableDates.setText("Unavailable Dates: " + NOT_APPLICABLE);
-            category.getChildren().add(new Label(PATIENT_LABEL_TEXT));
-            physInfo.setText(((Patient) person).getPhysicianDetails());
-            nokInfo.setText(((Patient) person).getNextOfKinDetails());
-        } else {
-            dateSlots.setText(NOT_APPLICABLE);
-            homeVisits.setText(NOT_APPLICABLE);
-            unavailableDates.setText(NOT_APPLICABLE);
-            category.getChildren().add(new Label(NAN_LABEL_TEXT));
-            physInfo.setText(NOT_APPLICABLE);
-            nokInfo.setText(NOT_APPLICABLE);
-        }
-        name.setText(person.getName().fullName);
-        if (person.getGender().gender.equals(MALE_SYMBOL)) {
-            gender.setText(MALE_GENDER_LABEL_TEXT);
+            Patient patient = (Patient) person;
+            return patient.getRecurrences().isEmpty()
+                    ? patient.getDatesSlotsSummary()
+                    : patient.getDatesSlotsSummary() + "\n" + patient.getRecurrencesInString();
         } else {
-            gender.setText(FEMALE_GENDER_LABEL_TEXT);
-        }
-        uid.setText("UID: [" + person.getUid().toString() + "]");
-        phone.setText(person.getPhone().value);
-        address.setText(person.getAddress().value);
-        email.setText(person.getEmail().value);
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+            return NOT_APPLICABLE;
+        }
     }
 
     @Override
@@ -130,6 +194,6 @@ public class PersonCard extends UiPart<Region> {
         // state check
         PersonCard card = (PersonCard) other;
         return id.getText().equals(card.id.getText())
-                && person.equals(card.person);
+                && Objects.equals(person, card.person);
     }
 }
@@ -9,6 +9,7 @@ import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupProfiler;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 
@@ -23,13 +24,23 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/healthcare_xpress_logo.png";
 
     private final Logic logic;
+    private final StartupProfiler startupProfiler;
     private MainWindow mainWindow;
 
     /**
      * Creates a {@code UiManager} with the given {@code Logic}.
      */
     public UiManager(Logic logic) {
+        this(logic, new StartupProfiler());
+    }
+
+    /**
+     * Creates a {@code UiManager} with the given {@code Logic} that times the phases of showing the main window
+     * with {@code startupProfiler} and logs them once it is first drawn.
+     */
+    public UiManager(Logic logic, StartupProfiler startupProfiler) {
         this.logic = logic;
+        this.startupProfiler = startupProfiler;
     }
 
     /**
@@ -55,6 +66,7 @@ public class UiManager implements Ui {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting UI...");
+        startupProfiler.endPhase("toolkit");
 
         //Set the application icon.
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
@@ -63,6 +75,13 @@ public class UiManager implements Ui {
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            startupProfiler.endPhase("FXML");
+            mainWindow.runAfterFirstPaint(() -> {
+                startupProfiler.endPhase("first paint");
+                startupProfiler.log();
+                // built only now, so that the main window is drawn without waiting for it
+                mainWindow.preloadHelpWindow();
+            });
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
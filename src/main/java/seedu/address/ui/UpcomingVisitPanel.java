@@ -0,0 +1,25 @@
+package seedu.address.ui;
+
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Region;
+import seedu.address.model.schedule.ScheduleEntry;
+
+/**
+ * Panel containing the next upcoming home visits across all nurses.
+ */
+public class UpcomingVisitPanel extends UiPart<Region> {
+    private static final String FXML = "UpcomingVisitPanel.fxml";
+
+    @FXML
+    private ListView<ScheduleEntry> upcomingVisitListView;
+
+    /**
+     * Creates an {@code UpcomingVisitPanel} with the given {@code ObservableList}.
+     */
+    public UpcomingVisitPanel(ObservableList<ScheduleEntry> upcomingVisitList) {
+        super(FXML);
+        upcomingVisitListView.setItems(upcomingVisitList);
+    }
+}
@@ -37,6 +37,38 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validApiPort_success() {
+        parametersStub.namedParameters.put("api-port", "8421");
+        expected.setApiPort(8421);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidApiPort_success() {
+        parametersStub.namedParameters.put("api-port", "70000");
+        expected.setApiPort(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_validReplicationPorts_success() {
+        parametersStub.namedParameters.put("replication-port", "8422");
+        parametersStub.namedParameters.put("follow-port", "8423");
+        expected.setReplicationPort(8422);
+        expected.setFollowPort(8423);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidReplicationPorts_success() {
+        parametersStub.namedParameters.put("replication-port", "-1");
+        parametersStub.namedParameters.put("follow-port", "port");
+        expected.setReplicationPort(null);
+        expected.setFollowPort(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private final Map<String, String> namedParameters = new HashMap<>();
 
@@ -0,0 +1,126 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.HeadlessApp.OutputFormat;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    private static final String UNKNOWN_COMMAND = "uicfhmowqewca";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Logic logic;
+    private final StringWriter output = new StringWriter();
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(new ModelManager(), new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
+    @Test
+    public void runCommands_textFormat_feedbackWritten() throws Exception {
+        String commands = "# clear everything\n" + ClearCommand.COMMAND_WORD + "\n\n" + UNKNOWN_COMMAND + "\n"
+                + ExitCommand.COMMAND_WORD + "\n" + ClearCommand.COMMAND_WORD + "\n";
+
+        int exitStatus = runCommands(OutputFormat.TEXT, commands);
+
+        assertEquals(HeadlessApp.EXIT_COMMAND_FAILED, exitStatus);
+        String expectedOutput = ClearCommand.MESSAGE_SUCCESS + System.lineSeparator()
+                + String.format(HeadlessApp.MESSAGE_COMMAND_FAILED, 4, UNKNOWN_COMMAND, MESSAGE_UNKNOWN_COMMAND)
+                + System.lineSeparator()
+                + ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator();
+        assertEquals(expectedOutput, output.toString());
+    }
+
+    @Test
+    public void runCommands_allCommandsSucceed_exitSuccess() throws Exception {
+        assertEquals(HeadlessApp.EXIT_SUCCESS, runCommands(OutputFormat.TEXT, ClearCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void runCommands_jsonFormat_oneJsonLinePerCommand() throws Exception {
+        runCommands(OutputFormat.JSON, ClearCommand.COMMAND_WORD + "\n" + UNKNOWN_COMMAND);
+
+        String[] lines = output.toString().split(System.lineSeparator());
+        assertEquals(2, lines.length);
+
+        Map<?, ?> success = JsonUtil.fromJsonString(lines[0], Map.class);
+        assertEquals(1, success.get("line"));
+        assertEquals(ClearCommand.COMMAND_WORD, success.get("command"));
+        assertEquals(true, success.get("success"));
+        assertEquals(ClearCommand.MESSAGE_SUCCESS, success.get("feedback"));
+
+        Map<?, ?> failure = JsonUtil.fromJsonString(lines[1], Map.class);
+        assertEquals(2, failure.get("line"));
+        assertEquals(false, failure.get("success"));
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, failure.get("feedback"));
+    }
+
+    @Test
+    public void isRequested() {
+        assertTrue(HeadlessApp.isRequested(new String[] {"--config=config.json", HeadlessApp.HEADLESS_FLAG}));
+        assertFalse(HeadlessApp.isRequested(new String[] {"--config=config.json"}));
+    }
+
+    @Test
+    public void parseParameters_validParameters_success() {
+        HeadlessApp.Parameters parameters = HeadlessApp.Parameters.parse(new String[] {HeadlessApp.HEADLESS_FLAG,
+            "--config=config.json", "--file=roster.txt", "--format=json"});
+
+        assertEquals(Paths.get("config.json"), parameters.getConfigPath());
+        assertEquals(Paths.get("roster.txt"), parameters.getCommandFilePath());
+        assertEquals(OutputFormat.JSON, parameters.getOutputFormat());
+    }
+
+    @Test
+    public void parseParameters_noParameters_defaultsUsed() {
+        HeadlessApp.Parameters parameters = HeadlessApp.Parameters.parse(new String[] {HeadlessApp.HEADLESS_FLAG});
+
+        assertNull(parameters.getConfigPath());
+        assertNull(parameters.getCommandFilePath());
+        assertEquals(OutputFormat.TEXT, parameters.getOutputFormat());
+    }
+
+    @Test
+    public void parseParameters_invalidParameters_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> HeadlessApp.Parameters.parse(new String[] {"--gui"}));
+        assertThrows(IllegalArgumentException.class, () -> HeadlessApp.Parameters.parse(new String[] {"--file="}));
+        assertThrows(IllegalArgumentException.class, () -> HeadlessApp.Parameters.parse(new String[] {"--format=xml"}));
+    }
+
+    private int runCommands(OutputFormat outputFormat, String commands) throws Exception {
+        HeadlessApp headlessApp = new HeadlessApp(logic, outputFormat);
+        return headlessApp.runCommands(new BufferedReader(new StringReader(commands)), new PrintWriter(output));
+    }
+}
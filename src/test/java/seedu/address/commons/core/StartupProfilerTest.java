@@ -0,0 +1,43 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupProfilerTest {
+
+    private static final long NANOS_PER_MILLI = 1_000_000;
+
+    private final AtomicLong nanoTime = new AtomicLong(5 * NANOS_PER_MILLI);
+    private final StartupProfiler profiler = new StartupProfiler(nanoTime::get);
+
+    @Test
+    public void endPhase_phasesTimedFromEndOfPreviousPhase() {
+        nanoTime.addAndGet(12 * NANOS_PER_MILLI);
+        profiler.endPhase("config");
+        nanoTime.addAndGet(80 * NANOS_PER_MILLI);
+        profiler.endPhase("data load");
+
+        assertEquals(List.of("config", "data load"), profiler.getPhases());
+        assertEquals(12, profiler.getPhaseMillis("config"));
+        assertEquals(80, profiler.getPhaseMillis("data load"));
+        assertEquals(-1, profiler.getPhaseMillis("first paint"));
+        assertEquals("config 12 ms, data load 80 ms, total 92 ms", profiler.getSummary());
+    }
+
+    @Test
+    public void endPhase_samePhaseTwice_timesAdded() {
+        nanoTime.addAndGet(3 * NANOS_PER_MILLI);
+        profiler.endPhase("FXML");
+        nanoTime.addAndGet(4 * NANOS_PER_MILLI);
+        profiler.endPhase("first paint");
+        nanoTime.addAndGet(2 * NANOS_PER_MILLI);
+        profiler.endPhase("FXML");
+
+        assertEquals(List.of("FXML", "first paint"), profiler.getPhases());
+        assertEquals(5, profiler.getPhaseMillis("FXML"));
+    }
+}
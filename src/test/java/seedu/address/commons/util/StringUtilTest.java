@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -142,4 +144,23 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    // ---------------- Tests for joinWithLimit
+    // --------------------------------------
+
+    @Test
+    public void joinWithLimit_withinLimit_allJoined() {
+        assertEquals("1, 2, 3", StringUtil.joinWithLimit(List.of(1, 2, 3), 3));
+        assertEquals("", StringUtil.joinWithLimit(List.of(), 3));
+    }
+
+    @Test
+    public void joinWithLimit_overLimit_restCounted() {
+        assertEquals("1, 2 and 1 more", StringUtil.joinWithLimit(List.of(1, 2, 3), 2));
+    }
+
+    @Test
+    public void joinWithLimit_invalidLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.joinWithLimit(List.of(1), 0));
+    }
+
 }
@@ -0,0 +1,45 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.HealthcareXpressParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class CommandCompleterTest {
+
+    private final Model model = new ModelManager();
+    private final CommandCompleter completer = new CommandCompleter(model, HealthcareXpressParser.COMMAND_WORDS);
+
+    @Test
+    public void complete_commandWord() {
+        assertEquals(List.of("assign"), completer.complete("ass"));
+        assertEquals(List.of("undo", "undounmark", "unmark", "updatecontact"), completer.complete("u"));
+
+        completer.recordUse("unmark id/1 dsi/1");
+        assertEquals(List.of("unmark", "undo", "undounmark", "updatecontact"), completer.complete("u"));
+    }
+
+    @Test
+    public void complete_personTerms_keptUpToDateAsPersonsChange() {
+        Person alice = new PersonBuilder().withUid("120").withName("Alice Pauline").withTags("diabetic").build();
+        Person alex = new PersonBuilder().withUid("121").withName("Alex Yeoh").build();
+        model.addPerson(alice);
+        model.addPerson(alex);
+
+        assertEquals(List.of("assign id/120 id/120", "assign id/120 id/121"),
+                completer.complete("assign id/120 id/12"));
+        assertEquals(List.of("list t/diabetic"), completer.complete("list t/dia"));
+        assertEquals(List.of("find Alex", "find Alice"), completer.complete("find al"));
+        assertEquals(List.of(), completer.complete("delete al"));
+
+        model.deletePerson(alex);
+        assertEquals(List.of("find Alice"), completer.complete("find al"));
+    }
+}
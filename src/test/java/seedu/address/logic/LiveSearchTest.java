@@ -0,0 +1,75 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class LiveSearchTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+    private final LiveSearch liveSearch = new LiveSearch(model, modelTasks::add, Duration.ofMillis(10));
+
+    @AfterEach
+    public void tearDown() {
+        liveSearch.stop();
+    }
+
+    @Test
+    public void update_textChangedBeforeSearch_onlyLatestTextFiltersList() throws Exception {
+        liveSearch.update("find Benson");
+        liveSearch.update("find Alice");
+
+        modelTasks.poll(5, TimeUnit.SECONDS).run();
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+        assertNull(modelTasks.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void search_laterSearchStarted_listNotFiltered() {
+        long search = liveSearch.cancel();
+        liveSearch.search("find Alice", search);
+        long laterSearch = liveSearch.cancel();
+
+        modelTasks.poll().run();
+        assertEquals(getTypicalAddressBook().getPersonList().size(), model.getFilteredPersonList().size());
+
+        liveSearch.search("find Alice", search);
+        assertEquals(0, modelTasks.size());
+        liveSearch.search("find Alice", laterSearch);
+        modelTasks.poll().run();
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_notFilterCommand_listNotFiltered() {
+        liveSearch.search("delete 1", liveSearch.cancel());
+        assertEquals(0, modelTasks.size());
+    }
+
+    @Test
+    public void search_personAddedAfterSearch_personTestedWhenAdded() {
+        liveSearch.search("find Alice", liveSearch.cancel());
+        Person otherAlice = new PersonBuilder().withUid("100").withName("Alice Other").build();
+        model.addPerson(otherAlice);
+
+        modelTasks.poll().run();
+        assertEquals(List.of(ALICE, otherAlice), model.getFilteredPersonList());
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.CATEGORY_DESC_AMY;
@@ -10,24 +11,39 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.HOON;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.PersonChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Uid;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -39,7 +55,8 @@ public class LogicManagerTest {
     @TempDir
     public Path temporaryFolder;
 
-    private final Model model = new ModelManager();
+    private final ModelManager model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -47,7 +64,7 @@ public class LogicManagerTest {
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(
                 temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -86,6 +103,134 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_fileSavedByAnotherInstance_otherChangesLoaded() throws Exception {
+        logic.execute(ClearCommand.COMMAND_WORD);
+        JsonAddressBookStorage otherInstance = new JsonAddressBookStorage(storage.getAddressBookFilePath());
+        AddressBook otherAddressBook = new AddressBook(otherInstance.readAddressBook().get());
+        otherAddressBook.addPerson(HOON);
+        otherInstance.saveAddressBook(otherAddressBook);
+
+        // the person added here is numbered after the one added by the other instance
+        Uid.reserveUpTo(100L);
+        logic.execute(AddCommand.COMMAND_WORD + CATEGORY_DESC_AMY + NAME_DESC_AMY + GENDER_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+        assertTrue(model.getPerson(HOON.getUid()).isPresent());
+        assertEquals(new AddressBook(model.getAddressBook()), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_undoAndRedo_changesRevertedAndMadeAgain() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + CATEGORY_DESC_AMY + NAME_DESC_AMY
+                + GENDER_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        CommandResult result = logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(String.format(UndoCommand.MESSAGE_SUCCESS, addCommand), result.getFeedbackToUser());
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+        assertEquals(new AddressBook(model.getAddressBook()), new AddressBook(storage.readAddressBook().get()));
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+
+        logic.execute(RedoCommand.COMMAND_WORD);
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertCommandException(RedoCommand.COMMAND_WORD, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_readOnly_changesRejectedFiltersAllowed() throws Exception {
+        logic = new LogicManager(model, storage, Runnable::run, true);
+        String addCommand = AddCommand.COMMAND_WORD + CATEGORY_DESC_AMY + NAME_DESC_AMY
+                + GENDER_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+
+        assertCommandException(addCommand, LogicManager.MESSAGE_READ_ONLY);
+        assertEquals(new ModelManager(), model);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, logic.markPassedVisits());
+    }
+
+    @Test
+    public void executeAsync_runScript_changesSavedAndUndoneTogether() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + CATEGORY_DESC_AMY + NAME_DESC_AMY
+                + GENDER_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        Path scriptFilePath = temporaryFolder.resolve("roster.txt");
+        Files.write(scriptFilePath, List.of(addCommand, ListCommand.COMMAND_WORD));
+        String runCommand = RunCommand.COMMAND_WORD + " " + scriptFilePath;
+
+        CommandResult result = logic.executeAsync(runCommand).get(5, TimeUnit.SECONDS);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, scriptFilePath,
+                String.format(BatchCommand.MESSAGE_SUCCESS, 2, 1)), result.getFeedbackToUser());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertEquals(new AddressBook(model.getAddressBook()),
+                new AddressBook(storage.readAddressBook().get()));
+
+        result = logic.executeAsync(UndoCommand.COMMAND_WORD).get(5, TimeUnit.SECONDS);
+        assertEquals(String.format(UndoCommand.MESSAGE_SUCCESS, runCommand), result.getFeedbackToUser());
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void executeAsync_runScriptWithInvalidCommand_nothingChanged() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + CATEGORY_DESC_AMY + NAME_DESC_AMY
+                + GENDER_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        Path scriptFilePath = temporaryFolder.resolve("roster.txt");
+        Files.write(scriptFilePath, List.of(addCommand, "uicfhmowqewca"));
+
+        CompletableFuture<CommandResult> result = logic.executeAsync(RunCommand.COMMAND_WORD + " " + scriptFilePath);
+
+        assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        Throwable error = result.handle((commandResult, throwable) -> throwable).get();
+        assertTrue(error instanceof CommandException);
+        assertEquals(String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 2, "uicfhmowqewca",
+                MESSAGE_UNKNOWN_COMMAND), error.getMessage());
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void executeAsync_validCommand_changesPublishedOnce() throws Exception {
+        List<Runnable> publishedTasks = new ArrayList<>();
+        logic = new LogicManager(model, storage, task -> {
+            publishedTasks.add(task);
+            task.run();
+        });
+        String addCommand = AddCommand.COMMAND_WORD + CATEGORY_DESC_AMY + NAME_DESC_AMY
+                + GENDER_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+
+        CommandResult result = logic.executeAsync(addCommand).get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, publishedTasks.size());
+        assertTrue(result.getFeedbackToUser().startsWith("New "));
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertEquals(new AddressBook(model.getAddressBook()),
+                new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completesExceptionally() throws Exception {
+        CompletableFuture<CommandResult> result = logic.executeAsync("uicfhmowqewca");
+
+        assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        Throwable error = result.handle((commandResult, throwable) -> throwable).get();
+        assertTrue(error instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, error.getMessage());
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void submitModelTask_afterCommand_runsAfterCommandChangesMade() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + CATEGORY_DESC_AMY + NAME_DESC_AMY
+                + GENDER_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        CompletableFuture<Integer> personCount = new CompletableFuture<>();
+
+        logic.executeAsync(addCommand);
+        logic.submitModelTask(() -> personCount.complete(model.getAddressBook().getPersonList().size()));
+
+        assertEquals(Integer.valueOf(1), personCount.get(5, TimeUnit.SECONDS));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -163,7 +308,8 @@ public class LogicManagerTest {
         }
 
         @Override
-        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        public List<PersonChange> saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                throws IOException {
             throw DUMMY_IO_EXCEPTION;
         }
     }
@@ -0,0 +1,52 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.AppClock;
+import seedu.address.model.ModelManager;
+import seedu.address.model.schedule.ScheduleEntry.VisitStatus;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+
+public class VisitSweeperTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @AfterEach
+    public void tearDown() {
+        AppClock.useSystemClock();
+    }
+
+    @Test
+    public void sweep_slotPassed_marksVisitAndSaves() throws Exception {
+        ModelManager model = new ModelManager();
+        model.addPerson(new PersonBuilder().withUid("20").withCategory("P").withDatesSlots("2099-01-01,1").build());
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json"));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        VisitSweeper sweeper = new VisitSweeper(new LogicManager(model, storage), Runnable::run, Duration.ofHours(1));
+
+        ZoneId zone = ZoneId.systemDefault();
+        AppClock.setClock(Clock.fixed(LocalDateTime.of(2099, 1, 1, 12, 0).atZone(zone).toInstant(), zone));
+        sweeper.sweep();
+
+        LocalDateTime slotTime = LocalDateTime.of(2099, 1, 1, 10, 0);
+        assertEquals(VisitStatus.VISITED,
+                model.getScheduleEntries(slotTime, slotTime.plusHours(2)).get(0).getStatus());
+        assertEquals(model.getAddressBook(), storage.readAddressBook().get());
+    }
+}
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -19,10 +20,17 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ModelFork;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.PersonChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.VersionVector;
+import seedu.address.model.completion.CompletionIndex;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonType;
+import seedu.address.model.person.Uid;
+import seedu.address.model.schedule.ScheduleEntry;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -162,6 +170,72 @@ public class AddCommandTest {
         public Optional<Person> findSimilarPerson(Person person) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<ScheduleEntry> getScheduleEntries(LocalDateTime start, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<ScheduleEntry> getNurseScheduleEntries(Long nurseUidNo, LocalDateTime start,
+                LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<ScheduleEntry> getUpcomingVisits(int count) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<ScheduleEntry> getUpcomingVisitList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int markPassedVisits() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int expandRecurringVisits() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Person> getPerson(Uid uid) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void applyChanges(List<PersonChange> changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public VersionVector getPersonVersion(Uid uid) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void mergePersonVersion(Uid uid, VersionVector version) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CompletionIndex getCompletionIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelSnapshot getSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelFork fork() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
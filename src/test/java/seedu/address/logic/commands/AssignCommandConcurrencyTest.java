@@ -0,0 +1,169 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.AppClock;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.DateSlot;
+import seedu.address.model.person.HomeVisit;
+import seedu.address.model.person.Nurse;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.NurseBuilder;
+import seedu.address.testutil.PatientBuilder;
+
+/**
+ * Runs assign and deassign commands on one thread while other threads read snapshots of the model, and checks
+ * that no reader sees a patient's slots and a nurse's home visits that disagree.
+ */
+public class AssignCommandConcurrencyTest {
+
+    private static final int ROUNDS = 200;
+    private static final int READERS = 3;
+
+    private Model model;
+    private Person patient;
+    private Person nurse;
+
+    @BeforeEach
+    public void setUp() {
+        // before the patient's slots, so that they can be assigned
+        ZoneId zone = ZoneId.systemDefault();
+        AppClock.setClock(Clock.fixed(LocalDateTime.of(2022, 12, 1, 8, 0).atZone(zone).toInstant(), zone));
+        patient = new PatientBuilder().withUid("1").withDatesSlots("2022-12-24,2", "2022-12-11,2").build();
+        nurse = new NurseBuilder().withUid("2").withCategory("N").withName("Betty Nurse").build();
+        model = new ModelManager(new AddressBookBuilder().withPerson(patient).withPerson(nurse).build(),
+                new UserPrefs());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        AppClock.useSystemClock();
+    }
+
+    @Test
+    public void execute_concurrentSnapshotReaders_neverSeeHalfAppliedAssignment() throws Exception {
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        CountDownLatch readersStarted = new CountDownLatch(READERS);
+        ExecutorService threads = Executors.newFixedThreadPool(READERS + 1);
+        try {
+            List<Future<List<String>>> readers = new ArrayList<>();
+            for (int i = 0; i < READERS; i++) {
+                readers.add(threads.submit(() -> readUntilDone(isWriting, readersStarted)));
+            }
+            Future<?> writer = threads.submit(() -> {
+                try {
+                    // so that the writer does not finish before the readers have read anything
+                    readersStarted.await();
+                    for (int i = 0; i < ROUNDS; i++) {
+                        new AssignCommand(patient.getUid(), nurse.getUid(), new ArrayList<>()).execute(model);
+                        new DeassignCommand(patient.getUid(), new ArrayList<>()).execute(model);
+                    }
+                } finally {
+                    isWriting.set(false);
+                }
+                return null;
+            });
+            writer.get();
+
+            for (Future<List<String>> reader : readers) {
+                assertEquals(List.of(), reader.get());
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    public void findViolations_patientAndNurseChangedSeparately_halfAppliedSnapshotDetected() throws Exception {
+        Model assignedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        new AssignCommand(patient.getUid(), nurse.getUid(), new ArrayList<>()).execute(assignedModel);
+        Person assignedPatient = assignedModel.getPerson(patient.getUid()).get();
+        Person assignedNurse = assignedModel.getPerson(nurse.getUid()).get();
+
+        // two separate changes publish a snapshot in between, which the check must catch
+        model.setPerson(patient, assignedPatient);
+        assertEquals(2, findViolations(model.getSnapshot()).size());
+        model.setPerson(nurse, assignedNurse);
+        assertEquals(List.of(), findViolations(model.getSnapshot()));
+    }
+
+    /**
+     * Reads each new snapshot until {@code isWriting} is cleared, counting down {@code started} once the first has
+     * been read, and returns the violations found.
+     */
+    private List<String> readUntilDone(AtomicBoolean isWriting, CountDownLatch started) {
+        List<String> violations = new ArrayList<>();
+        long lastVersion = -1;
+        do {
+            ModelSnapshot snapshot = model.getSnapshot();
+            if (snapshot.getVersion() == lastVersion) {
+                Thread.onSpinWait();
+                continue;
+            }
+            lastVersion = snapshot.getVersion();
+            violations.addAll(findViolations(snapshot));
+            started.countDown();
+        } while (isWriting.get());
+        return violations;
+    }
+
+    /**
+     * Returns a description of each assigned slot without a matching home visit, and each home visit without a
+     * matching assigned slot, in {@code snapshot}.
+     */
+    private static List<String> findViolations(ModelSnapshot snapshot) {
+        Set<String> slotAssignments = new HashSet<>();
+        Set<String> homeVisits = new HashSet<>();
+        for (Person person : snapshot.getPersonList()) {
+            if (person instanceof Patient) {
+                for (DateSlot slot : ((Patient) person).getDatesSlots()) {
+                    if (slot.getHasAssigned()) {
+                        slotAssignments.add(slot.getDateTime() + " " + person.getUid().getUid() + " "
+                                + slot.getNurseUidNo());
+                    }
+                }
+            } else if (person instanceof Nurse) {
+                for (HomeVisit homeVisit : ((Nurse) person).getHomeVisits()) {
+                    homeVisits.add(homeVisit.getDateSlot().getDateTime() + " "
+                            + homeVisit.getHomeVisitPatientUidNo() + " " + person.getUid().getUid());
+                }
+            }
+        }
+
+        List<String> violations = new ArrayList<>();
+        for (String assignment : slotAssignments) {
+            if (!homeVisits.contains(assignment)) {
+                violations.add("v" + snapshot.getVersion() + ": slot without home visit " + assignment);
+            }
+        }
+        for (String homeVisit : homeVisits) {
+            if (!slotAssignments.contains(homeVisit)) {
+                violations.add("v" + snapshot.getVersion() + ": home visit without slot " + homeVisit);
+            }
+        }
+        return violations;
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_UID;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.AddressBookBuilder;
+
+public class BatchCommandTest {
+
+    private final Model model = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+            .build(), new UserPrefs());
+
+    @Test
+    public void execute_allCommandsValid_changesMade() {
+        BatchCommand batchCommand = new BatchCommand(List.of("# nightly roster", "delete id/1", "", "delete id/2"));
+        Model expectedModel = new ModelManager();
+
+        assertCommandSuccess(batchCommand, model, String.format(BatchCommand.MESSAGE_SUCCESS, 2, 2), expectedModel);
+    }
+
+    @Test
+    public void execute_invalidCommand_noChangesMade() {
+        BatchCommand batchCommand = new BatchCommand(List.of("delete id/1", "delete id/1"));
+        String expectedMessage = String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 2, "delete id/1",
+                MESSAGE_INVALID_PERSON_DISPLAYED_UID);
+
+        assertCommandFailure(batchCommand, model, expectedMessage);
+    }
+
+    @Test
+    public void execute_unknownCommand_noChangesMade() {
+        BatchCommand batchCommand = new BatchCommand(List.of("delete id/1", "  unknownCommand  "));
+        String expectedMessage = String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 2, "unknownCommand",
+                MESSAGE_UNKNOWN_COMMAND);
+
+        assertCommandFailure(batchCommand, model, expectedMessage);
+    }
+
+    @Test
+    public void execute_nestedRun_noChangesMade() {
+        BatchCommand batchCommand = new BatchCommand(List.of("delete id/1", "run roster.txt"));
+        String expectedMessage = String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 2, "run roster.txt",
+                BatchCommand.MESSAGE_NESTED_RUN);
+
+        assertCommandFailure(batchCommand, model, expectedMessage);
+    }
+
+    @Test
+    public void equals() {
+        BatchCommand batchCommand = new BatchCommand(List.of("delete id/1"));
+
+        assertTrue(batchCommand.equals(batchCommand));
+        assertTrue(batchCommand.equals(new BatchCommand(List.of("delete id/1"))));
+        assertFalse(batchCommand.equals(new BatchCommand(List.of("delete id/2"))));
+        assertFalse(batchCommand.equals(null));
+    }
+}
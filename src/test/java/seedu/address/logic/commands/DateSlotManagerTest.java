@@ -0,0 +1,36 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.person.DateSlot;
+
+public class DateSlotManagerTest {
+
+    private final List<DateSlot> dateSlots = List.of(new DateSlot("2099-01-01,1"), new DateSlot("2099-01-01,2"));
+
+    @Test
+    public void markAssigned_specificDateSlot_onlyThatDateSlotCopied() throws Exception {
+        DateSlotManager manager = new DateSlotManager(dateSlots, Index.fromOneBased(1));
+        List<DateSlot> updatedDateSlots = manager.markAssigned(new ArrayList<>(), new ArrayList<>(), 1L);
+
+        assertTrue(updatedDateSlots.get(0).getHasAssigned());
+        assertFalse(dateSlots.get(0).getHasAssigned());
+        assertSame(dateSlots.get(1), updatedDateSlots.get(1));
+    }
+
+    @Test
+    public void unmarkSpecificAssignedFromHomeVisit_noDateSlotAtThatTime_throwsIllegalStateException() {
+        DateSlotManager manager = new DateSlotManager(dateSlots);
+        assertThrows(IllegalStateException.class, () ->
+                manager.unmarkSpecificAssignedFromHomeVisit(new DateSlot("2099-01-02,1")));
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.AddressBookFileMerge.Resolution;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class MergeCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Person mobileAlice = new PersonBuilder(ALICE).withPhone("91110000").build();
+    private final Person mobileCarl = new PersonBuilder(CARL).withEmail("carl@example.com").build();
+    private final Person homeCarl = new PersonBuilder(CARL).withPhone("92220000").build();
+    private final Person homeDaniel = new PersonBuilder(DANIEL).withPhone("93330000").build();
+
+    private UserPrefs homePrefs;
+    private Model homeModel;
+    private Path mobileFile;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        AddressBook original = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL)
+                .withPerson(DANIEL).build();
+        homePrefs = new UserPrefs();
+        homePrefs.setReplicaId("home");
+        UserPrefs mobilePrefs = new UserPrefs();
+        mobilePrefs.setReplicaId("mobile");
+
+        Model mobileModel = new ModelManager(original, mobilePrefs);
+        mobileModel.setPerson(ALICE, mobileAlice);
+        mobileModel.deletePerson(BENSON);
+        mobileModel.setPerson(CARL, mobileCarl);
+        mobileModel.addPerson(HOON);
+        mobileFile = temporaryFolder.resolve("mobile.json");
+        new JsonAddressBookStorage(mobileFile).saveAddressBook(mobileModel.getAddressBook());
+
+        homeModel = new ModelManager(original, homePrefs);
+        homeModel.setPerson(CARL, homeCarl);
+        homeModel.setPerson(DANIEL, homeDaniel);
+    }
+
+    @Test
+    public void execute_changesInBothCopies_otherChangesMergedAndConflictsListed() {
+        Model expectedModel = new ModelManager(new AddressBookBuilder().withPerson(mobileAlice)
+                .withPerson(homeCarl).withPerson(homeDaniel).withPerson(HOON).build(), homePrefs);
+        String expectedMessage = String.format(MergeCommand.MESSAGE_SUCCESS, mobileFile, 3)
+                + String.format(MergeCommand.MESSAGE_CONFLICTS, 1, CARL.getName() + " [Uid:3]");
+
+        assertCommandSuccess(new MergeCommand(mobileFile), homeModel, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_mergedAgain_conflictsListedAgain() throws Exception {
+        new MergeCommand(mobileFile).execute(homeModel);
+        Model expectedModel = new ModelManager(homeModel.getAddressBook(), homePrefs);
+
+        // no copy was chosen, so the conflict is reported until one is
+        assertCommandSuccess(new MergeCommand(mobileFile), homeModel,
+                String.format(MergeCommand.MESSAGE_SUCCESS, mobileFile, 0)
+                + String.format(MergeCommand.MESSAGE_CONFLICTS, 1, CARL.getName() + " [Uid:3]"), expectedModel);
+    }
+
+    @Test
+    public void execute_keepHereMergedAgain_nothingChanged() throws Exception {
+        new MergeCommand(mobileFile, Resolution.KEEP_OURS).execute(homeModel);
+        Model expectedModel = new ModelManager(homeModel.getAddressBook(), homePrefs);
+
+        // the changes made here are now the latest
+        assertCommandSuccess(new MergeCommand(mobileFile), homeModel,
+                String.format(MergeCommand.MESSAGE_SUCCESS, mobileFile, 0), expectedModel);
+    }
+
+    @Test
+    public void execute_keepThere_otherChangesTaken() throws Exception {
+        Model expectedModel = new ModelManager(new AddressBookBuilder().withPerson(mobileAlice)
+                .withPerson(mobileCarl).withPerson(homeDaniel).withPerson(HOON).build(), homePrefs);
+        String expectedMessage = String.format(MergeCommand.MESSAGE_SUCCESS, mobileFile, 4)
+                + String.format(MergeCommand.MESSAGE_CONFLICTS_KEPT_THERE, 1, CARL.getName() + " [Uid:3]");
+
+        assertCommandSuccess(new MergeCommand(mobileFile, Resolution.KEEP_THEIRS), homeModel, expectedMessage,
+                expectedModel);
+        assertCommandSuccess(new MergeCommand(mobileFile), homeModel,
+                String.format(MergeCommand.MESSAGE_SUCCESS, mobileFile, 0), expectedModel);
+    }
+
+    @Test
+    public void execute_mergedIntoOtherCopy_changesMadeHereTaken() throws Exception {
+        new MergeCommand(mobileFile, Resolution.KEEP_OURS).execute(homeModel);
+        Path homeFile = temporaryFolder.resolve("home.json");
+        new JsonAddressBookStorage(homeFile).saveAddressBook(homeModel.getAddressBook());
+
+        UserPrefs mobilePrefs = new UserPrefs();
+        mobilePrefs.setReplicaId("mobile");
+        Model mobileModel = new ModelManager(new JsonAddressBookStorage(mobileFile).readAddressBook().get(),
+                mobilePrefs);
+        new MergeCommand(homeFile).execute(mobileModel);
+
+        assertEquals(homeModel.getAddressBook().getPersonList(), mobileModel.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path missingFile = temporaryFolder.resolve("missing.json");
+        assertCommandFailure(new MergeCommand(missingFile), homeModel,
+                String.format(MergeCommand.MESSAGE_READ_ERROR, missingFile));
+    }
+
+    @Test
+    public void equals() {
+        MergeCommand mergeCommand = new MergeCommand(Path.of("copy.json"));
+
+        assertTrue(mergeCommand.equals(mergeCommand));
+        assertTrue(mergeCommand.equals(new MergeCommand(Path.of("copy.json"))));
+        assertFalse(mergeCommand.equals(new MergeCommand(Path.of("other.json"))));
+        assertFalse(mergeCommand.equals(new MergeCommand(Path.of("copy.json"), Resolution.KEEP_OURS)));
+        assertFalse(mergeCommand.equals(null));
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class NextCommandTest {
+
+    private static final Person FUTURE_PATIENT = new PersonBuilder().withUid("20").withCategory("P")
+            .withDatesSlots("2099-01-02,1", "2099-01-01,3", "2099-01-01,1").build();
+
+    @Test
+    public void execute_noUpcomingVisits_noVisitsMessage() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandSuccess(new NextCommand(5), model, NextCommand.MESSAGE_NO_UPCOMING_VISITS, expectedModel);
+    }
+
+    @Test
+    public void execute_upcomingVisits_listsEarliestInOrder() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(FUTURE_PATIENT);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        Model expectedModel = new ModelManager(addressBook, new UserPrefs());
+
+        String expectedMessage = String.format(NextCommand.MESSAGE_SUCCESS, 2,
+                "01/01/2099 10:00 Patient [Uid:20] - no nurse assigned (open)\n"
+                        + "01/01/2099 14:00 Patient [Uid:20] - no nurse assigned (open)");
+        assertCommandSuccess(new NextCommand(2), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        NextCommand nextFive = new NextCommand(5);
+
+        assertTrue(nextFive.equals(nextFive));
+        assertTrue(nextFive.equals(new NextCommand(5)));
+        assertFalse(nextFive.equals(new NextCommand(3)));
+        assertFalse(nextFive.equals(null));
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ChangeHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.PersonChange;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class RedoCommandTest {
+
+    private final ChangeHistory history = new ChangeHistory();
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Person alice;
+    private Person editedAlice;
+
+    @BeforeEach
+    public void setUp() {
+        alice = model.getPerson(ALICE.getUid()).get();
+        editedAlice = new PersonBuilder(alice).withPhone("91234567").build();
+        history.record("edit", List.of(new PersonChange(Optional.of(alice), Optional.of(editedAlice))));
+        history.markUndone();
+    }
+
+    @Test
+    public void execute_commandUndone_changesMadeAgain() {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setPerson(alice, editedAlice);
+
+        assertCommandSuccess(new RedoCommand(history), model, String.format(RedoCommand.MESSAGE_SUCCESS, "edit"),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_personChangedSince_throwsCommandException() {
+        model.setPerson(alice, new PersonBuilder(alice).withEmail("alice@example.org").build());
+
+        assertCommandFailure(new RedoCommand(history), model, String.format(RedoCommand.MESSAGE_CHANGED_SINCE,
+                "edit", alice.getCategoryIndicator(), alice.getUid()));
+    }
+
+    @Test
+    public void execute_nothingUndone_throwsCommandException() {
+        assertCommandFailure(new RedoCommand(new ChangeHistory()), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void equals() {
+        RedoCommand redoCommand = new RedoCommand(history);
+
+        assertTrue(redoCommand.equals(redoCommand));
+        assertTrue(redoCommand.equals(new RedoCommand(history)));
+        assertFalse(redoCommand.equals(new RedoCommand(new ChangeHistory())));
+        assertFalse(redoCommand.equals(null));
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.AddressBookBuilder;
+
+public class RunCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+            .build(), new UserPrefs());
+
+    @Test
+    public void execute_validScript_changesMade() throws Exception {
+        Path scriptFile = temporaryFolder.resolve("script.txt");
+        Files.write(scriptFile, List.of("delete id/2"));
+        Model expectedModel = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(), new UserPrefs());
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS, scriptFile,
+                String.format(BatchCommand.MESSAGE_SUCCESS, 1, 1));
+        assertCommandSuccess(new RunCommand(scriptFile), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path missingFile = temporaryFolder.resolve("missing.txt");
+        assertCommandFailure(new RunCommand(missingFile), model,
+                String.format(RunCommand.MESSAGE_READ_ERROR, missingFile));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Path.of("roster.txt"));
+
+        assertTrue(runCommand.equals(runCommand));
+        assertTrue(runCommand.equals(new RunCommand(Path.of("roster.txt"))));
+        assertFalse(runCommand.equals(new RunCommand(Path.of("other.txt"))));
+        assertFalse(runCommand.equals(null));
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.schedule.ScheduleEntry.VisitStatus;
+
+public class ScheduleCommandTest {
+
+    private static final LocalDateTime DAY_START = LocalDateTime.of(2022, 12, 10, 0, 0);
+    private static final LocalDateTime DAY_END = LocalDateTime.of(2022, 12, 11, 0, 0);
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_dayWithVisits_listsAllVisits() {
+        ScheduleCommand command = new ScheduleCommand(DAY_START, DAY_END, Optional.empty());
+        String expectedMessage = String.format(ScheduleCommand.MESSAGE_SUCCESS, 2, "10/12/2022 00:00",
+                "11/12/2022 00:00", "10/12/2022 12:00 Patient [Uid:3] - Nurse [Uid:8] (visited)\n"
+                        + "10/12/2022 12:00 Patient [Uid:4] - no nurse assigned (visited)");
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noMatchingStatus_noVisitsMessage() {
+        ScheduleCommand command = new ScheduleCommand(DAY_START, DAY_END, Optional.of(VisitStatus.OPEN));
+        String expectedMessage = String.format(ScheduleCommand.MESSAGE_NO_VISITS, "10/12/2022 00:00",
+                "11/12/2022 00:00");
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        ScheduleCommand command = new ScheduleCommand(DAY_START, DAY_END, Optional.empty());
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new ScheduleCommand(DAY_START, DAY_END, Optional.empty())));
+        assertFalse(command.equals(new ScheduleCommand(DAY_START, DAY_END, Optional.of(VisitStatus.OPEN))));
+        assertFalse(command.equals(new ScheduleCommand(DAY_START, DAY_END.plusDays(1), Optional.empty())));
+        assertFalse(command.equals(null));
+    }
+}
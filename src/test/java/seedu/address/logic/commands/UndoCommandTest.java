@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ChangeHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.PersonChange;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class UndoCommandTest {
+
+    private final ChangeHistory history = new ChangeHistory();
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Person alice;
+    private Person editedAlice;
+    private Person benson;
+
+    @BeforeEach
+    public void setUp() {
+        alice = model.getPerson(ALICE.getUid()).get();
+        benson = model.getPerson(BENSON.getUid()).get();
+        editedAlice = new PersonBuilder(alice).withPhone("91234567").build();
+        model.setPerson(alice, editedAlice);
+        model.deletePerson(benson);
+        history.record("edit and delete", List.of(
+                new PersonChange(Optional.of(alice), Optional.of(editedAlice)),
+                new PersonChange(Optional.of(benson), Optional.empty())));
+    }
+
+    @Test
+    public void execute_commandRecorded_changesReverted() {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setPerson(editedAlice, alice);
+        expectedModel.addPerson(benson);
+
+        assertCommandSuccess(new UndoCommand(history), model,
+                String.format(UndoCommand.MESSAGE_SUCCESS, "edit and delete"), expectedModel);
+    }
+
+    @Test
+    public void execute_personChangedSince_throwsCommandException() {
+        model.setPerson(editedAlice, new PersonBuilder(editedAlice).withEmail("alice@example.org").build());
+
+        assertCommandFailure(new UndoCommand(history), model, String.format(UndoCommand.MESSAGE_CHANGED_SINCE,
+                "edit and delete", editedAlice.getCategoryIndicator(), editedAlice.getUid()));
+    }
+
+    @Test
+    public void execute_nothingRecorded_throwsCommandException() {
+        assertCommandFailure(new UndoCommand(new ChangeHistory()), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void equals() {
+        UndoCommand undoCommand = new UndoCommand(history);
+
+        assertTrue(undoCommand.equals(undoCommand));
+        assertTrue(undoCommand.equals(new UndoCommand(history)));
+        assertFalse(undoCommand.equals(new UndoCommand(new ChangeHistory())));
+        assertFalse(undoCommand.equals(null));
+    }
+}
@@ -8,8 +8,10 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_UID_AMY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_UID;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -23,12 +25,18 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MergeCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ChangeHistory;
 import seedu.address.model.ModelManager;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Uid;
+import seedu.address.storage.AddressBookFileMerge.Resolution;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
 
@@ -87,6 +95,18 @@ public class HealthcareXpressParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseFilter() {
+        assertEquals(Optional.of(new NameContainsKeywordsPredicate(List.of("foo", "bar"))),
+                parser.parseFilter(FindCommand.COMMAND_WORD + " foo bar"));
+        assertTrue(parser.parseFilter(ListCommand.COMMAND_WORD + " c/n").isPresent());
+
+        // incomplete or other commands
+        assertEquals(Optional.empty(), parser.parseFilter(FindCommand.COMMAND_WORD + " "));
+        assertEquals(Optional.empty(), parser.parseFilter(ClearCommand.COMMAND_WORD));
+        assertEquals(Optional.empty(), parser.parseFilter(""));
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         ModelManager modelManager = new ModelManager();
@@ -101,6 +121,37 @@ public class HealthcareXpressParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3", modelManager) instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_run() throws Exception {
+        ModelManager modelManager = new ModelManager();
+        assertEquals(new RunCommand(Paths.get("data", "roster.txt")),
+                parser.parseCommand(RunCommand.COMMAND_WORD + " data/roster.txt", modelManager));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE), ()
+                -> parser.parseCommand(RunCommand.COMMAND_WORD, modelManager));
+    }
+
+    @Test
+    public void parseCommand_undoAndRedo() throws Exception {
+        ChangeHistory history = new ChangeHistory();
+        HealthcareXpressParser historyParser = new HealthcareXpressParser(history);
+        ModelManager modelManager = new ModelManager();
+        assertEquals(new UndoCommand(history), historyParser.parseCommand(UndoCommand.COMMAND_WORD, modelManager));
+        assertEquals(new RedoCommand(history), historyParser.parseCommand(RedoCommand.COMMAND_WORD, modelManager));
+    }
+
+    @Test
+    public void parseCommand_merge() throws Exception {
+        ModelManager modelManager = new ModelManager();
+        assertEquals(new MergeCommand(Paths.get("data", "copy.json")),
+                parser.parseCommand(MergeCommand.COMMAND_WORD + " data/copy.json", modelManager));
+        assertEquals(new MergeCommand(Paths.get("data", "copy.json"), Resolution.KEEP_THEIRS),
+                parser.parseCommand(MergeCommand.COMMAND_WORD + " data/copy.json keep/there", modelManager));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE),
+                () -> parser.parseCommand(MergeCommand.COMMAND_WORD + " data/copy.json keep/both", modelManager));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE),
+                () -> parser.parseCommand(MergeCommand.COMMAND_WORD, modelManager));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         ModelManager modelManager = new ModelManager();
@@ -0,0 +1,74 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.model.schedule.ScheduleEntry.VisitStatus;
+
+public class ScheduleCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE);
+
+    private final ScheduleCommandParser parser = new ScheduleCommandParser();
+
+    @Test
+    public void parse_dateSlot_success() {
+        assertParseSuccess(parser, " ds/2022-11-11,3", new ScheduleCommand(LocalDateTime.of(2022, 11, 11, 14, 0),
+                LocalDateTime.of(2022, 11, 11, 16, 0), Optional.empty()));
+    }
+
+    @Test
+    public void parse_day_success() {
+        assertParseSuccess(parser, " d/2022-11-11 st/open", new ScheduleCommand(
+                LocalDateTime.of(2022, 11, 11, 0, 0), LocalDateTime.of(2022, 11, 12, 0, 0),
+                Optional.of(VisitStatus.OPEN)));
+    }
+
+    @Test
+    public void parse_statusUnderTurkishLocale_success() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            assertParseSuccess(parser, " d/2022-11-11 st/visited", new ScheduleCommand(
+                    LocalDateTime.of(2022, 11, 11, 0, 0), LocalDateTime.of(2022, 11, 12, 0, 0),
+                    Optional.of(VisitStatus.VISITED)));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void parse_week_startsOnMonday() {
+        // 2022-11-11 is a Friday
+        assertParseSuccess(parser, " w/2022-11-11", new ScheduleCommand(LocalDateTime.of(2022, 11, 7, 0, 0),
+                LocalDateTime.of(2022, 11, 14, 0, 0), Optional.empty()));
+    }
+
+    @Test
+    public void parse_range_endDateInclusive() {
+        assertParseSuccess(parser, " from/2022-11-01 to/2022-11-30", new ScheduleCommand(
+                LocalDateTime.of(2022, 11, 1, 0, 0), LocalDateTime.of(2022, 12, 1, 0, 0), Optional.empty()));
+    }
+
+    @Test
+    public void parse_invalidPeriod_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " d/2022-11-11 w/2022-11-11", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " from/2022-11-11", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " from/2022-11-30 to/2022-11-01", ScheduleCommandParser.MESSAGE_INVALID_RANGE);
+    }
+
+    @Test
+    public void parse_invalidStatus_failure() {
+        assertParseFailure(parser, " d/2022-11-11 st/done", ScheduleCommandParser.MESSAGE_INVALID_STATUS);
+    }
+}
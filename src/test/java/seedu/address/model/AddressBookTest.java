@@ -9,14 +9,18 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -83,6 +87,77 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getPersonVersion_noReplicaId_changesNotRecorded() {
+        addressBook.addPerson(ALICE);
+        assertEquals(VersionVector.EMPTY, addressBook.getPersonVersion(ALICE.getUid()));
+    }
+
+    @Test
+    public void getPersonVersion_withReplicaId_eachChangeRecorded() {
+        addressBook.setReplicaId("home");
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(new VersionVector(Map.of("home", 2L)), addressBook.getPersonVersion(ALICE.getUid()));
+
+        // the version of a removed person is kept, so that the removal can be merged into other copies
+        addressBook.removePerson(editedAlice);
+        assertEquals(new VersionVector(Map.of("home", 3L)), addressBook.getPersonVersion(ALICE.getUid()));
+    }
+
+    @Test
+    public void applyChanges_singleEdit_changeCoversOnlyEditedPosition() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        Person target = typicalAddressBook.getPersonList().get(2);
+        Person editedPerson = new PersonBuilder(target).withAddress(VALID_ADDRESS_BOB).build();
+        List<String> changes = new ArrayList<>();
+        typicalAddressBook.getPersonList().addListener((ListChangeListener<Person>) c -> {
+            while (c.next()) {
+                changes.add(c.getFrom() + "-" + c.getTo() + " removed " + c.getRemoved());
+            }
+        });
+
+        typicalAddressBook.applyChanges(List.of(new PersonChange(Optional.of(target), Optional.of(editedPerson))));
+
+        assertEquals(List.of("2-3 removed " + List.of(target)), changes);
+        assertEquals(editedPerson, typicalAddressBook.getPersonList().get(2));
+    }
+
+    @Test
+    public void applyChanges_removeEditAndAdd_sameAsOneByOne() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        List<Person> expectedPersons = new ArrayList<>(typicalAddressBook.getPersonList());
+        Person removed = expectedPersons.get(1);
+        Person target = expectedPersons.get(3);
+        Person editedPerson = new PersonBuilder(target).withAddress(VALID_ADDRESS_BOB).build();
+        Person added = new PersonBuilder().withUid("999").withName("Zed Added").build();
+        expectedPersons.set(3, editedPerson);
+        expectedPersons.remove(1);
+        expectedPersons.add(added);
+
+        typicalAddressBook.applyChanges(List.of(new PersonChange(Optional.of(removed), Optional.empty()),
+                new PersonChange(Optional.of(target), Optional.of(editedPerson)),
+                new PersonChange(Optional.empty(), Optional.of(added))));
+
+        assertEquals(expectedPersons, typicalAddressBook.getPersonList());
+        assertEquals(Optional.of(editedPerson), typicalAddressBook.getPerson(target.getUid()));
+        assertFalse(typicalAddressBook.getPerson(removed.getUid()).isPresent());
+    }
+
+    @Test
+    public void applyChanges_addExistingUid_throwsDuplicatePersonException() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        List<Person> personsBefore = new ArrayList<>(typicalAddressBook.getPersonList());
+        Person existing = personsBefore.get(0);
+        Person added = new PersonBuilder().withUid(existing.getUid().getUid().toString()).withName("Zed Added")
+                .build();
+
+        assertThrows(DuplicatePersonException.class, () -> typicalAddressBook.applyChanges(
+                List.of(new PersonChange(Optional.empty(), Optional.of(added)))));
+        assertEquals(personsBefore, typicalAddressBook.getPersonList());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface
      * constraints.
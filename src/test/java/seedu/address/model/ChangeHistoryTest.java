@@ -0,0 +1,99 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ChangeHistoryTest {
+
+    private final Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+    private final PersonChange editAlice = new PersonChange(Optional.of(ALICE), Optional.of(editedAlice));
+    private final PersonChange deleteBenson = new PersonChange(Optional.of(BENSON), Optional.empty());
+    private final PersonChange addCarl = new PersonChange(Optional.empty(), Optional.of(CARL));
+
+    @Test
+    public void record_emptyChanges_notRecorded() {
+        ChangeHistory history = new ChangeHistory();
+        history.record("list", List.of());
+        assertTrue(history.peekUndo().isEmpty());
+    }
+
+    @Test
+    public void markUndoneAndRedone_entryMovedBetweenUndoAndRedo() {
+        ChangeHistory history = new ChangeHistory();
+        history.record("edit", List.of(editAlice));
+        history.record("delete", List.of(deleteBenson));
+        assertEquals("delete", history.peekUndo().get().getCommandText());
+
+        history.markUndone();
+        assertEquals("edit", history.peekUndo().get().getCommandText());
+        assertEquals("delete", history.peekRedo().get().getCommandText());
+
+        history.markRedone();
+        assertEquals("delete", history.peekUndo().get().getCommandText());
+        assertTrue(history.peekRedo().isEmpty());
+    }
+
+    @Test
+    public void record_afterUndo_redoForgotten() {
+        ChangeHistory history = new ChangeHistory();
+        history.record("edit", List.of(editAlice));
+        history.markUndone();
+        history.record("delete", List.of(deleteBenson));
+
+        assertTrue(history.peekRedo().isEmpty());
+        assertEquals(1, history.getPersonCount());
+    }
+
+    @Test
+    public void record_overCapacity_oldestDropped() {
+        ChangeHistory history = new ChangeHistory(2, 100);
+        history.record("edit", List.of(editAlice));
+        history.record("delete", List.of(deleteBenson));
+        history.record("add", List.of(addCarl));
+
+        history.markUndone();
+        history.markUndone();
+        assertTrue(history.peekUndo().isEmpty());
+        assertEquals(2, history.getPersonCount());
+    }
+
+    @Test
+    public void record_overPersonBudget_oldestDropped() {
+        ChangeHistory history = new ChangeHistory(10, 3);
+        history.record("edit", List.of(editAlice));
+        history.record("delete and add", List.of(deleteBenson, addCarl));
+
+        assertEquals(2, history.getPersonCount());
+        history.markUndone();
+        assertTrue(history.peekUndo().isEmpty());
+    }
+
+    @Test
+    public void record_largerThanPersonBudget_notKept() {
+        ChangeHistory history = new ChangeHistory(10, 1);
+        history.record("edit", List.of(editAlice));
+
+        assertTrue(history.peekUndo().isEmpty());
+        assertEquals(0, history.getPersonCount());
+    }
+
+    @Test
+    public void getInverseChanges_latestFirst() {
+        ChangeHistory history = new ChangeHistory();
+        history.record("edit and delete", List.of(editAlice, deleteBenson));
+
+        assertEquals(List.of(deleteBenson.inverse(), editAlice.inverse()),
+                history.peekUndo().get().getInverseChanges());
+    }
+}
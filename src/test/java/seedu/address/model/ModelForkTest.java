@@ -0,0 +1,146 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.model.exceptions.ForkConflictException;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.ScheduleEntry;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class ModelForkTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2099, 1, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2099, 2, 1, 0, 0);
+
+    private final Person visitedPatient = new PersonBuilder().withUid("20").withCategory("P")
+            .withDatesSlots("2099-01-01,1").build();
+    private final Person newPatient = new PersonBuilder().withUid("21").withCategory("P")
+            .withDatesSlots("2099-01-02,1").build();
+    private final ModelManager base = new ModelManager(new AddressBookBuilder().withPerson(ALICE)
+            .withPerson(BENSON).withPerson(visitedPatient).build(), new UserPrefs());
+
+    @Test
+    public void fork_changes_doNotAffectBase() {
+        ModelFork fork = base.fork();
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("11111111").build();
+        fork.setPerson(ALICE, editedAlice);
+        fork.deletePerson(BENSON);
+        fork.addPerson(newPatient);
+
+        assertEquals(List.of(editedAlice, visitedPatient, newPatient), fork.getFilteredPersonList());
+        assertEquals(List.of(ALICE, BENSON, visitedPatient), base.getFilteredPersonList());
+        assertTrue(fork.getFilteredPersonList().get(1) == visitedPatient); // unchanged persons are shared
+        assertEquals(Optional.empty(), fork.getPerson(BENSON.getUid()));
+        assertEquals(Optional.of(BENSON), base.getPerson(BENSON.getUid()));
+    }
+
+    @Test
+    public void fork_changesBeforeListIsRead_listReflectsChanges() {
+        ModelFork fork = base.fork();
+        fork.deletePerson(ALICE);
+        fork.setPerson(visitedPatient, new PersonBuilder(visitedPatient).withPhone("11111111").build());
+
+        assertEquals(2, fork.getFilteredPersonList().size());
+        assertEquals(BENSON, fork.getFilteredPersonList().get(0));
+        assertEquals("11111111", fork.getFilteredPersonList().get(1).getPhone().value);
+    }
+
+    @Test
+    public void getChanges_returnsNetChanges() {
+        ModelFork fork = base.fork();
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("11111111").build();
+        fork.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("22222222").build());
+        fork.setPerson(fork.getPerson(ALICE.getUid()).get(), editedAlice);
+        fork.deletePerson(BENSON);
+        fork.addPerson(newPatient);
+        fork.deletePerson(newPatient); // added then removed -> no change
+
+        assertEquals(List.of(new PersonChange(Optional.of(ALICE), Optional.of(editedAlice)),
+                new PersonChange(Optional.of(BENSON), Optional.empty())), fork.getChanges());
+    }
+
+    @Test
+    public void commit_changesMadeToBase() {
+        ModelFork fork = base.fork();
+        new ClearCommand().execute(fork);
+        fork.addPerson(newPatient);
+        fork.commit();
+
+        assertTrue(fork.isClosed());
+        assertEquals(List.of(newPatient), base.getAddressBook().getPersonList());
+        assertEquals(1, base.getScheduleEntries(START, END).size());
+    }
+
+    @Test
+    public void commit_personChangedInBase_throwsForkConflictException() {
+        ModelFork fork = base.fork();
+        fork.deletePerson(BENSON);
+        fork.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("11111111").build());
+        base.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("22222222").build());
+
+        assertThrows(ForkConflictException.class, fork::commit);
+        assertTrue(base.hasPerson(BENSON)); // no change is made
+        assertEquals("22222222", base.getPerson(ALICE.getUid()).get().getPhone().value);
+        assertFalse(fork.isClosed());
+    }
+
+    @Test
+    public void discard_baseUnchanged() {
+        ModelFork fork = base.fork();
+        fork.deletePerson(ALICE);
+        fork.discard();
+
+        assertTrue(base.hasPerson(ALICE));
+        assertThrows(IllegalStateException.class, fork::getFilteredPersonList);
+        assertThrows(IllegalStateException.class, fork::commit);
+    }
+
+    @Test
+    public void fork_nestedFork_commitsIntoParent() {
+        ModelFork fork = base.fork();
+        ModelFork nestedFork = fork.fork();
+        nestedFork.deletePerson(ALICE);
+        nestedFork.commit();
+
+        assertFalse(fork.hasPerson(ALICE));
+        assertTrue(base.hasPerson(ALICE));
+    }
+
+    @Test
+    public void getScheduleEntries_reflectsChangedPatients() {
+        ModelFork fork = base.fork();
+        fork.deletePerson(visitedPatient);
+        fork.addPerson(newPatient);
+
+        List<ScheduleEntry> entries = fork.getScheduleEntries(START, END);
+        assertEquals(1, entries.size());
+        assertEquals(newPatient.getUid().getUid(), entries.get(0).getPatientUidNo());
+        assertEquals(newPatient.getUid().getUid(), fork.getUpcomingVisits(5).get(0).getPatientUidNo());
+        assertEquals(1, fork.getUpcomingVisits(5).size());
+        assertEquals(visitedPatient.getUid().getUid(), base.getUpcomingVisits(5).get(0).getPatientUidNo());
+    }
+
+    @Test
+    public void fork_typicalAddressBook_sameFilteredList() {
+        ModelManager typicalModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        typicalModel.updateFilteredPersonList(person -> person.isNurse());
+        ModelFork fork = typicalModel.fork();
+
+        assertEquals(typicalModel.getFilteredPersonList(), fork.getFilteredPersonList());
+        assertEquals(typicalModel.getAddressBook().getPersonList(), fork.getAddressBook().getPersonList());
+    }
+}
@@ -7,21 +7,44 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.AppClock;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Nurse;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PatientBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
     private ModelManager modelManager = new ModelManager();
 
+    @AfterEach
+    public void tearDown() {
+        AppClock.useSystemClock();
+    }
+
     @Test
     public void constructor() {
         assertEquals(new UserPrefs(), modelManager.getUserPrefs());
@@ -129,4 +152,181 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    @Test
+    public void markPassedVisits_slotPassed_marksPatientAndNurse() {
+        Person patient = new PersonBuilder().withUid("20").withCategory("P")
+                .withAssignedDatesSlots(List.of("2099-01-01,1:21", "2099-01-08,1:21")).build();
+        Person nurse = new PersonBuilder().withUid("21").withCategory("N")
+                .withHomeVisits("2099-01-01,1:20", "2099-01-08,1:20").build();
+        modelManager.addPerson(patient);
+        modelManager.addPerson(nurse);
+        modelManager.addPerson(ALICE);
+
+        setClock(LocalDateTime.of(2099, 1, 1, 9, 59));
+        assertEquals(0, modelManager.markPassedVisits());
+
+        setClock(LocalDateTime.of(2099, 1, 1, 10, 1));
+        assertEquals(1, modelManager.markPassedVisits());
+        assertEquals(0, modelManager.markPassedVisits());
+
+        List<Person> persons = modelManager.getAddressBook().getPersonList();
+        Patient markedPatient = (Patient) persons.get(0);
+        assertTrue(markedPatient.getDatesSlots().get(0).getHasVisited());
+        assertFalse(markedPatient.getDatesSlots().get(1).getHasVisited());
+        Nurse markedNurse = (Nurse) persons.get(1);
+        assertTrue(markedNurse.getHomeVisits().get(0).getDateSlot().getHasVisited());
+        assertFalse(markedNurse.getHomeVisits().get(1).getDateSlot().getHasVisited());
+        assertTrue(persons.get(2) == ALICE);
+        assertEquals(LocalDateTime.of(2099, 1, 8, 10, 0), modelManager.getUpcomingVisitList().get(0).getDateTime());
+    }
+
+    @Test
+    public void expandRecurringVisits_horizonMoves_expandsRecurringPatients() {
+        setClock(LocalDateTime.of(2099, 1, 5, 0, 0));
+        Patient patient = new PatientBuilder().withUid("20").withRecurrences("2099-01-01,2,weekly:TUE+FRI").build();
+        modelManager.addPerson(patient);
+        modelManager.addPerson(ALICE);
+
+        // expanded on add, up to four weeks after today
+        Patient addedPatient = (Patient) modelManager.getAddressBook().getPersonList().get(0);
+        assertEquals(8, addedPatient.getDatesSlots().size());
+        assertEquals(LocalDateTime.of(2099, 1, 6, 12, 0), modelManager.getUpcomingVisitList().get(0).getDateTime());
+        assertEquals(0, modelManager.expandRecurringVisits());
+
+        setClock(LocalDateTime.of(2099, 1, 10, 0, 0));
+        assertEquals(1, modelManager.expandRecurringVisits());
+        assertEquals(0, modelManager.expandRecurringVisits());
+        Patient rolledPatient = (Patient) modelManager.getAddressBook().getPersonList().get(0);
+        assertEquals(LocalDateTime.of(2099, 1, 13, 12, 0), rolledPatient.getDatesSlots().get(0).getDateTime());
+        assertEquals(LocalDateTime.of(2099, 2, 6, 12, 0),
+                rolledPatient.getDatesSlots().get(rolledPatient.getDatesSlots().size() - 1).getDateTime());
+        assertTrue(modelManager.getAddressBook().getPersonList().get(1) == ALICE);
+    }
+
+    @Test
+    public void applyChanges_validChanges_personListChangedOnce() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("11111111").build();
+        Person newPatient = new PersonBuilder().withUid("20").withCategory("P").withDatesSlots("2099-01-01,1").build();
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .withPerson(CARL).build());
+        List<Integer> listChanges = new ArrayList<>();
+        modelManager.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change ->
+                listChanges.add(1));
+
+        modelManager.applyChanges(List.of(new PersonChange(Optional.of(ALICE), Optional.of(editedAlice)),
+                new PersonChange(Optional.of(BENSON), Optional.empty()),
+                new PersonChange(Optional.empty(), Optional.of(newPatient))));
+
+        assertEquals(1, listChanges.size());
+        assertEquals(List.of(editedAlice, CARL, newPatient), modelManager.getFilteredPersonList());
+        assertEquals(Optional.empty(), modelManager.getPerson(BENSON.getUid()));
+        assertEquals(1, modelManager.getScheduleEntries(LocalDateTime.of(2099, 1, 1, 0, 0),
+                LocalDateTime.of(2099, 1, 2, 0, 0)).size());
+    }
+
+    @Test
+    public void applyChanges_invalidChange_noChangesMade() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).build());
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("11111111").build();
+
+        assertThrows(PersonNotFoundException.class, () -> modelManager.applyChanges(List.of(
+                new PersonChange(Optional.of(ALICE), Optional.of(editedAlice)),
+                new PersonChange(Optional.of(BENSON), Optional.empty()))));
+        assertThrows(DuplicatePersonException.class, () -> modelManager.applyChanges(List.of(
+                new PersonChange(Optional.empty(), Optional.of(editedAlice)))));
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPersonList());
+        assertTrue(modelManager.getPerson(ALICE.getUid()).get() == ALICE);
+    }
+
+    @Test
+    public void batch_operationThrows_noChangesMade() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+
+        assertThrows(IllegalStateException.class, () -> modelManager.batch(batchModel -> {
+            batchModel.deletePerson(ALICE);
+            throw new IllegalStateException();
+        }));
+        assertEquals(List.of(ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void batch_filterUpdated_changesAndFilterApplied() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Benson")));
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("11111111").build();
+
+        List<PersonChange> changes = modelManager.batch(batchModel -> {
+            batchModel.setPerson(ALICE, editedAlice);
+            batchModel.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        });
+
+        assertEquals(List.of(new PersonChange(Optional.of(ALICE), Optional.of(editedAlice))), changes);
+        assertEquals(List.of(editedAlice, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void addPerson_fromSecondThread_throwsIllegalStateException() throws Exception {
+        modelManager.addPerson(ALICE);
+
+        CompletableFuture<Void> change = CompletableFuture.runAsync(() -> modelManager.addPerson(BENSON));
+
+        Throwable failure = change.handle((result, throwable) -> throwable).get();
+        assertTrue(failure.getCause() instanceof IllegalStateException);
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPersonList());
+        // reads from other threads are still allowed
+        assertEquals(List.of(ALICE), CompletableFuture.supplyAsync(() -> modelManager.getSnapshot()).get()
+                .getPersonList());
+    }
+
+    @Test
+    public void getSnapshot_afterChange_newSnapshotPublished() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        ModelSnapshot snapshot = modelManager.getSnapshot();
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("11111111").build();
+
+        modelManager.batch(batchModel -> {
+            batchModel.setPerson(ALICE, editedAlice);
+            batchModel.deletePerson(BENSON);
+        });
+
+        ModelSnapshot updatedSnapshot = modelManager.getSnapshot();
+        assertEquals(snapshot.getVersion() + 1, updatedSnapshot.getVersion());
+        assertEquals(List.of(editedAlice), updatedSnapshot.getPersonList());
+        assertEquals(Optional.of(editedAlice), updatedSnapshot.getPerson(ALICE.getUid().getUid()));
+        assertEquals(Optional.empty(), updatedSnapshot.getPerson(BENSON.getUid().getUid()));
+
+        // the earlier snapshot is not changed
+        assertEquals(List.of(ALICE, BENSON), snapshot.getPersonList());
+        assertTrue(snapshot.getPerson(ALICE.getUid().getUid()).get() == ALICE);
+        assertEquals(2, snapshot.getScheduleEntries(LocalDateTime.of(2022, 12, 11, 0, 0),
+                LocalDateTime.of(2022, 12, 25, 0, 0)).size());
+    }
+
+    @Test
+    public void getSnapshot_severalChangesBeforeRead_sameAsAddressBook() throws Exception {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        ModelSnapshot firstSnapshot = modelManager.getSnapshot();
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("11111111").build();
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("22222222").build();
+
+        modelManager.setPerson(ALICE, editedAlice);
+        ModelSnapshot unreadSnapshot = modelManager.getSnapshot();
+        modelManager.setPerson(BENSON, editedBenson);
+        modelManager.deletePerson(editedAlice);
+        modelManager.addPerson(ALICE);
+
+        List<Person> expectedPersons = List.of(editedBenson, ALICE);
+        assertEquals(expectedPersons, modelManager.getAddressBook().getPersonList());
+        assertEquals(expectedPersons, CompletableFuture.supplyAsync(() -> modelManager.getSnapshot()).get()
+                .getPersonList());
+        assertEquals(List.of(editedAlice, BENSON), unreadSnapshot.getPersonList());
+        assertEquals(List.of(ALICE, BENSON), firstSnapshot.getPersonList());
+        assertEquals(firstSnapshot.getVersion() + 4, modelManager.getSnapshot().getVersion());
+    }
+
+    private static void setClock(LocalDateTime dateTime) {
+        ZoneId zone = ZoneId.systemDefault();
+        AppClock.setClock(Clock.fixed(dateTime.atZone(zone).toInstant(), zone));
+    }
 }
@@ -0,0 +1,110 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class ParallelFilteredListTest {
+
+    private static final int CHUNK_SIZE = 64;
+    private static final Predicate<Integer> IS_EVEN = i -> i % 2 == 0;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final ObservableList<Integer> source = FXCollections.observableArrayList(
+            IntStream.range(0, 10_000).boxed().collect(Collectors.toList()));
+    private final ParallelFilteredList<Integer> filteredList = new ParallelFilteredList<>(source, null, pool,
+            CHUNK_SIZE);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void constructor_nullPredicate_showsEverything() {
+        assertEquals(source, filteredList);
+    }
+
+    @Test
+    public void setPredicate_manyChunks_sameAsSerialFilterInOneChange() {
+        AtomicInteger changeCount = new AtomicInteger();
+        filteredList.addListener((ListChangeListener<Integer>) c -> changeCount.incrementAndGet());
+
+        Predicate<Integer> isMultipleOfThree = i -> i % 3 == 0;
+        filteredList.setPredicate(isMultipleOfThree);
+
+        assertEquals(filter(isMultipleOfThree), filteredList);
+        assertEquals(1, changeCount.get());
+        assertEquals(isMultipleOfThree, filteredList.getPredicate());
+    }
+
+    @Test
+    public void setPredicate_sameMatches_noChange() {
+        filteredList.setPredicate(IS_EVEN);
+        AtomicInteger changeCount = new AtomicInteger();
+        filteredList.addListener((ListChangeListener<Integer>) c -> changeCount.incrementAndGet());
+
+        filteredList.setPredicate(i -> i % 2 != 1);
+
+        assertEquals(0, changeCount.get());
+    }
+
+    @Test
+    public void sourceChanged_afterPredicateSet_keepsMatchingElements() {
+        filteredList.setPredicate(IS_EVEN);
+
+        source.add(0, 20_000);
+        assertEquals(filter(IS_EVEN), filteredList);
+        source.remove(1);
+        assertEquals(filter(IS_EVEN), filteredList);
+        source.set(5, 7);
+        assertEquals(filter(IS_EVEN), filteredList);
+        source.addAll(IntStream.range(30_000, 32_000).boxed().collect(Collectors.toList()));
+        assertEquals(filter(IS_EVEN), filteredList);
+
+        for (int i = 0; i < filteredList.size(); i++) {
+            int sourceIndex = filteredList.getSourceIndex(i);
+            assertEquals(filteredList.get(i), source.get(sourceIndex));
+            assertEquals(i, filteredList.getViewIndex(sourceIndex));
+        }
+        assertEquals(-1, filteredList.getViewIndex(source.indexOf(7)));
+    }
+
+    @Test
+    public void setPredicate_testedAhead_onlyElementsAddedSinceTested() {
+        AtomicInteger testCount = new AtomicInteger();
+        Predicate<Integer> countingIsEven = i -> {
+            testCount.incrementAndGet();
+            return IS_EVEN.test(i);
+        };
+        Predicate<Integer> testedAhead = filteredList.testAhead(List.copyOf(source), countingIsEven);
+        assertEquals(source.size(), testCount.get());
+        source.add(20_000);
+
+        testCount.set(0);
+        filteredList.setPredicate(testedAhead);
+
+        assertEquals(filter(IS_EVEN), filteredList);
+        assertEquals(1, testCount.get());
+        assertTrue(filteredList.isFilteredBy(countingIsEven));
+        assertFalse(filteredList.isFilteredBy(IS_EVEN));
+    }
+
+    private List<Integer> filter(Predicate<Integer> predicate) {
+        return source.stream().filter(predicate).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.VersionVector.Order;
+
+public class VersionVectorTest {
+
+    private final VersionVector homeOnce = new VersionVector(Map.of("home", 1L));
+    private final VersionVector homeTwice = new VersionVector(Map.of("home", 2L));
+    private final VersionVector homeOnceMobileOnce = new VersionVector(Map.of("home", 1L, "mobile", 1L));
+
+    @Test
+    public void increment() {
+        assertEquals(homeOnce, VersionVector.EMPTY.increment("home"));
+        assertEquals(homeTwice, homeOnce.increment("home"));
+        assertEquals(homeOnceMobileOnce, homeOnce.increment("mobile"));
+    }
+
+    @Test
+    public void merge() {
+        assertEquals(homeOnce, VersionVector.EMPTY.merge(homeOnce));
+        assertEquals(homeTwice, homeTwice.merge(homeOnce));
+        assertEquals(new VersionVector(Map.of("home", 2L, "mobile", 1L)), homeTwice.merge(homeOnceMobileOnce));
+    }
+
+    @Test
+    public void compareTo() {
+        assertEquals(Order.EQUAL, VersionVector.EMPTY.compareTo(VersionVector.EMPTY));
+        assertEquals(Order.EQUAL, homeOnce.compareTo(new VersionVector(Map.of("home", 1L))));
+        assertEquals(Order.BEFORE, VersionVector.EMPTY.compareTo(homeOnce));
+        assertEquals(Order.BEFORE, homeOnce.compareTo(homeOnceMobileOnce));
+        assertEquals(Order.AFTER, homeTwice.compareTo(homeOnce));
+        assertEquals(Order.CONCURRENT, homeTwice.compareTo(homeOnceMobileOnce));
+        assertEquals(Order.CONCURRENT, homeOnceMobileOnce.compareTo(homeTwice));
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(homeOnce.equals(homeOnce));
+        assertTrue(homeOnce.equals(new VersionVector(Map.of("home", 1L))));
+        assertFalse(homeOnce.equals(homeTwice));
+        assertFalse(homeOnce.equals(null));
+        assertFalse(homeOnce.equals(1));
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.model.completion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie trie = new PrefixTrie(2);
+
+    @Test
+    public void complete_prefixIgnoringCase_termsInAlphabeticalOrderUpToLimit() {
+        trie.add("Alice");
+        trie.add("alex");
+        trie.add("Alan");
+        trie.add("Bob");
+
+        assertEquals(List.of("Alan", "alex"), trie.complete("AL"));
+        assertEquals(List.of("Bob"), trie.complete("b"));
+        assertEquals(List.of(), trie.complete("c"));
+    }
+
+    @Test
+    public void complete_termsUsedOrAddedMoreOften_rankedFirst() {
+        trie.add("alan");
+        trie.add("alex");
+        trie.add("alice");
+        trie.add("alice");
+        assertEquals(List.of("alice", "alan"), trie.complete("al"));
+
+        trie.recordUse("alex");
+        assertEquals(List.of("alex", "alice"), trie.complete("al"));
+    }
+
+    @Test
+    public void remove_removedAsOftenAsAdded_termForgotten() {
+        trie.add("alice");
+        trie.add("alice");
+        trie.add("alicia");
+
+        trie.remove("alice");
+        assertTrue(trie.contains("alice"));
+        trie.remove("alice");
+        assertFalse(trie.contains("alice"));
+        assertEquals(List.of("alicia"), trie.complete("ali"));
+
+        trie.remove("alicia");
+        assertEquals(List.of(), trie.complete(""));
+    }
+}
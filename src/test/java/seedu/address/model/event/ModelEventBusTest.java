@@ -0,0 +1,93 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ModelEventBusTest {
+
+    private final ModelEventBus events = new ModelEventBus();
+
+    @Test
+    public void publish_onlySubscribersOfEventTypeCalled() {
+        List<PersonEvent> added = new ArrayList<>();
+        List<PersonEvent> removed = new ArrayList<>();
+        events.subscribe(PersonAddedEvent.class, added::add);
+        events.subscribe(PersonRemovedEvent.class, removed::add);
+
+        PersonAddedEvent event = new PersonAddedEvent(ALICE);
+        events.publish(event);
+
+        assertEquals(List.of(event), added);
+        assertTrue(removed.isEmpty());
+    }
+
+    @Test
+    public void unsubscribe_subscriberNoLongerCalled() {
+        List<PersonEvent> added = new ArrayList<>();
+        Consumer<PersonAddedEvent> subscriber = added::add;
+        events.subscribe(PersonAddedEvent.class, subscriber);
+        events.unsubscribe(PersonAddedEvent.class, subscriber);
+
+        events.publish(new PersonAddedEvent(ALICE));
+
+        assertTrue(added.isEmpty());
+    }
+
+    @Test
+    public void personFieldsChangedEvent_changedFieldsOnly() {
+        Person patient = new PersonBuilder().withUid("30").withCategory("P").build();
+        Person editedPatient = new PersonBuilder().withUid("30").withCategory("P").withPhone("99999999")
+                .withDatesSlots("2099-01-01,3").build();
+
+        PersonFieldsChangedEvent event = new PersonFieldsChangedEvent(patient, editedPatient);
+
+        assertEquals(EnumSet.of(PersonField.PHONE, PersonField.DATE_SLOTS), event.getChangedFields());
+        assertTrue(new PersonFieldsChangedEvent(patient, patient).getChangedFields().isEmpty());
+    }
+
+    @Test
+    public void personFieldsChangedEvent_differentCategory_patientAndNurseFieldsChanged() {
+        Person nurse = new PersonBuilder(ELLE).withUid(ALICE.getUid().toString()).build();
+
+        PersonFieldsChangedEvent event = new PersonFieldsChangedEvent(ALICE, nurse);
+
+        assertTrue(event.hasChanged(PersonField.CATEGORY));
+        assertTrue(event.hasChanged(PersonField.DATE_SLOTS));
+        assertTrue(event.hasChanged(PersonField.HOME_VISITS));
+    }
+
+    @Test
+    public void addressBook_editsPublishedAsTypedEvents() {
+        AddressBook addressBook = new AddressBook();
+        List<PersonEvent> published = new ArrayList<>();
+        addressBook.getEventBus().subscribe(PersonAddedEvent.class, published::add);
+        addressBook.getEventBus().subscribe(PersonFieldsChangedEvent.class, published::add);
+        addressBook.getEventBus().subscribe(PersonRemovedEvent.class, published::add);
+        Person patient = new PersonBuilder().withUid("30").withCategory("P").build();
+        Person editedPatient = new PersonBuilder().withUid("30").withCategory("P").withAddress("1 Changed Road")
+                .build();
+
+        addressBook.addPerson(patient);
+        addressBook.setPerson(patient, editedPatient);
+        addressBook.removePerson(editedPatient);
+
+        assertEquals(3, published.size());
+        assertEquals(patient, ((PersonAddedEvent) published.get(0)).getPerson());
+        assertEquals(EnumSet.of(PersonField.ADDRESS),
+                ((PersonFieldsChangedEvent) published.get(1)).getChangedFields());
+        assertEquals(editedPatient, ((PersonRemovedEvent) published.get(2)).getPerson());
+    }
+}
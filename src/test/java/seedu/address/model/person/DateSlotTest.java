@@ -1,7 +1,15 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
 import org.junit.jupiter.api.Test;
 
 public class DateSlotTest {
@@ -23,4 +31,43 @@ public class DateSlotTest {
         assertThrows(NullPointerException.class, () -> DateSlot.isValidDateSlot(null));
     }
 
+    @Test
+    public void indexOf() {
+        List<DateSlot> dateSlots = List.of(new DateSlot("2099-01-01,1"), new DateSlot("2099-01-01,3"),
+                new DateSlot("2099-01-02,2"));
+
+        assertEquals(0, DateSlot.indexOf(dateSlots, LocalDateTime.of(2099, 1, 1, 10, 0), Function.identity()));
+        assertEquals(2, DateSlot.indexOf(dateSlots, LocalDateTime.of(2099, 1, 2, 12, 0), Function.identity()));
+
+        // no date slot at that time -> negative
+        assertEquals(-2, DateSlot.indexOf(dateSlots, LocalDateTime.of(2099, 1, 1, 12, 0), Function.identity()));
+        assertEquals(-1, DateSlot.indexOf(List.of(), LocalDateTime.of(2099, 1, 1, 12, 0), Function.identity()));
+    }
+
+
+    @Test
+    public void withMarked_leavesOriginalUnchanged() {
+        DateSlot dateSlot = new DateSlot("2099-01-01,1");
+        DateSlot marked = dateSlot.withMarked(5L);
+
+        assertTrue(marked.getHasAssigned());
+        assertEquals(Long.valueOf(5L), marked.getNurseUidNo());
+        assertFalse(dateSlot.getHasAssigned());
+        assertEquals(Long.valueOf(-1L), dateSlot.getNurseUidNo());
+
+        DateSlot unmarked = marked.withUnmarked();
+        assertEquals(dateSlot, unmarked);
+        assertTrue(marked.getHasAssigned());
+    }
+
+    @Test
+    public void withDateTimeChecked() {
+        DateSlot dateSlot = new DateSlot("2099-01-01,1");
+        assertSame(dateSlot, dateSlot.withDateTimeChecked(LocalDateTime.of(2099, 1, 1, 9, 0)));
+
+        DateSlot visited = dateSlot.withDateTimeChecked(LocalDateTime.of(2099, 1, 1, 11, 0));
+        assertTrue(visited.getHasVisited());
+        assertTrue(visited.getIsSuccessVisit());
+        assertFalse(dateSlot.getHasVisited());
+    }
 }
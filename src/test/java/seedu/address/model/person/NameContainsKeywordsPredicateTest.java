@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
 
@@ -57,6 +58,19 @@ public class NameContainsKeywordsPredicateTest {
         assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
     }
 
+    @Test
+    public void test_turkishDefaultLocale_returnsTrue() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            NameContainsKeywordsPredicate predicate =
+                    new NameContainsKeywordsPredicate(Collections.singletonList("isaac"));
+            assertTrue(predicate.test(new PersonBuilder().withName("ISAAC Newton").build()));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     @Test
     public void test_nameDoesNotContainKeywords_returnsFalse() {
         // Zero keywords
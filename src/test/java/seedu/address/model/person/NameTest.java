@@ -37,4 +37,13 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void hasWord() {
+        Name name = new Name("Peter Jack");
+        assertTrue(name.hasWord("peter"));
+        assertTrue(name.hasWord("jack"));
+        assertFalse(name.hasWord("pete")); // not a full word
+        assertFalse(name.hasWord("peter jack")); // more than one word
+    }
 }
@@ -13,6 +13,12 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.PatientBuilder;
@@ -98,4 +104,60 @@ public class PatientTest {
                 + "Home Visits Date and Time: Home Visit date and slot has not been set yet.;";
         assertEquals(expectedToStringAlice, alice.toString());
     }
+
+    @Test
+    public void getDatesSlotsSummary_fewSlots_allListed() {
+        Patient patient = new PatientBuilder().withDatesSlots("2099-01-02,1", "2099-01-01,2").build();
+        assertEquals("Home Visits Date and Time: [ ] [ ] 01/01/2099 12:00, [ ] [ ] 02/01/2099 10:00;",
+                patient.getDatesSlotsSummary());
+        assertTrue(patient.getDatesSlotsSummary() == patient.getDatesSlotsInString());
+    }
+
+    @Test
+    public void getDatesSlotsSummary_manySlots_earliestListed() {
+        String[] datesSlots = new String[Person.SUMMARY_LIMIT + 5];
+        for (int i = 0; i < datesSlots.length; i++) {
+            datesSlots[i] = LocalDate.of(2099, 1, 1).plusDays(i) + ",1";
+        }
+        Patient patient = new PatientBuilder().withDatesSlots(datesSlots).build();
+
+        String summary = patient.getDatesSlotsSummary();
+        assertTrue(summary.startsWith("Home Visits Date and Time: [ ] [ ] 01/01/2099 10:00, "));
+        assertTrue(summary.endsWith("[ ] [ ] 10/01/2099 10:00 and 5 more;"));
+        assertTrue(patient.getDatesSlotsInString().contains("15/01/2099 10:00"));
+    }
+
+    @Test
+    public void withRecurringVisitsExpanded_noRecurrences_returnsSamePatient() {
+        Patient patient = new PatientBuilder().withDatesSlots("2099-01-01,1").build();
+        assertTrue(patient.withRecurringVisitsExpanded(LocalDateTime.of(2099, 1, 1, 0, 0),
+                LocalDate.of(2099, 2, 1)) == patient);
+    }
+
+    @Test
+    public void withRecurringVisitsExpanded_rollingHorizon_onlyStoresHorizon() {
+        Patient patient = new PatientBuilder().withDatesSlots("2099-01-09,2")
+                .withRecurrences("2099-01-01,2,weekly:TUE+FRI").build();
+
+        Patient expandedPatient = patient.withRecurringVisitsExpanded(LocalDateTime.of(2099, 1, 5, 0, 0),
+                LocalDate.of(2099, 1, 14));
+        assertEquals(List.of(LocalDateTime.of(2099, 1, 6, 12, 0), LocalDateTime.of(2099, 1, 9, 12, 0),
+                LocalDateTime.of(2099, 1, 13, 12, 0)), getSlotTimes(expandedPatient));
+        assertEquals(Optional.of(LocalDate.of(2099, 1, 14)),
+                expandedPatient.getRecurrences().get(0).getExpandedUntil());
+
+        // horizon has not moved -> returns same patient
+        assertTrue(expandedPatient.withRecurringVisitsExpanded(LocalDateTime.of(2099, 1, 5, 0, 0),
+                LocalDate.of(2099, 1, 14)) == expandedPatient);
+
+        // horizon moves -> passed unassigned occurrences are dropped and new ones added
+        Patient rolledPatient = expandedPatient.withRecurringVisitsExpanded(LocalDateTime.of(2099, 1, 10, 0, 0),
+                LocalDate.of(2099, 1, 20));
+        assertEquals(List.of(LocalDateTime.of(2099, 1, 13, 12, 0), LocalDateTime.of(2099, 1, 16, 12, 0),
+                LocalDateTime.of(2099, 1, 20, 12, 0)), getSlotTimes(rolledPatient));
+    }
+
+    private static List<LocalDateTime> getSlotTimes(Patient patient) {
+        return patient.getDatesSlots().stream().map(DateSlot::getDateTime).collect(Collectors.toList());
+    }
 }
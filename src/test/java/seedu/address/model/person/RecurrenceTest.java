@@ -0,0 +1,96 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class RecurrenceTest {
+
+    private static final String WEEKLY_RULE = "2099-01-01,2,weekly:TUE+FRI";
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Recurrence(null));
+    }
+
+    @Test
+    public void constructor_invalidRecurrence_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Recurrence(""));
+    }
+
+    @Test
+    public void isValidRecurrence() {
+        // null recurrence
+        assertThrows(NullPointerException.class, () -> Recurrence.isValidRecurrence(null));
+
+        // invalid recurrences
+        assertFalse(Recurrence.isValidRecurrence("2099-01-01,2")); // no pattern
+        assertFalse(Recurrence.isValidRecurrence("2099-01-01,5,every:2")); // invalid slot
+        assertFalse(Recurrence.isValidRecurrence("2099-13-01,2,every:2")); // invalid date
+        assertFalse(Recurrence.isValidRecurrence("2099-01-01,2,weekly:")); // no days
+        assertFalse(Recurrence.isValidRecurrence("2099-01-01,2,weekly:TUESDAY")); // invalid day
+        assertFalse(Recurrence.isValidRecurrence("2099-01-01,2,every:0")); // zero interval
+        assertFalse(Recurrence.isValidRecurrence("2099-01-01,2,every:2,count:0")); // zero count
+        assertFalse(Recurrence.isValidRecurrence("2099-01-01,2,every:2,until:2098-12-31")); // ends before start
+
+        // valid recurrences
+        assertTrue(Recurrence.isValidRecurrence(WEEKLY_RULE));
+        assertTrue(Recurrence.isValidRecurrence("2099-01-01,4,every:3"));
+        assertTrue(Recurrence.isValidRecurrence("2099-01-01,2,weekly:MON+WED+FRI,until:2099-03-01"));
+        assertTrue(Recurrence.isValidRecurrence("2099-01-01,1,every:7,count:10"));
+    }
+
+    @Test
+    public void getOccurrencesBetween_weekly_returnsMatchingDays() {
+        Recurrence recurrence = new Recurrence(WEEKLY_RULE);
+        assertEquals(List.of(LocalDate.of(2099, 1, 2), LocalDate.of(2099, 1, 6), LocalDate.of(2099, 1, 9),
+                LocalDate.of(2099, 1, 13)), recurrence.getOccurrencesBetween(LocalDate.of(2098, 12, 1),
+                LocalDate.of(2099, 1, 14)));
+    }
+
+    @Test
+    public void getOccurrencesBetween_count_stopsAfterCount() {
+        Recurrence recurrence = new Recurrence(WEEKLY_RULE + ",count:3");
+        assertEquals(List.of(LocalDate.of(2099, 1, 9)),
+                recurrence.getOccurrencesBetween(LocalDate.of(2099, 1, 7), LocalDate.of(2099, 2, 28)));
+        assertEquals(List.of(), recurrence.getOccurrencesBetween(LocalDate.of(2099, 1, 10),
+                LocalDate.of(2099, 2, 28)));
+    }
+
+    @Test
+    public void getOccurrencesBetween_interval_stopsAtEndDate() {
+        Recurrence recurrence = new Recurrence("2099-01-01,1,every:3,until:2099-01-10");
+        assertEquals(List.of(LocalDate.of(2099, 1, 4), LocalDate.of(2099, 1, 7), LocalDate.of(2099, 1, 10)),
+                recurrence.getOccurrencesBetween(LocalDate.of(2099, 1, 2), LocalDate.of(2099, 1, 31)));
+    }
+
+    @Test
+    public void occursAt() {
+        Recurrence recurrence = new Recurrence(WEEKLY_RULE);
+        assertTrue(recurrence.occursAt(LocalDateTime.of(2099, 1, 6, 12, 0)));
+        assertFalse(recurrence.occursAt(LocalDateTime.of(2099, 1, 6, 10, 0))); // other slot
+        assertFalse(recurrence.occursAt(LocalDateTime.of(2099, 1, 7, 12, 0))); // other day
+        assertFalse(recurrence.occursAt(LocalDateTime.of(2098, 12, 29, 12, 0))); // before start
+    }
+
+    @Test
+    public void getFirstUnexpandedDate() {
+        Recurrence recurrence = new Recurrence(WEEKLY_RULE);
+        LocalDate today = LocalDate.of(2098, 12, 1);
+        assertEquals(LocalDate.of(2099, 1, 1), recurrence.getFirstUnexpandedDate(today));
+
+        Recurrence expandedRecurrence = recurrence.withExpandedUntil(LocalDate.of(2099, 1, 14));
+        assertEquals(Optional.of(LocalDate.of(2099, 1, 14)), expandedRecurrence.getExpandedUntil());
+        assertEquals(LocalDate.of(2099, 1, 15), expandedRecurrence.getFirstUnexpandedDate(today));
+        assertEquals(LocalDate.of(2099, 2, 1), expandedRecurrence.getFirstUnexpandedDate(LocalDate.of(2099, 2, 1)));
+        assertEquals(recurrence, expandedRecurrence);
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.ScheduleEntry.VisitStatus;
+import seedu.address.testutil.PersonBuilder;
+
+public class ScheduleIndexTest {
+
+    private final ScheduleIndex index = new ScheduleIndex();
+
+    @Test
+    public void add_nurse_notIndexed() {
+        index.add(ELLE);
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void getEntriesOn_sameSlot_orderedByPatientUid() {
+        index.add(DANIEL);
+        index.add(CARL);
+
+        List<ScheduleEntry> entries = index.getEntriesOn(LocalDate.of(2022, 12, 10));
+        assertEquals(2, entries.size());
+        assertEquals(Long.valueOf(3), entries.get(0).getPatientUidNo());
+        assertEquals(Long.valueOf(8), entries.get(0).getNurseUidNo());
+        assertEquals(Long.valueOf(4), entries.get(1).getPatientUidNo());
+        assertTrue(!entries.get(1).hasNurse());
+    }
+
+    @Test
+    public void getEntriesBetween_range_chronologicalAndEndExclusive() {
+        index.reset(getTypicalPersons());
+
+        List<ScheduleEntry> entries = index.getEntriesBetween(LocalDateTime.of(2022, 12, 10, 12, 0),
+                LocalDateTime.of(2022, 12, 24, 12, 0));
+        for (int i = 1; i < entries.size(); i++) {
+            assertTrue(!entries.get(i).getDateTime().isBefore(entries.get(i - 1).getDateTime()));
+        }
+        assertEquals(LocalDateTime.of(2022, 12, 10, 12, 0), entries.get(0).getDateTime());
+        assertTrue(entries.stream().noneMatch(entry -> entry.getDateTime().equals(
+                LocalDateTime.of(2022, 12, 24, 12, 0))));
+    }
+
+    @Test
+    public void getNurseEntriesBetween_onlyThatNursesSlotsInRange() {
+        index.add(DANIEL);
+        index.add(CARL);
+        LocalDateTime start = LocalDateTime.of(2022, 12, 5, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2022, 12, 12, 0, 0);
+
+        List<ScheduleEntry> entries = index.getNurseEntriesBetween(8L, start, end);
+        assertTrue(entries.stream().anyMatch(entry -> entry.getDateTime().equals(
+                LocalDateTime.of(2022, 12, 10, 12, 0))));
+        assertTrue(entries.stream().allMatch(entry -> entry.getNurseUidNo().equals(8L)
+                && !entry.getDateTime().isBefore(start) && entry.getDateTime().isBefore(end)));
+        assertTrue(index.getNurseEntriesBetween(5L, start, end).isEmpty());
+
+        index.remove(CARL);
+        assertTrue(index.getNurseEntriesBetween(8L, start, end).isEmpty());
+    }
+
+    @Test
+    public void update_editedPatient_replacesEntries() {
+        index.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withDatesSlots("2099-01-01,3").build();
+        index.update(ALICE, editedAlice);
+
+        assertEquals(1, index.size());
+        List<ScheduleEntry> entries = index.getEntriesAt(LocalDateTime.of(2099, 1, 1, 14, 0));
+        assertEquals(1, entries.size());
+        assertEquals(VisitStatus.OPEN, entries.get(0).getStatus());
+        assertTrue(index.getEntriesOn(LocalDate.of(2022, 12, 24)).isEmpty());
+    }
+
+    @Test
+    public void remove_patient_removesAllEntries() {
+        index.reset(getTypicalPersons());
+        int sizeBefore = index.size();
+        index.remove(DANIEL);
+
+        assertEquals(sizeBefore - 3, index.size());
+        assertTrue(index.getEntriesOn(LocalDate.of(2022, 12, 19)).isEmpty());
+    }
+
+    @Test
+    public void getUpcomingEntries_skipsPastAndVisitedSlots() {
+        index.reset(getTypicalPersons());
+        index.add(new PersonBuilder().withUid("20").withCategory("P")
+                .withDatesSlots("2099-01-02,1", "2099-01-01,3", "2099-01-01,1").build());
+
+        List<ScheduleEntry> upcoming = index.getUpcomingEntries(LocalDateTime.of(2022, 1, 1, 0, 0), 2);
+        assertEquals(2, upcoming.size());
+        assertEquals(LocalDateTime.of(2099, 1, 1, 10, 0), upcoming.get(0).getDateTime());
+        assertEquals(LocalDateTime.of(2099, 1, 1, 14, 0), upcoming.get(1).getDateTime());
+    }
+}
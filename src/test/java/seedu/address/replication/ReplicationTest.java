@@ -0,0 +1,207 @@
+package seedu.address.replication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.replication.JsonPersonEvent.Type;
+import seedu.address.testutil.PersonBuilder;
+
+public class ReplicationTest {
+
+    private static final int TIMEOUT_MILLIS = 5000;
+    private static final int EVENT_CAPACITY = 3;
+
+    private final ModelManager leaderModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final ExecutorService followerModelThread = Executors.newSingleThreadExecutor();
+    private ReplicationLeader leader;
+    private ReplicationFollower follower;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        leader = new ReplicationLeader(leaderModel, 0, EVENT_CAPACITY);
+        leader.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (follower != null) {
+            follower.stop();
+        }
+        leader.stop();
+        followerModelThread.shutdownNow();
+    }
+
+    @Test
+    public void follower_leaderChanged_followerModelUpdated() throws Exception {
+        Model followerModel = new ModelManager();
+        follower = new ReplicationFollower(followerModel, followerModelThread, leader.getPort(),
+                Duration.ofMillis(50));
+        follower.start();
+        awaitFollower(followerModel);
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("11111111").build();
+        leaderModel.batch(batchModel -> {
+            batchModel.setPerson(ALICE, editedAlice);
+            batchModel.deletePerson(BENSON);
+            batchModel.addPerson(HOON);
+        });
+        awaitFollower(followerModel);
+
+        assertEquals(editedAlice.getPhone(), followerModel.getSnapshot().getPerson(1).get().getPhone());
+        assertFalse(followerModel.getSnapshot().getPerson(2).isPresent());
+    }
+
+    @Test
+    public void catchUp_leaderRestarted_resetSent() throws Exception {
+        long sequence;
+        try (SimulatedFollower follower = new SimulatedFollower(0, 0)) {
+            sequence = follower.readEvent().getSequence();
+        }
+        long previousEpoch = leader.getEpoch();
+        leader.stop();
+        leader = new ReplicationLeader(leaderModel, 0, EVENT_CAPACITY);
+        leader.start();
+        leaderModel.addPerson(HOON);
+
+        // the sequence asked for is one the new leader also has, but it numbers different events
+        try (SimulatedFollower follower = new SimulatedFollower(previousEpoch, sequence)) {
+            JsonReplicationEvent reset = follower.readEvent();
+            assertTrue(reset.isReset());
+            assertEquals(leader.getEpoch(), reset.getEpoch());
+            assertEquals(leaderModel.getAddressBook().getPersonList().size(), reset.getEvents().size());
+        }
+    }
+
+    @Test
+    public void catchUp_afterDisconnect_onlyMissedEventsSent() throws Exception {
+        JsonReplicationEvent reset;
+        try (SimulatedFollower firstConnection = new SimulatedFollower(0, 0)) {
+            reset = firstConnection.readEvent();
+            assertTrue(reset.isReset());
+            assertEquals(leaderModel.getAddressBook().getPersonList().size(), reset.getEvents().size());
+
+            leaderModel.addPerson(HOON);
+            JsonReplicationEvent addition = firstConnection.readEvent();
+            assertEquals(reset.getSequence() + 1, addition.getSequence());
+        }
+
+        // changed while the follower is disconnected
+        leaderModel.deletePerson(HOON);
+        leaderModel.addPerson(IDA);
+
+        try (SimulatedFollower secondConnection = new SimulatedFollower(reset.getEpoch(), reset.getSequence() + 1)) {
+            JsonReplicationEvent deletion = secondConnection.readEvent();
+            assertFalse(deletion.isReset());
+            assertEquals(reset.getSequence() + 2, deletion.getSequence());
+            assertEquals(Type.DELETE, deletion.getEvents().get(0).getType());
+            assertEquals((long) HOON.getUid().getUid(), deletion.getEvents().get(0).getUid());
+
+            JsonReplicationEvent addition = secondConnection.readEvent();
+            assertEquals(reset.getSequence() + 3, addition.getSequence());
+            assertEquals(Type.ADD, addition.getEvents().get(0).getType());
+            assertEquals((long) IDA.getUid().getUid(), addition.getEvents().get(0).getUid());
+        }
+    }
+
+    @Test
+    public void recordChange_oneEdit_onlyEditedPersonSent() throws Exception {
+        try (SimulatedFollower follower = new SimulatedFollower(0, 0)) {
+            JsonReplicationEvent reset = follower.readEvent();
+
+            leaderModel.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("11111111").build());
+            JsonReplicationEvent edit = follower.readEvent();
+            assertEquals(reset.getSequence() + 1, edit.getSequence());
+            assertEquals(1, edit.getEvents().size());
+            assertEquals(Type.SET, edit.getEvents().get(0).getType());
+            assertEquals((long) ALICE.getUid().getUid(), edit.getEvents().get(0).getUid());
+
+            leaderModel.setAddressBook(new AddressBook());
+            JsonReplicationEvent clear = follower.readEvent();
+            assertTrue(clear.isReset());
+            assertEquals(reset.getSequence() + 2, clear.getSequence());
+            assertTrue(clear.getEvents().isEmpty());
+        }
+    }
+
+    @Test
+    public void catchUp_missedEventsNoLongerKept_resetSent() throws Exception {
+        long sequence = leader.getLatestSequence();
+        for (int i = 0; i < EVENT_CAPACITY; i++) {
+            leaderModel.addPerson(HOON);
+            leaderModel.deletePerson(HOON);
+        }
+
+        try (SimulatedFollower follower = new SimulatedFollower(0, sequence)) {
+            JsonReplicationEvent reset = follower.readEvent();
+            assertTrue(reset.isReset());
+            assertEquals(leader.getLatestSequence(), reset.getSequence());
+        }
+    }
+
+    /**
+     * Waits until {@code followerModel} has applied the leader's latest event, and checks that it has the same
+     * persons as the leader's model.
+     */
+    private void awaitFollower(Model followerModel) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (follower.getEpoch() != leader.getEpoch() || follower.getSequence() != leader.getLatestSequence()) {
+            assertTrue(System.currentTimeMillis() < deadline, "The follower did not catch up");
+            Thread.sleep(10);
+        }
+        assertEquals(leaderModel.getAddressBook().getPersonList(), followerModel.getSnapshot().getPersonList());
+    }
+
+    /**
+     * A follower that connects to the leader and reads the events it sends, without applying them.
+     */
+    private class SimulatedFollower implements AutoCloseable {
+        private final Socket socket;
+        private final BufferedReader reader;
+
+        SimulatedFollower(long epoch, long sequence) throws IOException {
+            socket = new Socket(InetAddress.getLoopbackAddress(), leader.getPort());
+            socket.setSoTimeout(TIMEOUT_MILLIS);
+            Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+            writer.write(JsonUtil.toJsonLine(new JsonCatchUpRequest(epoch, sequence)) + "\n");
+            writer.flush();
+            reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        JsonReplicationEvent readEvent() throws IOException {
+            return JsonUtil.fromJsonString(reader.readLine(), JsonReplicationEvent.class);
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
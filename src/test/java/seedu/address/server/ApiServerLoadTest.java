@@ -0,0 +1,134 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.CATEGORY_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.GENDER_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Uid;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Drives an {@link ApiServer} with parallel clients that mix reads with commands, and checks that every read saw
+ * a consistent snapshot.
+ * The load can be raised with the {@code apiLoadTest.clients} and {@code apiLoadTest.requestsPerClient} system
+ * properties; the throughput reached is logged.
+ */
+public class ApiServerLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("apiLoadTest.clients", 8);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("apiLoadTest.requestsPerClient", 50);
+    /** One request in this many is a command that adds a person. */
+    private static final int WRITE_INTERVAL = 10;
+
+    private static final String ADD_COMMAND = AddCommand.COMMAND_WORD + CATEGORY_DESC_AMY + NAME_DESC_AMY
+            + GENDER_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServerLoadTest.class);
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void parallelClients_readsAndWrites_consistentSnapshotsServed() throws Exception {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        // the persons added by the clients are numbered after the typical persons
+        new Uid(100L);
+        int initialPersons = model.getAddressBook().getPersonList().size();
+        long initialVersion = model.getSnapshot().getVersion();
+        ApiServer server = new ApiServer(new LogicManager(model, storage), 0, CLIENTS);
+        server.start();
+        HttpClient client = HttpClient.newHttpClient();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+
+        try {
+            long start = System.nanoTime();
+            List<Future<Integer>> writes = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                writes.add(clients.submit(() -> runClient(client, server, initialPersons, initialVersion)));
+            }
+            int totalWrites = 0;
+            for (Future<Integer> clientWrites : writes) {
+                totalWrites += clientWrites.get();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            logger.info(String.format("%d clients sent %d requests (%d commands) in %.2fs: %.0f requests/s",
+                    CLIENTS, CLIENTS * REQUESTS_PER_CLIENT, totalWrites, seconds,
+                    CLIENTS * REQUESTS_PER_CLIENT / seconds));
+
+            assertEquals(initialPersons + totalWrites, model.getAddressBook().getPersonList().size());
+            assertEquals(initialVersion + totalWrites, model.getSnapshot().getVersion());
+        } finally {
+            clients.shutdownNow();
+            server.stop();
+        }
+    }
+
+    /**
+     * Sends {@link #REQUESTS_PER_CLIENT} requests, and checks that each list of persons has exactly the persons
+     * added by the commands before the snapshot it was read from.
+     *
+     * @return the number of commands sent.
+     */
+    private static int runClient(HttpClient client, ApiServer server, int initialPersons, long initialVersion)
+            throws Exception {
+        int writes = 0;
+        long lastVersion = initialVersion;
+        for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+            HttpRequest request;
+            boolean isWrite = i % WRITE_INTERVAL == WRITE_INTERVAL - 1;
+            if (isWrite) {
+                request = HttpRequest.newBuilder(server.getBaseUri().resolve(ApiServer.COMMANDS_PATH))
+                        .POST(HttpRequest.BodyPublishers.ofString(ADD_COMMAND)).build();
+                writes++;
+            } else if (i % 2 == 0) {
+                request = HttpRequest.newBuilder(server.getBaseUri().resolve(ApiServer.PERSONS_PATH)).build();
+            } else {
+                request = HttpRequest.newBuilder(server.getBaseUri()
+                        .resolve(ApiServer.SCHEDULE_PATH + "?from=2022-01-01&to=2023-12-31")).build();
+            }
+
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, response.statusCode(), response.body());
+            long version = Long.parseLong(response.headers().firstValue(ApiServer.SNAPSHOT_VERSION_HEADER).get());
+            assertTrue(version >= lastVersion, "Snapshot versions went backwards");
+            lastVersion = version;
+            if (!isWrite && i % 2 == 0) {
+                // every command adds one person and publishes one snapshot
+                assertEquals(initialPersons + (version - initialVersion),
+                        JsonUtil.fromJsonString(response.body(), List.class).size());
+            }
+        }
+        return writes;
+    }
+}
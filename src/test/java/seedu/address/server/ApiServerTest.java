@@ -0,0 +1,139 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        server = new ApiServer(new LogicManager(model, storage), 0, 2);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void getPersons_noFilter_allPersonsReturned() throws Exception {
+        HttpResponse<String> response = get("/persons");
+
+        assertEquals(200, response.statusCode());
+        assertEquals(model.getAddressBook().getPersonList().size(), JsonUtil.fromJsonString(response.body(),
+                List.class).size());
+        assertEquals(String.valueOf(model.getSnapshot().getVersion()),
+                response.headers().firstValue(ApiServer.SNAPSHOT_VERSION_HEADER).get());
+    }
+
+    @Test
+    public void getPersons_categoryAndName_matchingPersonsReturned() throws Exception {
+        HttpResponse<String> response = get("/persons?category=nurse&name=Elle%20Wang");
+
+        List<?> persons = JsonUtil.fromJsonString(response.body(), List.class);
+        assertEquals(2, persons.size());
+        assertEquals("Elle Meyer", ((Map<?, ?>) persons.get(0)).get("name"));
+        assertEquals("Lily Wang", ((Map<?, ?>) persons.get(1)).get("name"));
+
+        assertEquals(400, get("/persons?category=X").statusCode());
+    }
+
+    @Test
+    public void getPerson_byUid() throws Exception {
+        HttpResponse<String> response = get("/persons/5");
+        assertEquals(200, response.statusCode());
+        assertEquals("Elle Meyer", JsonUtil.fromJsonString(response.body(), Map.class).get("name"));
+
+        assertEquals(404, get("/persons/99").statusCode());
+        assertEquals(400, get("/persons/abc").statusCode());
+        assertEquals(404, get("/persons/5/visits").statusCode());
+    }
+
+    @Test
+    public void getSchedule_dateRange_visitsInRangeReturned() throws Exception {
+        HttpResponse<String> response = get("/schedule?from=2022-12-24&to=2022-12-24");
+
+        assertEquals(200, response.statusCode());
+        List<?> entries = JsonUtil.fromJsonString(response.body(), List.class);
+        assertEquals(1, entries.size());
+        Map<?, ?> entry = (Map<?, ?>) entries.get(0);
+        assertEquals("2022-12-24T12:00", entry.get("dateTime"));
+        assertEquals(1, entry.get("patientUid"));
+
+        assertEquals(400, get("/schedule?from=2022-12-24").statusCode());
+        assertEquals(400, get("/schedule?from=2022-12-24&to=tomorrow").statusCode());
+    }
+
+    @Test
+    public void postCommand_validCommand_changesVisibleToLaterReads() throws Exception {
+        long version = model.getSnapshot().getVersion();
+
+        HttpResponse<String> response = post("/commands", "delete id/5");
+
+        assertEquals(200, response.statusCode());
+        assertEquals(true, JsonUtil.fromJsonString(response.body(), Map.class).get("success"));
+        assertTrue(Long.parseLong(response.headers().firstValue(ApiServer.SNAPSHOT_VERSION_HEADER).get()) > version);
+        assertEquals(404, get("/persons/5").statusCode());
+    }
+
+    @Test
+    public void postCommand_invalidCommand_failureReturned() throws Exception {
+        HttpResponse<String> response = post("/commands", "delete id/99");
+
+        assertEquals(400, response.statusCode());
+        assertEquals(false, JsonUtil.fromJsonString(response.body(), Map.class).get("success"));
+        assertEquals(400, post("/commands", " ").statusCode());
+    }
+
+    @Test
+    public void wrongMethod_methodNotAllowed() throws Exception {
+        assertEquals(405, post("/persons", "").statusCode());
+        assertEquals(405, get("/commands").statusCode());
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).POST(HttpRequest.BodyPublishers.ofString(body)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return server.getBaseUri().resolve(path);
+    }
+}
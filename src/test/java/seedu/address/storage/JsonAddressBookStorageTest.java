@@ -4,20 +4,31 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.PersonChange;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +97,104 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_eachSave_versionIncreased() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        // a file saved before versions were added is version 0
+        Files.writeString(filePath, "{ \"persons\" : [ ] }");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.readAddressBook();
+
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        assertEquals(1, readVersion(filePath));
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        assertEquals(2, readVersion(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_changedByAnotherInstance_changesMerged() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        JsonAddressBookStorage ourStorage = new JsonAddressBookStorage(filePath);
+        JsonAddressBookStorage theirStorage = new JsonAddressBookStorage(filePath);
+        AddressBook ours = new AddressBook(ourStorage.readAddressBook().get());
+        AddressBook theirs = new AddressBook(theirStorage.readAddressBook().get());
+
+        theirs.addPerson(HOON);
+        theirs.removePerson(BENSON);
+        theirStorage.saveAddressBook(theirs);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("11111111").build();
+        ours.setPerson(ALICE, editedAlice);
+        List<PersonChange> theirChanges = ourStorage.saveAddressBook(ours);
+
+        assertEquals(List.of(new PersonChange(Optional.of(BENSON), Optional.empty()),
+                new PersonChange(Optional.empty(), Optional.of(HOON))), theirChanges);
+        ours.applyChanges(theirChanges);
+        assertEquals(ours, new AddressBook(ourStorage.readAddressBook().get()));
+        assertEquals(3, readVersion(filePath));
+
+        // their next save keeps our change to Alice
+        theirs.addPerson(IDA);
+        assertEquals(List.of(new PersonChange(Optional.of(ALICE), Optional.of(editedAlice))),
+                theirStorage.saveAddressBook(theirs));
+    }
+
+    @Test
+    public void saveAddressBook_samePersonChangedByAnotherInstance_notSavedAndReported() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        JsonAddressBookStorage ourStorage = new JsonAddressBookStorage(filePath);
+        JsonAddressBookStorage theirStorage = new JsonAddressBookStorage(filePath);
+        AddressBook ours = new AddressBook(ourStorage.readAddressBook().get());
+        AddressBook theirs = new AddressBook(theirStorage.readAddressBook().get());
+
+        Person theirAlice = new PersonBuilder(ALICE).withPhone("22222222").build();
+        theirs.setPerson(ALICE, theirAlice);
+        theirs.removePerson(BENSON);
+        theirStorage.saveAddressBook(theirs);
+        ours.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("11111111").build());
+        ours.addPerson(HOON);
+
+        List<PersonChange> changesToTheirs;
+        try {
+            ourStorage.saveAddressBook(ours);
+            throw new AssertionError("The save should be refused, as both instances changed Alice.");
+        } catch (ConflictingChangesException cce) {
+            assertEquals(String.format(JsonAddressBookStorage.MESSAGE_CONFLICTING_CHANGES, filePath,
+                    ALICE.getUid()), cce.getMessage());
+            changesToTheirs = cce.getTheirChanges();
+        }
+
+        // the file is left as they saved it, and the changes make ours match it
+        assertEquals(2, readVersion(filePath));
+        assertEquals(theirs, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        ours.applyChanges(changesToTheirs);
+        assertEquals(theirs, ours);
+
+        // the next save is merged with the file as they saved it, so our new change to Alice is not a conflict
+        ours.setPerson(theirAlice, new PersonBuilder(ALICE).withPhone("33333333").build());
+        assertEquals(List.of(), ourStorage.saveAddressBook(ours));
+        assertEquals(ours, new AddressBook(theirStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_savedTwice_onlyDataAndLockFilesLeft() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        jsonAddressBookStorage.saveAddressBook(new AddressBook());
+
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(Set.of(filePath, testFolder.resolve("TempAddressBook.json.lock")),
+                    files.collect(Collectors.toSet()));
+        }
+        assertEquals(new AddressBook(), new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    private static long readVersion(Path filePath) throws Exception {
+        return JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().getVersion();
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -3,6 +3,7 @@ package seedu.address.testutil;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.model.person.Address;
@@ -13,6 +14,7 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Patient;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.Recurrence;
 import seedu.address.model.person.Uid;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.util.SampleDataUtil;
@@ -38,6 +40,7 @@ public class PatientBuilder {
     private Email email;
     private Address address;
     private List<DateSlot> dateSlots;
+    private List<Recurrence> recurrences;
     private Set<Tag> tags;
 
     /**
@@ -52,6 +55,7 @@ public class PatientBuilder {
         email = new Email(DEFAULT_EMAIL);
         address = new Address(DEFAULT_ADDRESS);
         dateSlots = new ArrayList<>();
+        recurrences = new ArrayList<>();
         tags = new HashSet<>();
     }
 
@@ -67,6 +71,7 @@ public class PatientBuilder {
         email = patientToCopy.getEmail();
         address = patientToCopy.getAddress();
         dateSlots = new ArrayList<>(((Patient) patientToCopy).getDatesSlots());
+        recurrences = new ArrayList<>(((Patient) patientToCopy).getRecurrences());
         tags = new HashSet<>(patientToCopy.getTags());
     }
 
@@ -136,10 +141,23 @@ public class PatientBuilder {
         return this;
     }
 
+    /**
+     * Parses the {@code recurrences} into a {@code List<Recurrence>} and
+     * set it to the {@code Patient} that we are building.
+     */
+    public PatientBuilder withRecurrences(String... recurrences) {
+        this.recurrences = new ArrayList<>();
+        for (String recurrence : recurrences) {
+            this.recurrences.add(new Recurrence(recurrence));
+        }
+        return this;
+    }
+
     /**
      * Build a patient.
      */
     public Patient build() {
-        return new Patient(uid, name, gender, phone, email, address, tags, dateSlots);
+        return new Patient(uid, name, gender, phone, email, address, tags, dateSlots, Optional.empty(),
+                Optional.empty(), recurrences);
     }
 }